@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+
+/**
+ * Frequency grids shared by the benchmarks, so that all of them evaluate the
+ * filters over the same kind of display or analysis grid.
+ */
+public final class BenchmarkGrids {
+
+    // The lower end of the audible range, in Hertz.
+    public static final double MINIMUM_FREQUENCY_HZ = 20.0d;
+
+    // The upper end of the audible range, in Hertz.
+    public static final double MAXIMUM_FREQUENCY_HZ = 20000.0d;
+
+    // The frequency used for single-bin evaluation, in Hertz.
+    public static final double SINGLE_BIN_FREQUENCY_HZ = 1000.0d;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private BenchmarkGrids() {}
+
+    /**
+     * Returns a logarithmically spaced grid spanning the audible range.
+     *
+     * @param numberOfBins
+     *            The number of frequency bins in the grid
+     * @return The frequencies of the grid, in Hertz
+     */
+    public static double[] getLogarithmicGrid( final int numberOfBins ) {
+        return getLogarithmicFrequencyGrid( numberOfBins ).getFrequencies();
+    }
+
+    /**
+     * Returns the shared, logarithmically spaced grid spanning the audible
+     * range.
+     *
+     * @param numberOfBins
+     *            The number of frequency bins in the grid
+     * @return The interned frequency grid
+     */
+    public static FrequencyGrid getLogarithmicFrequencyGrid( final int numberOfBins ) {
+        return FrequencyGrid.logarithmic( MINIMUM_FREQUENCY_HZ, MAXIMUM_FREQUENCY_HZ, numberOfBins );
+    }
+}
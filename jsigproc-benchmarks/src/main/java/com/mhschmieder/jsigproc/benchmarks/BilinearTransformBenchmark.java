@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.DspConstants;
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the general bilinear transform for one to four biquad sections,
+ * using the sections of an eighth order Butterworth low pass prototype.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BilinearTransformBenchmark {
+
+    @Param({ "1", "2", "3", "4" })
+    public int           biquadSectionCount;
+
+    private Complex      _z;
+    private Complex      _zSquared;
+    private double       _w;
+    private double[][][] _analogCoefficients;
+
+    @Setup
+    public void setup() {
+        final double samplingFrequencyHz = DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ;
+        _z = DigitalFilterUtilities
+                .convertFrequencyToZDomain( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ,
+                                            samplingFrequencyHz );
+        _zSquared = _z.multiply( _z );
+        _w = DigitalFilterUtilities.getPoleAngleRadians( 1000.0d, samplingFrequencyHz );
+
+        // Numerator 1, denominator s^2 + 2 cos(theta) s + 1, per section.
+        _analogCoefficients = new double[ 4 ][][];
+        for ( int sectionIndex = 0; sectionIndex < 4; sectionIndex++ ) {
+            final double theta = ( FastMath.PI * ( ( 2 * sectionIndex ) + 1 ) ) / 16.0d;
+            _analogCoefficients[ sectionIndex ] = new double[][] {
+                                                                   { 0.0d, 0.0d, 1.0d },
+                                                                   { 1.0d,
+                                                                     2.0d * FastMath.cos( theta ),
+                                                                     1.0d } };
+        }
+    }
+
+    @Benchmark
+    public Complex bilinearTransform() {
+        return DigitalFilterUtilities.getBilinearTransform( _z,
+                                                            _zSquared,
+                                                            _w,
+                                                            biquadSectionCount,
+                                                            _analogCoefficients );
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
+import com.mhschmieder.jsigproc.filter.LinkwitzRileyCrossover;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a 4-way Linkwitz-Riley crossover, comparing the single pass over
+ * all bands with shared poles against evaluating and processing each band's
+ * cascade on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CrossoverBenchmark {
+
+    @Param({ "2", "4" })
+    public int                                  order;
+
+    @Param({ "1024" })
+    public int                                  numberOfBins;
+
+    @Param({ "512" })
+    public int                                  blockSize;
+
+    private LinkwitzRileyCrossover              _crossover;
+    private ZDomainTable                        _zDomainTable;
+    private double[][]                          _hReal;
+    private double[][]                          _hImaginary;
+    private LinkwitzRileyCrossover.BandSplitter _bandSplitter;
+    private BiquadCascade[]                     _bandCascades;
+    private float[]                             _in;
+    private float[][]                           _bandOut;
+
+    @Setup
+    public void setup() {
+        _crossover = new LinkwitzRileyCrossover( order, new double[] { 200.0d, 1500.0d, 6000.0d } );
+
+        final double[] frequencies = BenchmarkGrids.getLogarithmicGrid( numberOfBins );
+        _zDomainTable = ZDomainTableCache.getZDomainTable( frequencies,
+                                                          _crossover.getSamplingFrequencyHz() );
+
+        final int numberOfBands = _crossover.getNumberOfBands();
+        _hReal = new double[ numberOfBands ][ numberOfBins ];
+        _hImaginary = new double[ numberOfBands ][ numberOfBins ];
+
+        _bandSplitter = _crossover.createBandSplitter();
+        _bandCascades = new BiquadCascade[ numberOfBands ];
+        for ( int bandIndex = 0; bandIndex < numberOfBands; bandIndex++ ) {
+            _bandCascades[ bandIndex ] = new BiquadCascade( _crossover
+                    .getBandCoefficients( bandIndex ) );
+        }
+
+        // Low-level noise keeps the filters out of the denormal range.
+        final Random random = new Random( 1L );
+        _in = new float[ blockSize ];
+        for ( int sampleIndex = 0; sampleIndex < blockSize; sampleIndex++ ) {
+            _in[ sampleIndex ] = ( float ) ( 0.1d * random.nextGaussian() );
+        }
+        _bandOut = new float[ numberOfBands ][ blockSize ];
+    }
+
+    @Benchmark
+    public double[][] responseSharedPoles() {
+        for ( int bandIndex = 0; bandIndex < _hReal.length; bandIndex++ ) {
+            Arrays.fill( _hReal[ bandIndex ], 1.0d );
+            Arrays.fill( _hImaginary[ bandIndex ], 0.0d );
+        }
+        _crossover.multiplyH( _zDomainTable, 0, numberOfBins, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[][] responsePerBand() {
+        for ( int bandIndex = 0; bandIndex < _hReal.length; bandIndex++ ) {
+            Arrays.fill( _hReal[ bandIndex ], 1.0d );
+            Arrays.fill( _hImaginary[ bandIndex ], 0.0d );
+            final BiquadCoefficients bandCoefficients = _crossover.getBandCoefficients( bandIndex );
+            bandCoefficients.multiplyH( _zDomainTable,
+                                        0,
+                                        numberOfBins,
+                                        _hReal[ bandIndex ],
+                                        _hImaginary[ bandIndex ] );
+        }
+        return _hReal;
+    }
+
+    @Benchmark
+    public float[][] processBandSplitter() {
+        _bandSplitter.process( _in, _bandOut, 0, blockSize );
+        return _bandOut;
+    }
+
+    @Benchmark
+    public float[][] processPerBand() {
+        for ( int bandIndex = 0; bandIndex < _bandCascades.length; bandIndex++ ) {
+            _bandCascades[ bandIndex ].process( _in, _bandOut[ bandIndex ], 0, blockSize );
+        }
+        return _bandOut;
+    }
+}
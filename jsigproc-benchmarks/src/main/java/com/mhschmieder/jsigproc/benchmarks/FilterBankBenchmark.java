@@ -0,0 +1,225 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import com.mhschmieder.jsigproc.filter.GeneralAllPassFilters;
+import com.mhschmieder.jsigproc.filter.GeneralParametricFilters;
+import com.mhschmieder.jsigproc.filter.ParametricFilters;
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the General Parametric and General All Pass Filter banks, with a
+ * varying number of active (non-bypassed) filters per bank.
+ * <p>
+ * The All Pass bank is smaller than the Parametric bank, so its number of
+ * active filters is capped at its own bank size.
+ * <p>
+ * The batch benchmarks run with and without response memoization. When the
+ * banks memoize their last response per grid, the plain batch benchmarks
+ * measure redrawing an idle bank, whereas the retuned ones modify one band
+ * per invocation so that only that band is re-evaluated. The phase
+ * benchmarks compare the All Pass bank's phase-only evaluation, which is
+ * never memoized, with a retuned complex evaluation followed by arctangents.
+ * The third-octave benchmarks retune one band of a memoized 31-band graphic
+ * equalizer, whose composite is updated by dividing out the band's old
+ * response rather than by multiplying all of the bands together again.
+ * The reset benchmarks compare resetting a bank from its shared center
+ * frequency grid with resetting it from the legacy text table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBankBenchmark {
+
+    @Param({ "1", "3", "10" })
+    public int                       numberOfActiveFilters;
+
+    @Param({ "512" })
+    public int                       numberOfBins;
+
+    @Param({ "false", "true" })
+    public boolean                   responseMemoized;
+
+    private GeneralParametricFilters _generalParametricFilters;
+    private GeneralAllPassFilters    _generalAllPassFilters;
+    private ParametricFilters        _thirdOctaveParametricFilters;
+    private double[]                 _frequencies;
+    private double[]                 _hReal;
+    private double[]                 _hImaginary;
+    private double[]                 _phaseRadians;
+    private boolean                  _retuned;
+
+    @Setup
+    public void setup() {
+        _generalParametricFilters = new GeneralParametricFilters( false );
+        _generalParametricFilters.setResponseMemoized( responseMemoized );
+        _generalParametricFilters.setAllParametricFiltersBypassed( true );
+        final int numberOfParametricFilters = FastMath
+                .min( numberOfActiveFilters, GeneralParametricFilters.NUMBER_OF_FILTERS );
+        for ( int filterIndex = 0; filterIndex < numberOfParametricFilters; filterIndex++ ) {
+            _generalParametricFilters.setParametricFilterBypassed( filterIndex, false );
+            _generalParametricFilters.setC( filterIndex, ( filterIndex % 2 == 0 ) ? 3.0d : -3.0d, true );
+        }
+
+        _generalAllPassFilters = new GeneralAllPassFilters();
+        _generalAllPassFilters.setResponseMemoized( responseMemoized );
+        _generalAllPassFilters.setAllPassFiltersBypassed( false );
+        _generalAllPassFilters.setAllAllPassFiltersBypassed( true );
+        final int numberOfAllPassFilters = FastMath
+                .min( numberOfActiveFilters, GeneralAllPassFilters.NUMBER_OF_FILTERS );
+        for ( int filterIndex = 0; filterIndex < numberOfAllPassFilters; filterIndex++ ) {
+            _generalAllPassFilters.setAllPassFilterBypassed( filterIndex, false );
+        }
+
+        final FrequencyGrid thirdOctaveGrid = FrequencyGrid.fractionalOctave( 3, 20.0d, 20000.0d );
+        _thirdOctaveParametricFilters = ParametricFilters
+                .withCenterFrequencyGrid( thirdOctaveGrid.getNumberOfBins(), thirdOctaveGrid );
+        _thirdOctaveParametricFilters.setResponseMemoized( true );
+        for ( int filterIndex = 0; filterIndex < thirdOctaveGrid.getNumberOfBins(); filterIndex++ ) {
+            _thirdOctaveParametricFilters
+                    .setC( filterIndex, ( filterIndex % 2 == 0 ) ? 3.0d : -3.0d, true );
+        }
+
+        _frequencies = BenchmarkGrids.getLogarithmicGrid( numberOfBins );
+        _hReal = new double[ numberOfBins ];
+        _hImaginary = new double[ numberOfBins ];
+        _phaseRadians = new double[ numberOfBins ];
+    }
+
+    @Benchmark
+    public Complex parametricFiltersSingleBin() {
+        return _generalParametricFilters.getH( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ );
+    }
+
+    @Benchmark
+    public void parametricFiltersGridScalar( final Blackhole blackhole ) {
+        for ( final double f : _frequencies ) {
+            blackhole.consume( _generalParametricFilters.getH( f ) );
+        }
+    }
+
+    @Benchmark
+    public double[] parametricFiltersGridBatch() {
+        _generalParametricFilters.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[] parametricFiltersGridBatchRetuned() {
+        _retuned = !_retuned;
+        _generalParametricFilters.setC( 0, _retuned ? 4.0d : 3.0d, true );
+        _generalParametricFilters.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[] thirdOctaveFiltersGridBatchRetuned() {
+        _retuned = !_retuned;
+        _thirdOctaveParametricFilters.setC( 15, _retuned ? 4.0d : 3.0d, true );
+        _thirdOctaveParametricFilters.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public GeneralParametricFilters parametricFiltersReset() {
+        _generalParametricFilters.reset();
+        return _generalParametricFilters;
+    }
+
+    @Benchmark
+    public GeneralParametricFilters parametricFiltersResetFromText() {
+        _generalParametricFilters.setDefaults( GeneralParametricFilters.NUMBER_OF_FILTERS,
+                                               GeneralParametricFilters.CENTER_FREQUENCIES );
+        return _generalParametricFilters;
+    }
+
+    @Benchmark
+    public Complex allPassFiltersSingleBin() {
+        return _generalAllPassFilters.getH( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ );
+    }
+
+    @Benchmark
+    public void allPassFiltersGridScalar( final Blackhole blackhole ) {
+        for ( final double f : _frequencies ) {
+            blackhole.consume( _generalAllPassFilters.getH( f ) );
+        }
+    }
+
+    @Benchmark
+    public double[] allPassFiltersGridBatch() {
+        _generalAllPassFilters.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[] allPassFiltersGridBatchRetuned() {
+        _retuned = !_retuned;
+        _generalAllPassFilters.setO( 0, _retuned ? 1.5d : 1.0d );
+        _generalAllPassFilters.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[] allPassFiltersGridPhase() {
+        _generalAllPassFilters.getPhaseRadians( _frequencies, _phaseRadians );
+        return _phaseRadians;
+    }
+
+    @Benchmark
+    public double[] allPassFiltersGridPhaseFromComplex() {
+        _retuned = !_retuned;
+        _generalAllPassFilters.setO( 0, _retuned ? 1.5d : 1.0d );
+        _generalAllPassFilters.getH( _frequencies, _hReal, _hImaginary );
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            _phaseRadians[ binIndex ] = FastMath.atan2( _hImaginary[ binIndex ], _hReal[ binIndex ] );
+        }
+        return _phaseRadians;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.FractionalOctaveSmoother;
+import com.mhschmieder.jsigproc.dsp.SmoothingMode;
+import com.mhschmieder.jsigproc.filter.HighLowPassFilterType;
+import com.mhschmieder.jsigproc.filter.LowPassFilter;
+import org.apache.commons.math3.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks fractional-octave power smoothing of a magnitude response, with
+ * {@link FractionalOctaveSmoother} versus the naive loop over each bin's
+ * window, whose cost grows with the bandwidth, as well as complex smoothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FractionalOctaveSmootherBenchmark {
+
+    @Param({ "3", "6", "24" })
+    public int                       fractionOfOctave;
+
+    @Param({ "4096" })
+    public int                       numberOfBins;
+
+    private FractionalOctaveSmoother _fractionalOctaveSmoother;
+    private double[]                 _frequencies;
+    private double[]                 _magnitude;
+    private double[]                 _phaseRadians;
+    private double[]                 _smoothedMagnitude;
+    private double[]                 _smoothedPhaseRadians;
+
+    @Setup
+    public void setup() {
+        _frequencies = BenchmarkGrids.getLogarithmicGrid( numberOfBins );
+        _fractionalOctaveSmoother = FractionalOctaveSmoother
+                .forFractionOfOctave( _frequencies, fractionOfOctave );
+
+        _magnitude = new double[ numberOfBins ];
+        _phaseRadians = new double[ numberOfBins ];
+        final double[] groupDelaySeconds = new double[ numberOfBins ];
+        new LowPassFilter( false, 1000.0d, HighLowPassFilterType.BUTTERWORTH_4_LOW_PASS )
+                .getPolarH( _frequencies, _magnitude, _phaseRadians, groupDelaySeconds );
+
+        _smoothedMagnitude = new double[ numberOfBins ];
+        _smoothedPhaseRadians = new double[ numberOfBins ];
+    }
+
+    @Benchmark
+    public double[] powerSmoothingNaive() {
+        final double upperRatio = FastMath.pow( 2.0d, 0.5d / fractionOfOctave );
+        final double lowerRatio = 1.0d / upperRatio;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double lowerFrequencyHz = _frequencies[ binIndex ] * lowerRatio;
+            final double upperFrequencyHz = _frequencies[ binIndex ] * upperRatio;
+
+            // Walk out from the bin to either edge of its window.
+            int windowStartIndex = binIndex;
+            while ( ( windowStartIndex > 0 )
+                    && ( _frequencies[ windowStartIndex - 1 ] >= lowerFrequencyHz ) ) {
+                windowStartIndex--;
+            }
+            int windowEndIndex = binIndex + 1;
+            while ( ( windowEndIndex < numberOfBins )
+                    && ( _frequencies[ windowEndIndex ] <= upperFrequencyHz ) ) {
+                windowEndIndex++;
+            }
+
+            double sum = 0.0d;
+            for ( int windowIndex = windowStartIndex; windowIndex < windowEndIndex; windowIndex++ ) {
+                sum += _magnitude[ windowIndex ] * _magnitude[ windowIndex ];
+            }
+            _smoothedMagnitude[ binIndex ] = FastMath
+                    .sqrt( sum / ( windowEndIndex - windowStartIndex ) );
+        }
+
+        return _smoothedMagnitude;
+    }
+
+    @Benchmark
+    public double[] powerSmoothing() {
+        _fractionalOctaveSmoother
+                .smoothMagnitude( SmoothingMode.POWER, _magnitude, _smoothedMagnitude );
+        return _smoothedMagnitude;
+    }
+
+    @Benchmark
+    public double[] complexSmoothing() {
+        _fractionalOctaveSmoother.smoothPolar( SmoothingMode.COMPLEX,
+                                               _magnitude,
+                                               _phaseRadians,
+                                               _smoothedMagnitude,
+                                               _smoothedPhaseRadians );
+        return _smoothedPhaseRadians;
+    }
+}
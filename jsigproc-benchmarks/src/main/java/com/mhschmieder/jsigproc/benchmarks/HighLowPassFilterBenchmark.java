@@ -0,0 +1,186 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.DspConstants;
+import com.mhschmieder.jsigproc.filter.HighLowPassFilter;
+import com.mhschmieder.jsigproc.filter.HighLowPassFilterType;
+import com.mhschmieder.jsigproc.filter.HighPassFilter;
+import com.mhschmieder.jsigproc.filter.LowPassFilter;
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the High and Low Pass Filters for every filter type, covering the
+ * single-bin response, the raw biquad cascade evaluation and the evaluation
+ * over a full frequency grid, as well as coefficient recalculation. The polar
+ * benchmarks compare the one-pass magnitude, phase and group delay evaluation
+ * against three grid evaluations and central differences.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HighLowPassFilterBenchmark {
+
+    // NOTE: JMH enumerates every constant when no values are listed.
+    // The relative frequency step for the group delay by central differences.
+    private static final double  DELTA_F_RATIO = 1.0e-4d;
+
+    @Param
+    public HighLowPassFilterType highLowPassFilterType;
+
+    @Param({ "512" })
+    public int                   numberOfBins;
+
+    private HighLowPassFilter    _highLowPassFilter;
+    private Complex              _zMinusOne;
+    private Complex              _zMinusTwo;
+    private double[]             _frequencies;
+    private double[]             _hReal;
+    private double[]             _hImaginary;
+    private double[]             _lowerFrequencies;
+    private double[]             _upperFrequencies;
+    private double[]             _lowerHReal;
+    private double[]             _lowerHImaginary;
+    private double[]             _upperHReal;
+    private double[]             _upperHImaginary;
+    private double[]             _magnitude;
+    private double[]             _phaseRadians;
+    private double[]             _groupDelaySeconds;
+
+    @Setup
+    public void setup() {
+        _highLowPassFilter = highLowPassFilterType.name().contains( "HIGH_PASS" ) //$NON-NLS-1$
+            ? new HighPassFilter( false, 100.0d, highLowPassFilterType )
+            : new LowPassFilter( false, 1000.0d, highLowPassFilterType );
+
+        final Complex z = DigitalFilterUtilities
+                .convertFrequencyToZDomain( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ,
+                                            DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ );
+        _zMinusOne = z.reciprocal();
+        _zMinusTwo = _zMinusOne.multiply( _zMinusOne );
+
+        _frequencies = BenchmarkGrids.getLogarithmicGrid( numberOfBins );
+        _hReal = new double[ numberOfBins ];
+        _hImaginary = new double[ numberOfBins ];
+
+        // The grids either side of each bin, for the group delay by central
+        // differences that the polar evaluation replaces.
+        _lowerFrequencies = new double[ numberOfBins ];
+        _upperFrequencies = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            _lowerFrequencies[ binIndex ] = _frequencies[ binIndex ] * ( 1.0d - DELTA_F_RATIO );
+            _upperFrequencies[ binIndex ] = _frequencies[ binIndex ] * ( 1.0d + DELTA_F_RATIO );
+        }
+        _lowerHReal = new double[ numberOfBins ];
+        _lowerHImaginary = new double[ numberOfBins ];
+        _upperHReal = new double[ numberOfBins ];
+        _upperHImaginary = new double[ numberOfBins ];
+
+        _magnitude = new double[ numberOfBins ];
+        _phaseRadians = new double[ numberOfBins ];
+        _groupDelaySeconds = new double[ numberOfBins ];
+    }
+
+    @Benchmark
+    public Complex singleBin() {
+        return _highLowPassFilter.getH( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ );
+    }
+
+    @Benchmark
+    public Complex biQuadResult() {
+        return _highLowPassFilter.getBiQuadResult( _zMinusOne, _zMinusTwo );
+    }
+
+    @Benchmark
+    public void gridScalar( final Blackhole blackhole ) {
+        for ( final double f : _frequencies ) {
+            blackhole.consume( _highLowPassFilter.getH( f ) );
+        }
+    }
+
+    @Benchmark
+    public double[] gridBatch() {
+        _highLowPassFilter.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[] gridPolar() {
+        _highLowPassFilter.getPolarH( _frequencies, _magnitude, _phaseRadians, _groupDelaySeconds );
+        return _groupDelaySeconds;
+    }
+
+    @Benchmark
+    public double[] gridPolarByDifferences() {
+        _highLowPassFilter.getH( _frequencies, _hReal, _hImaginary );
+        _highLowPassFilter.getH( _lowerFrequencies, _lowerHReal, _lowerHImaginary );
+        _highLowPassFilter.getH( _upperFrequencies, _upperHReal, _upperHImaginary );
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            _magnitude[ binIndex ] = FastMath.hypot( _hReal[ binIndex ], _hImaginary[ binIndex ] );
+            _phaseRadians[ binIndex ] = FastMath.atan2( _hImaginary[ binIndex ],
+                                                        _hReal[ binIndex ] );
+
+            final double deltaPhase = FastMath.atan2( _upperHImaginary[ binIndex ],
+                                                      _upperHReal[ binIndex ] )
+                    - FastMath.atan2( _lowerHImaginary[ binIndex ], _lowerHReal[ binIndex ] );
+            _groupDelaySeconds[ binIndex ] = deltaPhase / ( 2.0d * FastMath.PI
+                    * ( _upperFrequencies[ binIndex ] - _lowerFrequencies[ binIndex ] ) );
+        }
+
+        return _groupDelaySeconds;
+    }
+
+    @Benchmark
+    public HighLowPassFilter calculateEqCoefficients() {
+        _highLowPassFilter.calculateEqCoefficients();
+        return _highLowPassFilter;
+    }
+}
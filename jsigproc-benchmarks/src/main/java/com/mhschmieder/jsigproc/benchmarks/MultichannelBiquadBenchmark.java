@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.MultichannelBiquadProcessor;
+import com.mhschmieder.jsigproc.filter.HighLowPassFilterType;
+import com.mhschmieder.jsigproc.filter.LowPassFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks running the same crossover filter on many channels at once,
+ * comparing one cascade object per channel against the structure-of-arrays
+ * multichannel processor, for both interleaved and planar blocks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultichannelBiquadBenchmark {
+
+    @Param({ "32", "128" })
+    public int                          numberOfChannels;
+
+    @Param({ "LINKWITZ_RILEY_4_LOW_PASS" })
+    public HighLowPassFilterType        highLowPassFilterType;
+
+    @Param({ "512" })
+    public int                          blockSize;
+
+    private BiquadCascade[]             _biquadCascades;
+    private MultichannelBiquadProcessor _multichannelBiquadProcessor;
+    private float[][]                   _planar;
+    private float[]                     _interleaved;
+
+    @Setup
+    public void setup() {
+        final LowPassFilter lowPassFilter = new LowPassFilter();
+        lowPassFilter.setHighLowPassFilterType( highLowPassFilterType, false );
+        lowPassFilter.setFc( 1000.0d, true );
+        final BiquadCoefficients biquadCoefficients = lowPassFilter.getBiquadCoefficients();
+
+        _biquadCascades = new BiquadCascade[ numberOfChannels ];
+        for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+            _biquadCascades[ channelIndex ] = new BiquadCascade( biquadCoefficients );
+        }
+
+        _multichannelBiquadProcessor = new MultichannelBiquadProcessor( numberOfChannels,
+                                                                        biquadCoefficients
+                                                                                .getNumberOfSections() );
+        _multichannelBiquadProcessor.setCoefficients( biquadCoefficients );
+
+        // Low-level noise keeps the filters out of the denormal range.
+        final Random random = new Random( 1L );
+        _planar = new float[ numberOfChannels ][ blockSize ];
+        _interleaved = new float[ numberOfChannels * blockSize ];
+        for ( int frame = 0; frame < blockSize; frame++ ) {
+            for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                final float sample = ( float ) ( 0.1d * random.nextGaussian() );
+                _planar[ channelIndex ][ frame ] = sample;
+                _interleaved[ ( frame * numberOfChannels ) + channelIndex ] = sample;
+            }
+        }
+    }
+
+    @Benchmark
+    public float[][] perChannelCascades() {
+        for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+            _biquadCascades[ channelIndex ].process( _planar[ channelIndex ],
+                                                     _planar[ channelIndex ],
+                                                     0,
+                                                     blockSize );
+        }
+        return _planar;
+    }
+
+    @Benchmark
+    public float[] multichannelInterleaved() {
+        _multichannelBiquadProcessor.processInterleaved( _interleaved, _interleaved, 0, blockSize );
+        return _interleaved;
+    }
+
+    @Benchmark
+    public float[][] multichannelPlanar() {
+        _multichannelBiquadProcessor.processPlanar( _planar, _planar, 0, blockSize );
+        return _planar;
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.ChannelStrip;
+import com.mhschmieder.jsigproc.io.PcmFileProcessor;
+import com.mhschmieder.jsigproc.io.ProcessingStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks streaming a ten second stereo WAV file through a channel's
+ * biquad cascade, including the file I/O. Divide the number of samples (960
+ * thousand) by the score to get the throughput in samples per second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PcmFileProcessorBenchmark {
+
+    private static final int  NUMBER_OF_CHANNELS    = 2;
+    private static final int  SAMPLING_FREQUENCY_HZ = 48000;
+    private static final int  NUMBER_OF_FRAMES      = 10 * SAMPLING_FREQUENCY_HZ;
+
+    @Param({ "16", "24" })
+    public int                bitsPerSample;
+
+    @Param({ "256", "4096" })
+    public int                blockSize;
+
+    private Path              _inputPath;
+    private Path              _outputPath;
+    private PcmFileProcessor  _pcmFileProcessor;
+
+    @Setup
+    public void setup() throws IOException {
+        _inputPath = Files.createTempFile( "jsigproc-benchmark-in", ".wav" ); //$NON-NLS-1$ //$NON-NLS-2$
+        _outputPath = Files.createTempFile( "jsigproc-benchmark-out", ".wav" ); //$NON-NLS-1$ //$NON-NLS-2$
+        writeNoise( _inputPath );
+
+        final ChannelStrip channelStrip = new ChannelStrip( BenchmarkGrids.getLogarithmicGrid( 1 ) );
+        channelStrip.setSamplingFrequencyHz( SAMPLING_FREQUENCY_HZ );
+        for ( int filterIndex = 0; filterIndex < 4; filterIndex++ ) {
+            channelStrip.getGeneralParametricFilters().setParametricFilterBypassed( filterIndex, false );
+            channelStrip.getGeneralParametricFilters().setC( filterIndex, 3.0d, true );
+        }
+        channelStrip.getHighPassFilter().setBypassed( false );
+        channelStrip.getLowPassFilter().setBypassed( false );
+
+        _pcmFileProcessor = new PcmFileProcessor( channelStrip.getBiquadCoefficients(), blockSize );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists( _inputPath );
+        Files.deleteIfExists( _outputPath );
+    }
+
+    @Benchmark
+    public ProcessingStatistics processWav() throws IOException {
+        return _pcmFileProcessor.processWav( _inputPath, _outputPath );
+    }
+
+    // Write a canonical WAV file of low-level white noise.
+    private void writeNoise( final Path path ) throws IOException {
+        final int bytesPerSample = bitsPerSample / 8;
+        final int dataLength = NUMBER_OF_FRAMES * NUMBER_OF_CHANNELS * bytesPerSample;
+
+        final ByteBuffer buffer = ByteBuffer.allocate( 44 + dataLength )
+                .order( ByteOrder.LITTLE_ENDIAN );
+        buffer.put( "RIFF".getBytes( StandardCharsets.US_ASCII ) ); //$NON-NLS-1$
+        buffer.putInt( 36 + dataLength );
+        buffer.put( "WAVEfmt ".getBytes( StandardCharsets.US_ASCII ) ); //$NON-NLS-1$
+        buffer.putInt( 16 );
+        buffer.putShort( ( short ) 1 );
+        buffer.putShort( ( short ) NUMBER_OF_CHANNELS );
+        buffer.putInt( SAMPLING_FREQUENCY_HZ );
+        buffer.putInt( SAMPLING_FREQUENCY_HZ * NUMBER_OF_CHANNELS * bytesPerSample );
+        buffer.putShort( ( short ) ( NUMBER_OF_CHANNELS * bytesPerSample ) );
+        buffer.putShort( ( short ) bitsPerSample );
+        buffer.put( "data".getBytes( StandardCharsets.US_ASCII ) ); //$NON-NLS-1$
+        buffer.putInt( dataLength );
+
+        final Random random = new Random( 1L );
+        final int scale = 1 << ( bitsPerSample - 4 );
+        for ( int sampleIndex = 0; sampleIndex < ( NUMBER_OF_FRAMES * NUMBER_OF_CHANNELS ); sampleIndex++ ) {
+            final int sample = ( int ) ( random.nextGaussian() * scale );
+            for ( int byteIndex = 0; byteIndex < bytesPerSample; byteIndex++ ) {
+                buffer.put( ( byte ) ( sample >> ( 8 * byteIndex ) ) );
+            }
+        }
+        ( ( Buffer ) buffer ).flip();
+
+        try ( final FileChannel fileChannel = FileChannel.open( path, StandardOpenOption.WRITE ) ) {
+            while ( buffer.hasRemaining() ) {
+                fileChannel.write( buffer );
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.ChannelStrip;
+import com.mhschmieder.jsigproc.RackEvaluator;
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the evaluation of a whole rack of channels, serially and in
+ * parallel, to measure how the rack evaluator scales with the number of
+ * worker threads, and to compare heap arrays, an off-heap buffer and the
+ * legacy {@code Complex[]} API as the output. The grid variant passes a shared
+ * frequency grid instead of an array, so the z-domain table isn't looked up by
+ * value on every evaluation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RackEvaluatorBenchmark {
+
+    @Param({ "16", "256" })
+    public int                  numberOfChannels;
+
+    @Param({ "512" })
+    public int                  numberOfBins;
+
+    // Zero means as many worker threads as there are available processors.
+    @Param({ "0" })
+    public int                  parallelism;
+
+    private List< ChannelStrip > _channelStrips;
+    private FrequencyGrid        _frequencyGrid;
+    private double[]             _frequencies;
+    private double[][]           _hReal;
+    private double[][]           _hImaginary;
+    private DoubleBuffer         _hDirect;
+    private ForkJoinPool         _forkJoinPool;
+    private RackEvaluator        _rackEvaluator;
+
+    @Setup
+    public void setup() {
+        _frequencyGrid = BenchmarkGrids.getLogarithmicFrequencyGrid( numberOfBins );
+        _frequencies = _frequencyGrid.getFrequencies();
+
+        _channelStrips = new ArrayList<>( numberOfChannels );
+        for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+            final ChannelStrip channelStrip = new ChannelStrip( _frequencies );
+            channelStrip.getGeneralParametricFilters().setParametricFiltersBypassed( false );
+            for ( int filterIndex = 0; filterIndex < 4; filterIndex++ ) {
+                final int bandIndex = ( channelIndex + filterIndex ) % 10;
+                channelStrip.getGeneralParametricFilters().setParametricFilterBypassed( bandIndex, false );
+                channelStrip.getGeneralParametricFilters().setC( bandIndex, 3.0d, true );
+            }
+            channelStrip.getHighPassFilter().setBypassed( false );
+            channelStrip.getLowPassFilter().setBypassed( false );
+            channelStrip.setDelayMs( 0.1d * channelIndex );
+            _channelStrips.add( channelStrip );
+        }
+
+        _hReal = new double[ numberOfChannels ][ numberOfBins ];
+        _hImaginary = new double[ numberOfChannels ][ numberOfBins ];
+        _hDirect = ByteBuffer.allocateDirect( 2 * numberOfChannels * numberOfBins * Double.BYTES )
+                .order( ByteOrder.nativeOrder() ).asDoubleBuffer();
+
+        _forkJoinPool = ( parallelism > 0 )
+            ? new ForkJoinPool( parallelism )
+            : new ForkJoinPool();
+        _rackEvaluator = new RackEvaluator( _forkJoinPool );
+    }
+
+    @TearDown
+    public void tearDown() {
+        _forkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public double[][] serial() {
+        for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+            _channelStrips.get( channelIndex ).getFilterH( _frequencies,
+                                                           0,
+                                                           numberOfBins,
+                                                           _hReal[ channelIndex ],
+                                                           _hImaginary[ channelIndex ],
+                                                           false );
+        }
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[][] parallel() {
+        _rackEvaluator.getFilterH( _channelStrips, _frequencies, _hReal, _hImaginary, false );
+        return _hReal;
+    }
+
+    @Benchmark
+    public double[][] parallelFrequencyGrid() {
+        _rackEvaluator.getFilterH( _channelStrips, _frequencyGrid, _hReal, _hImaginary, false );
+        return _hReal;
+    }
+
+    @Benchmark
+    public DoubleBuffer parallelDirectBuffer() {
+        _rackEvaluator.getFilterH( _channelStrips, _frequencies, _hDirect, false );
+        return _hDirect;
+    }
+
+    @Benchmark
+    public Object[] serialComplex() {
+        final Object[] h = new Object[ numberOfChannels ];
+        for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+            h[ channelIndex ] = _channelStrips.get( channelIndex ).getFilterH( numberOfBins, false );
+        }
+        return h;
+    }
+}
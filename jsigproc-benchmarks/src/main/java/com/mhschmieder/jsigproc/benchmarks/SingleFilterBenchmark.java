@@ -0,0 +1,158 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.benchmarks;
+
+import com.mhschmieder.jsigproc.filter.AllPassFilter;
+import com.mhschmieder.jsigproc.filter.ParametricFilter;
+import org.apache.commons.math3.complex.Complex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Parametric and All Pass Filters, both at a single frequency
+ * bin and over a full frequency grid.
+ * <p>
+ * The grid benchmarks compare the legacy per-bin {@code getH(double)} loop,
+ * which allocates {@link Complex} results, with the batch array API in both
+ * double and single precision, and the magnitude-only paths, via
+ * {@code getH(double).abs()} per bin and via the real-arithmetic batch
+ * squared magnitude.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SingleFilterBenchmark {
+
+    @Param({ "64", "512", "4096" })
+    public int               numberOfBins;
+
+    private ParametricFilter _parametricFilter;
+    private AllPassFilter    _allPassFilter;
+    private double[]         _frequencies;
+    private double[]         _hReal;
+    private double[]         _hImaginary;
+    private float[]          _hRealFloat;
+    private float[]          _hImaginaryFloat;
+    private double[]         _magnitudeSquared;
+
+    @Setup
+    public void setup() {
+        _parametricFilter = new ParametricFilter( 1000.0d );
+        _parametricFilter.setBypassed( false );
+        _parametricFilter.setC( 6.0d, true );
+
+        _allPassFilter = new AllPassFilter( 1000.0d );
+        _allPassFilter.setBypassed( false );
+
+        _frequencies = BenchmarkGrids.getLogarithmicGrid( numberOfBins );
+        _hReal = new double[ numberOfBins ];
+        _hImaginary = new double[ numberOfBins ];
+        _hRealFloat = new float[ numberOfBins ];
+        _hImaginaryFloat = new float[ numberOfBins ];
+        _magnitudeSquared = new double[ numberOfBins ];
+    }
+
+    @Benchmark
+    public Complex parametricFilterSingleBin() {
+        return _parametricFilter.getH( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ );
+    }
+
+    @Benchmark
+    public void parametricFilterGridScalar( final Blackhole blackhole ) {
+        for ( final double f : _frequencies ) {
+            blackhole.consume( _parametricFilter.getH( f ) );
+        }
+    }
+
+    @Benchmark
+    public double[] parametricFilterGridBatch() {
+        _parametricFilter.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public float[] parametricFilterGridBatchFloat() {
+        _parametricFilter.getH( _frequencies, _hRealFloat, _hImaginaryFloat );
+        return _hRealFloat;
+    }
+
+    @Benchmark
+    public void parametricFilterGridScalarAbs( final Blackhole blackhole ) {
+        for ( final double f : _frequencies ) {
+            blackhole.consume( _parametricFilter.getH( f ).abs() );
+        }
+    }
+
+    @Benchmark
+    public double[] parametricFilterGridMagnitudeSquared() {
+        _parametricFilter.getMagnitudeSquared( _frequencies, _magnitudeSquared );
+        return _magnitudeSquared;
+    }
+
+    @Benchmark
+    public Complex allPassFilterSingleBin() {
+        return _allPassFilter.getH( BenchmarkGrids.SINGLE_BIN_FREQUENCY_HZ );
+    }
+
+    @Benchmark
+    public void allPassFilterGridScalar( final Blackhole blackhole ) {
+        for ( final double f : _frequencies ) {
+            blackhole.consume( _allPassFilter.getH( f ) );
+        }
+    }
+
+    @Benchmark
+    public double[] allPassFilterGridBatch() {
+        _allPassFilter.getH( _frequencies, _hReal, _hImaginary );
+        return _hReal;
+    }
+
+    @Benchmark
+    public float[] allPassFilterGridBatchFloat() {
+        _allPassFilter.getH( _frequencies, _hRealFloat, _hImaginaryFloat );
+        return _hRealFloat;
+    }
+}
@@ -0,0 +1,852 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc;
+
+import com.mhschmieder.jacoustics.FrequencySignalUtilities;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
+import com.mhschmieder.jsigproc.dsp.DspConstants;
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
+import com.mhschmieder.jsigproc.filter.AllPassFilters;
+import com.mhschmieder.jsigproc.filter.GeneralAllPassFilters;
+import com.mhschmieder.jsigproc.filter.GeneralParametricFilters;
+import com.mhschmieder.jsigproc.filter.HighPassFilter;
+import com.mhschmieder.jsigproc.filter.LowPassFilter;
+import com.mhschmieder.jsigproc.filter.ParametricFilters;
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * The <code>ChannelStrip</code> class is a reference implementation of the
+ * {@link Processing} interface, modeling a typical loudspeaker channel with
+ * mute, gain, delay, a General Parametric Filters bank, a General All Pass
+ * Filters bank, and a High Pass and Low Pass Filter.
+ * <p>
+ * The composite response is evaluated over the whole frequency grid using
+ * primitive arrays, so that each processing stage is a single tight loop over
+ * the bins rather than a Complex product per filter per bin.
+ */
+public class ChannelStrip implements Processing {
+
+    // Channels are unmuted, at unity gain and without delay by default.
+    private static final boolean           MUTED_DEFAULT    = false;
+    private static final double            GAIN_DB_DEFAULT  = 0.0d;
+    private static final double            DELAY_MS_DEFAULT = 0.0d;
+
+    // The number of bins evaluated at a time for writes into buffers, which
+    // bounds the scratch arrays regardless of the size of the grid.
+    private static final int               BINS_PER_CHUNK   = 256;
+
+    // Per-thread scratch arrays for the real and imaginary parts of one chunk
+    // of a response, for evaluations into buffers.
+    private static final ThreadLocal< double[][] > SCRATCH  =
+            new ThreadLocal< double[][] >() {
+                @Override
+                protected double[][] initialValue() {
+                    return new double[ 2 ][ BINS_PER_CHUNK ];
+                }
+            };
+
+    private boolean                        _muted;
+    private double                         _gainDb;
+    private double                         _delayMs;
+
+    private final GeneralParametricFilters _generalParametricFilters;
+    private final GeneralAllPassFilters    _generalAllPassFilters;
+    private final HighPassFilter           _highPassFilter;
+    private final LowPassFilter            _lowPassFilter;
+
+    // The frequency grid (in Hertz) used for all-bins evaluation, which is
+    // shared with every other channel on the same grid, along with its
+    // z-domain tables, so that evaluation never looks the grid up by value.
+    private final FrequencyGrid            _frequencyGrid;
+
+    // The sampling frequency at which the z-domain tables are shared.
+    private double                         _samplingFrequencyHz;
+
+    // This is the default constructor; it sets all instance variables to
+    // default values, for evaluation over the supplied frequency grid.
+    public ChannelStrip( final double[] frequencies ) {
+        _muted = MUTED_DEFAULT;
+        _gainDb = GAIN_DB_DEFAULT;
+        _delayMs = DELAY_MS_DEFAULT;
+
+        _generalParametricFilters = new GeneralParametricFilters();
+        _generalAllPassFilters = new GeneralAllPassFilters();
+        _highPassFilter = new HighPassFilter();
+        _lowPassFilter = new LowPassFilter();
+
+        _frequencyGrid = FrequencyGrid.of( frequencies );
+        _samplingFrequencyHz = DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ;
+    }
+
+    public final double[] getFrequencies() {
+        return _frequencyGrid.getFrequencies();
+    }
+
+    public final double getSamplingFrequencyHz() {
+        return _samplingFrequencyHz;
+    }
+
+    /**
+     * Set the sampling frequency of this channel and all of its filters, which
+     * recompute their coefficients for the new rate rather than having to be
+     * rebuilt. Each filter memoizes its coefficients for the last few rates, so
+     * switching back and forth between common rates is just a lookup.
+     *
+     * @param samplingFrequencyHz
+     *            The new sampling frequency, in Hertz
+     */
+    public final void setSamplingFrequencyHz( final double samplingFrequencyHz ) {
+        _samplingFrequencyHz = samplingFrequencyHz;
+
+        _generalParametricFilters.setSamplingFrequencyHz( samplingFrequencyHz );
+        _generalAllPassFilters.setSamplingFrequencyHz( samplingFrequencyHz );
+        _highPassFilter.setSamplingFrequencyHz( samplingFrequencyHz );
+        _lowPassFilter.setSamplingFrequencyHz( samplingFrequencyHz );
+    }
+
+    /**
+     * Return the coefficients of the time-domain biquad cascade that realizes
+     * the General Parametric Filters and the High Pass and Low Pass Filters of
+     * this channel, in that order, such as for streaming audio files through
+     * the same EQ that is modeled here.
+     * <p>
+     * Mute, gain, delay and the All Pass Filters are not included, as they
+     * are not realized as biquad sections.
+     *
+     * @return The concatenated coefficients of all of the biquad stages
+     */
+    public final BiquadCoefficients getBiquadCoefficients() {
+        return BiquadCoefficients.concatenate( _generalParametricFilters.getBiquadCoefficients(),
+                                               _highPassFilter.isBypassed()
+                                                   ? BiquadCoefficients.IDENTITY
+                                                   : _highPassFilter.getBiquadCoefficients(),
+                                               _lowPassFilter.isBypassed()
+                                                   ? BiquadCoefficients.IDENTITY
+                                                   : _lowPassFilter.getBiquadCoefficients() );
+    }
+
+    public final GeneralParametricFilters getGeneralParametricFilters() {
+        return _generalParametricFilters;
+    }
+
+    public final GeneralAllPassFilters getGeneralAllPassFilters() {
+        return _generalAllPassFilters;
+    }
+
+    public final HighPassFilter getHighPassFilter() {
+        return _highPassFilter;
+    }
+
+    public final LowPassFilter getLowPassFilter() {
+        return _lowPassFilter;
+    }
+
+    @Override
+    public boolean isMuted() {
+        return _muted;
+    }
+
+    @Override
+    public void setMuted( final boolean muted ) {
+        _muted = muted;
+    }
+
+    @Override
+    public double getGainDb() {
+        return _gainDb;
+    }
+
+    @Override
+    public void setGainDb( final double gainDb ) {
+        _gainDb = gainDb;
+    }
+
+    @Override
+    public double getDelayMs() {
+        return _delayMs;
+    }
+
+    @Override
+    public void setDelayMs( final double delayMs ) {
+        _delayMs = delayMs;
+    }
+
+    @Override
+    public boolean isParametricFilterBypassed() {
+        return _generalParametricFilters.isParametricFiltersBypassed();
+    }
+
+    @Override
+    public void setParametricFilterBypassed( final boolean parametricFilterBypassed ) {
+        _generalParametricFilters.setParametricFiltersBypassed( parametricFilterBypassed );
+    }
+
+    @Override
+    public boolean isActiveEqMode( final boolean calculateAllEnabledFiltersOverride,
+                                   final boolean ignoreMutedFilters ) {
+        // A muted channel has no audible EQ, unless muting is to be ignored.
+        if ( _muted && !ignoreMutedFilters ) {
+            return false;
+        }
+
+        if ( calculateAllEnabledFiltersOverride ) {
+            return isAnyParametricFilterEnabled( _generalParametricFilters )
+                    || isAnyAllPassFilterEnabled( _generalAllPassFilters )
+                    || _highPassFilter.isActiveEqMode() || _lowPassFilter.isActiveEqMode();
+        }
+
+        return _generalParametricFilters.isActiveEqMode()
+                || _generalAllPassFilters.isActiveEqMode() || _highPassFilter.isActiveEqMode()
+                || _lowPassFilter.isActiveEqMode();
+    }
+
+    @Override
+    public boolean isEqBoostMode() {
+        return _generalParametricFilters.isEqBoostMode() || _generalAllPassFilters.isEqBoostMode()
+                || _highPassFilter.isEqBoostMode() || _lowPassFilter.isEqBoostMode();
+    }
+
+    /**
+     * Return the filter values at the first <code>numberOfBins</code>
+     * frequencies of this channel's frequency grid.
+     * <p>
+     * Complex objects are only created here at the API boundary; all of the
+     * actual evaluation is done over primitive arrays.
+     *
+     * @param numberOfBins
+     *            The number of bins in the list of given frequencies
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     * @return The Complex amplitude/phase filter values at all given
+     *         frequencies
+     */
+    @Override
+    public Complex[] getFilterH( final int numberOfBins,
+                                 final boolean calculateAllEnabledFiltersOverride ) {
+        final double[] hReal = new double[ numberOfBins ];
+        final double[] hImaginary = new double[ numberOfBins ];
+        getFilterH( _frequencyGrid.getZDomainTable( _samplingFrequencyHz ),
+                    0,
+                    numberOfBins,
+                    hReal,
+                    hImaginary,
+                    calculateAllEnabledFiltersOverride );
+
+        final Complex[] h = new Complex[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            h[ binIndex ] = new Complex( hReal[ binIndex ], hImaginary[ binIndex ] );
+        }
+
+        return h;
+    }
+
+    /**
+     * Writes the composite channel response at a range of given frequencies
+     * (in Hertz) into the supplied real and imaginary output arrays.
+     * <p>
+     * Each processing stage makes one pass over the requested bins, and no
+     * objects are allocated per bin.
+     *
+     * @param frequencies
+     *            The frequencies (in Hertz) to evaluate
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param hReal
+     *            The output array for the real part of the response
+     * @param hImaginary
+     *            The output array for the imaginary part of the response
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final double[] frequencies,
+                            final int fromIndex,
+                            final int toIndex,
+                            final double[] hReal,
+                            final double[] hImaginary,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        // Look up the shared z-domain table once for all of the filters.
+        getFilterH( ZDomainTableCache.getZDomainTable( frequencies, _samplingFrequencyHz ),
+                    fromIndex,
+                    toIndex,
+                    hReal,
+                    hImaginary,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite channel response at a range of bins of a shared
+     * z-domain table into the supplied real and imaginary output arrays.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param hReal
+     *            The output array for the real part of the response
+     * @param hImaginary
+     *            The output array for the imaginary part of the response
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final ZDomainTable zDomainTable,
+                            final int fromIndex,
+                            final int toIndex,
+                            final double[] hReal,
+                            final double[] hImaginary,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        // Muting wins over everything else, unless all enabled filters are to
+        // be calculated regardless (such as for previewing an EQ curve).
+        if ( _muted && !calculateAllEnabledFiltersOverride ) {
+            Arrays.fill( hReal, fromIndex, toIndex, 0.0d );
+            Arrays.fill( hImaginary, fromIndex, toIndex, 0.0d );
+            return;
+        }
+
+        Arrays.fill( hReal, fromIndex, toIndex, 1.0d );
+        Arrays.fill( hImaginary, fromIndex, toIndex, 0.0d );
+
+        // Cascade the filter banks and the High/Low Pass Filters.
+        if ( calculateAllEnabledFiltersOverride ) {
+            final int numberOfParametricFilters = _generalParametricFilters.getNumberOfFilters();
+            for ( int filterIndex = 0; filterIndex < numberOfParametricFilters; filterIndex++ ) {
+                _generalParametricFilters.getParametricFilter( filterIndex )
+                        .multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+            }
+
+            final int numberOfAllPassFilters = _generalAllPassFilters.getNumberOfFilters();
+            for ( int filterIndex = 0; filterIndex < numberOfAllPassFilters; filterIndex++ ) {
+                _generalAllPassFilters.getAllPassFilter( filterIndex )
+                        .multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+            }
+        }
+        else {
+            _generalParametricFilters
+                    .multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+            _generalAllPassFilters.multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+        }
+
+        _highPassFilter.multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+        _lowPassFilter.multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+
+        // Apply the gain and delay in a single final pass.
+        multiplyGainAndDelay( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    /**
+     * Writes the composite channel response at a range of given frequencies
+     * (in Hertz) in polar form, along with its group delay, so that delay
+     * alignment needs one pass over the grid rather than three.
+     * <p>
+     * The phase is unwrapped and, like the complex response, is that of the
+     * conjugate, so that delays have positive phase and group delay.
+     *
+     * @param frequencies
+     *            The frequencies (in Hertz) to evaluate
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param magnitude
+     *            The output array for the magnitude of the response
+     * @param phaseRadians
+     *            The output array for the unwrapped phase (in radians)
+     * @param groupDelaySeconds
+     *            The output array for the group delay (in seconds)
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterPolarH( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] magnitude,
+                                 final double[] phaseRadians,
+                                 final double[] groupDelaySeconds,
+                                 final boolean calculateAllEnabledFiltersOverride ) {
+        // Look up the shared z-domain table once for all of the filters.
+        getFilterPolarH( ZDomainTableCache.getZDomainTable( frequencies, _samplingFrequencyHz ),
+                         fromIndex,
+                         toIndex,
+                         magnitude,
+                         phaseRadians,
+                         groupDelaySeconds,
+                         calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite channel response at a range of bins of a shared
+     * z-domain table in polar form, along with its group delay.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param magnitude
+     *            The output array for the magnitude of the response
+     * @param phaseRadians
+     *            The output array for the unwrapped phase (in radians)
+     * @param groupDelaySeconds
+     *            The output array for the group delay (in seconds)
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterPolarH( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] magnitude,
+                                 final double[] phaseRadians,
+                                 final double[] groupDelaySeconds,
+                                 final boolean calculateAllEnabledFiltersOverride ) {
+        Arrays.fill( phaseRadians, fromIndex, toIndex, 0.0d );
+        Arrays.fill( groupDelaySeconds, fromIndex, toIndex, 0.0d );
+
+        // Muting wins over everything else, unless all enabled filters are to
+        // be calculated regardless (such as for previewing an EQ curve).
+        if ( _muted && !calculateAllEnabledFiltersOverride ) {
+            Arrays.fill( magnitude, fromIndex, toIndex, 0.0d );
+            return;
+        }
+
+        Arrays.fill( magnitude, fromIndex, toIndex, 1.0d );
+
+        // Cascade the filter banks and the High/Low Pass Filters.
+        if ( calculateAllEnabledFiltersOverride ) {
+            final int numberOfParametricFilters = _generalParametricFilters.getNumberOfFilters();
+            for ( int filterIndex = 0; filterIndex < numberOfParametricFilters; filterIndex++ ) {
+                _generalParametricFilters.getParametricFilter( filterIndex )
+                        .multiplyPolarH( zDomainTable,
+                                         fromIndex,
+                                         toIndex,
+                                         magnitude,
+                                         phaseRadians,
+                                         groupDelaySeconds );
+            }
+
+            final int numberOfAllPassFilters = _generalAllPassFilters.getNumberOfFilters();
+            for ( int filterIndex = 0; filterIndex < numberOfAllPassFilters; filterIndex++ ) {
+                _generalAllPassFilters.getAllPassFilter( filterIndex )
+                        .multiplyPolarH( zDomainTable,
+                                         fromIndex,
+                                         toIndex,
+                                         magnitude,
+                                         phaseRadians,
+                                         groupDelaySeconds );
+            }
+        }
+        else {
+            _generalParametricFilters.multiplyPolarH( zDomainTable,
+                                                      fromIndex,
+                                                      toIndex,
+                                                      magnitude,
+                                                      phaseRadians,
+                                                      groupDelaySeconds );
+            _generalAllPassFilters.multiplyPolarH( zDomainTable,
+                                                   fromIndex,
+                                                   toIndex,
+                                                   magnitude,
+                                                   phaseRadians,
+                                                   groupDelaySeconds );
+        }
+
+        _highPassFilter.multiplyPolarH( zDomainTable,
+                                        fromIndex,
+                                        toIndex,
+                                        magnitude,
+                                        phaseRadians,
+                                        groupDelaySeconds );
+        _lowPassFilter.multiplyPolarH( zDomainTable,
+                                       fromIndex,
+                                       toIndex,
+                                       magnitude,
+                                       phaseRadians,
+                                       groupDelaySeconds );
+
+        // Apply the gain and delay in a single final pass.
+        multiplyPolarGainAndDelay( zDomainTable,
+                                   fromIndex,
+                                   toIndex,
+                                   magnitude,
+                                   phaseRadians,
+                                   groupDelaySeconds );
+    }
+
+    /**
+     * Writes the squared magnitude of the composite channel response at a
+     * range of given frequencies (in Hertz), for displays that only need the
+     * magnitude (such as in dB). No complex arithmetic is made per bin.
+     *
+     * @param frequencies
+     *            The frequencies (in Hertz) to evaluate
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param magnitudeSquared
+     *            The output array for the squared magnitude of the response
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterMagnitudeSquared( final double[] frequencies,
+                                           final int fromIndex,
+                                           final int toIndex,
+                                           final double[] magnitudeSquared,
+                                           final boolean calculateAllEnabledFiltersOverride ) {
+        // Look up the shared z-domain table once for all of the filters.
+        getFilterMagnitudeSquared( ZDomainTableCache.getZDomainTable( frequencies,
+                                                                      _samplingFrequencyHz ),
+                                   fromIndex,
+                                   toIndex,
+                                   magnitudeSquared,
+                                   calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the squared magnitude of the composite channel response at a
+     * range of bins of a shared z-domain table.
+     * <p>
+     * The all pass filters and the delay don't affect the magnitude, so they
+     * are not evaluated at all.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param magnitudeSquared
+     *            The output array for the squared magnitude of the response
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterMagnitudeSquared( final ZDomainTable zDomainTable,
+                                           final int fromIndex,
+                                           final int toIndex,
+                                           final double[] magnitudeSquared,
+                                           final boolean calculateAllEnabledFiltersOverride ) {
+        // Muting wins over everything else, unless all enabled filters are to
+        // be calculated regardless (such as for previewing an EQ curve).
+        if ( _muted && !calculateAllEnabledFiltersOverride ) {
+            Arrays.fill( magnitudeSquared, fromIndex, toIndex, 0.0d );
+            return;
+        }
+
+        final double gain = FrequencySignalUtilities.getVoltageRatio( _gainDb );
+        Arrays.fill( magnitudeSquared, fromIndex, toIndex, gain * gain );
+
+        // Cascade the parametric filters and the High/Low Pass Filters.
+        if ( calculateAllEnabledFiltersOverride ) {
+            final int numberOfParametricFilters = _generalParametricFilters.getNumberOfFilters();
+            for ( int filterIndex = 0; filterIndex < numberOfParametricFilters; filterIndex++ ) {
+                _generalParametricFilters.getParametricFilter( filterIndex )
+                        .multiplyMagnitudeSquared( zDomainTable,
+                                                   fromIndex,
+                                                   toIndex,
+                                                   magnitudeSquared );
+            }
+        }
+        else {
+            _generalParametricFilters
+                    .multiplyMagnitudeSquared( zDomainTable, fromIndex, toIndex, magnitudeSquared );
+        }
+
+        _highPassFilter.multiplyMagnitudeSquared( zDomainTable, fromIndex, toIndex, magnitudeSquared );
+        _lowPassFilter.multiplyMagnitudeSquared( zDomainTable, fromIndex, toIndex, magnitudeSquared );
+    }
+
+    /**
+     * Writes the filter values at the first <code>numberOfBins</code>
+     * frequencies of this channel's frequency grid into the supplied buffer,
+     * as interleaved real and imaginary parts, without creating any Complex
+     * objects.
+     *
+     * @param numberOfBins
+     *            The number of bins in the list of given frequencies
+     * @param h
+     *            The output buffer, written with absolute puts so that its
+     *            position is left untouched
+     * @param offset
+     *            The buffer index of the real part of the first bin's value
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    @Override
+    public void getFilterH( final int numberOfBins,
+                            final DoubleBuffer h,
+                            final int offset,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        getFilterH( _frequencyGrid.getZDomainTable( _samplingFrequencyHz ),
+                    0,
+                    numberOfBins,
+                    h,
+                    offset,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite channel response at a range of given frequencies
+     * (in Hertz) into the supplied buffer, as interleaved real and imaginary
+     * parts.
+     *
+     * @param frequencies
+     *            The frequencies (in Hertz) to evaluate
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param h
+     *            The output buffer, which may be direct so that the response
+     *            lives off-heap
+     * @param offset
+     *            The buffer index of the real part of the response at bin 0;
+     *            the real part at bin <code>b</code> goes at
+     *            <code>offset + 2 b</code> and the imaginary part just after
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final double[] frequencies,
+                            final int fromIndex,
+                            final int toIndex,
+                            final DoubleBuffer h,
+                            final int offset,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        getFilterH( ZDomainTableCache.getZDomainTable( frequencies, _samplingFrequencyHz ),
+                    fromIndex,
+                    toIndex,
+                    h,
+                    offset,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite channel response at a range of bins of a shared
+     * z-domain table into the supplied buffer, as interleaved real and
+     * imaginary parts.
+     * <p>
+     * The response is evaluated a chunk of bins at a time into per-thread
+     * scratch arrays, through a view of each chunk of the z-domain table, so
+     * that no arrays are allocated however large the grid is. Each chunk is
+     * written with absolute puts, so the buffer's position and limit are left
+     * untouched, and separate threads may safely write disjoint regions of
+     * the same buffer. For a direct buffer viewed from a
+     * {@link java.nio.ByteBuffer}, use the native byte order so that the
+     * writes needn't swap bytes.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param h
+     *            The output buffer, which may be direct so that the response
+     *            lives off-heap
+     * @param offset
+     *            The buffer index of the real part of the response at bin 0;
+     *            the real part at bin <code>b</code> goes at
+     *            <code>offset + 2 b</code> and the imaginary part just after
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final ZDomainTable zDomainTable,
+                            final int fromIndex,
+                            final int toIndex,
+                            final DoubleBuffer h,
+                            final int offset,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        final double[][] scratch = SCRATCH.get();
+        for ( int chunkFromIndex = fromIndex; chunkFromIndex < toIndex;
+              chunkFromIndex += BINS_PER_CHUNK ) {
+            final int chunkToIndex = FastMath.min( chunkFromIndex + BINS_PER_CHUNK, toIndex );
+            final int numberOfChunkBins = chunkToIndex - chunkFromIndex;
+
+            // Bin 0 of the scratch arrays holds the chunk's first bin.
+            getFilterH( zDomainTable.getBinRange( chunkFromIndex, chunkToIndex ),
+                        0,
+                        numberOfChunkBins,
+                        scratch[ 0 ],
+                        scratch[ 1 ],
+                        calculateAllEnabledFiltersOverride );
+            putInterleaved( scratch[ 0 ],
+                            scratch[ 1 ],
+                            0,
+                            numberOfChunkBins,
+                            h,
+                            offset + ( 2 * chunkFromIndex ) );
+        }
+    }
+
+    /**
+     * Writes a range of bins of a response held as separate real and
+     * imaginary arrays into a buffer as interleaved real and imaginary parts,
+     * using absolute puts so that the buffer's position is left untouched.
+     *
+     * @param hReal
+     *            The real part of the response
+     * @param hImaginary
+     *            The imaginary part of the response
+     * @param fromIndex
+     *            The first bin to write (inclusive)
+     * @param toIndex
+     *            The last bin to write (exclusive)
+     * @param h
+     *            The output buffer
+     * @param offset
+     *            The buffer index of the real part of the response at bin 0
+     */
+    public static void putInterleaved( final double[] hReal,
+                                       final double[] hImaginary,
+                                       final int fromIndex,
+                                       final int toIndex,
+                                       final DoubleBuffer h,
+                                       final int offset ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final int bufferIndex = offset + ( 2 * binIndex );
+            h.put( bufferIndex, hReal[ binIndex ] );
+            h.put( bufferIndex + 1, hImaginary[ binIndex ] );
+        }
+    }
+
+    /**
+     * Return the filter value at a given frequency (in Hertz).
+     *
+     * @param f
+     *            The center band frequency for the filter calculation
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     * @return The Complex amplitude/phase filter value at the given frequency
+     */
+    @Override
+    public Complex getH( final double f, final boolean calculateAllEnabledFiltersOverride ) {
+        // A single frequency is not worth caching, so bypass the shared cache.
+        final ZDomainTable zDomainTable = new ZDomainTable( new double[] { f },
+                                                            _samplingFrequencyHz );
+        final double[] hReal = new double[ 1 ];
+        final double[] hImaginary = new double[ 1 ];
+        getFilterH( zDomainTable, 0, 1, hReal, hImaginary, calculateAllEnabledFiltersOverride );
+
+        return new Complex( hReal[ 0 ], hImaginary[ 0 ] );
+    }
+
+    // Multiply the gain and delay into the supplied accumulators.
+    // NOTE: The delay phase uses the same conjugated sign convention as the
+    //  filter classes, so that delay and filter phase are consistent.
+    private void multiplyGainAndDelay( final ZDomainTable zDomainTable,
+                                       final int fromIndex,
+                                       final int toIndex,
+                                       final double[] hReal,
+                                       final double[] hImaginary ) {
+        final double gain = FrequencySignalUtilities.getVoltageRatio( _gainDb );
+
+        if ( _delayMs == 0.0d ) {
+            if ( gain != 1.0d ) {
+                for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+                    hReal[ binIndex ] *= gain;
+                    hImaginary[ binIndex ] *= gain;
+                }
+            }
+            return;
+        }
+
+        final double delaySeconds = 0.001d * _delayMs;
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final double phaseRadians = FrequencySignalUtilities
+                    .getAngularFrequencyRadians( zDomainTable.getFrequencyHz( binIndex ) )
+                    * delaySeconds;
+            final double real = gain * FastMath.cos( phaseRadians );
+            final double imaginary = gain * FastMath.sin( phaseRadians );
+
+            ComplexArithmetic.multiplyInto( hReal, hImaginary, binIndex, real, imaginary );
+        }
+    }
+
+    // Multiply the gain into the supplied magnitude accumulator, and add the
+    // delay to the supplied phase and group delay accumulators.
+    private void multiplyPolarGainAndDelay( final ZDomainTable zDomainTable,
+                                            final int fromIndex,
+                                            final int toIndex,
+                                            final double[] magnitude,
+                                            final double[] phaseRadians,
+                                            final double[] groupDelaySeconds ) {
+        final double gain = FrequencySignalUtilities.getVoltageRatio( _gainDb );
+        if ( gain != 1.0d ) {
+            for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+                magnitude[ binIndex ] *= gain;
+            }
+        }
+
+        if ( _delayMs == 0.0d ) {
+            return;
+        }
+
+        final double delaySeconds = 0.001d * _delayMs;
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            phaseRadians[ binIndex ] += FrequencySignalUtilities
+                    .getAngularFrequencyRadians( zDomainTable.getFrequencyHz( binIndex ) )
+                    * delaySeconds;
+            groupDelaySeconds[ binIndex ] += delaySeconds;
+        }
+    }
+
+    // Check for any enabled parametric filter, regardless of the bank-level
+    // bypass and of whether its gain is flat.
+    private static boolean isAnyParametricFilterEnabled( final ParametricFilters parametricFilters ) {
+        return !parametricFilters.isAllParametricFiltersBypassed();
+    }
+
+    // Check for any enabled all pass filter, regardless of the bank-level
+    // bypass.
+    private static boolean isAnyAllPassFilterEnabled( final AllPassFilters allPassFilters ) {
+        return !allPassFilters.isAllAllPassFiltersBypassed();
+    }
+}
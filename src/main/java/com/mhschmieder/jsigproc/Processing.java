@@ -32,6 +32,8 @@ package com.mhschmieder.jsigproc;
 
 import org.apache.commons.math3.complex.Complex;
 
+import java.nio.DoubleBuffer;
+
 /**
  * The <code>Processing</code> interface is an interface for setting and
  * getting processing values. It is more audio-focused than AcousticalFilter.
@@ -73,6 +75,38 @@ public interface Processing {
     Complex[] getFilterH( final int numberOfBins,
                           final boolean calculateAllEnabledFiltersOverride );
 
+    /**
+     * Write the filter values at all given frequencies (in Hertz) into the
+     * supplied buffer, as interleaved real and imaginary parts, so that the
+     * response can live off-heap in a direct buffer without any per-bin
+     * objects.
+     * <p>
+     * The default implementation copies the values returned by
+     * {@link #getFilterH(int, boolean)}; implementations should override it
+     * to avoid creating them.
+     *
+     * @param numberOfBins
+     *            The number of bins in the list of given frequencies
+     * @param h
+     *            The output buffer, written with absolute puts so that its
+     *            position is left untouched
+     * @param offset
+     *            The buffer index of the real part of the first bin's value
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    default void getFilterH( final int numberOfBins,
+                             final DoubleBuffer h,
+                             final int offset,
+                             final boolean calculateAllEnabledFiltersOverride ) {
+        final Complex[] values = getFilterH( numberOfBins, calculateAllEnabledFiltersOverride );
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            h.put( offset + ( 2 * binIndex ), values[ binIndex ].getReal() );
+            h.put( offset + ( 2 * binIndex ) + 1, values[ binIndex ].getImaginary() );
+        }
+    }
+
     /**
      * Return the filter value at a given frequency (in Hertz).
      *
@@ -0,0 +1,408 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc;
+
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
+import org.apache.commons.math3.util.FastMath;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The <code>RackEvaluator</code> class evaluates the composite responses of a
+ * whole rack of {@link ChannelStrip} instances over a shared frequency grid,
+ * in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The work is split into units of one channel by one contiguous range of
+ * bins, so that a handful of channels over a dense grid scales as well as
+ * hundreds of channels over a sparse one. Units are divided recursively, so
+ * idle workers steal large halves of the remaining work first.
+ * <p>
+ * The channels must not be modified while an evaluation is in progress;
+ * filter coefficients may be changed from other threads at any time, as the
+ * filters publish them as immutable snapshots.
+ */
+public class RackEvaluator {
+
+    /**
+     * The default number of bins per unit of work, chosen so that a unit is
+     * large enough to amortize task overhead but small enough to balance well.
+     */
+    public static final int    BINS_PER_TASK_DEFAULT = 256;
+
+    // The pool that evaluates the units of work.
+    private final ForkJoinPool _forkJoinPool;
+
+    // The number of bins per unit of work.
+    private final int          _binsPerTask;
+
+    // Per-worker scratch arrays for the real and imaginary parts of one unit
+    // of work, for evaluations into buffers; they hold one range of bins, and
+    // are reused so that units allocate no arrays.
+    private final ThreadLocal< double[][] > _scratch;
+
+    /**
+     * Constructs a rack evaluator that runs on the common pool.
+     */
+    public RackEvaluator() {
+        this( ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * Constructs a rack evaluator that runs on the supplied pool.
+     *
+     * @param forkJoinPool
+     *            The pool that evaluates the channels
+     */
+    public RackEvaluator( final ForkJoinPool forkJoinPool ) {
+        this( forkJoinPool, BINS_PER_TASK_DEFAULT );
+    }
+
+    /**
+     * Constructs a rack evaluator that runs on the supplied pool, with a given
+     * number of bins per unit of work.
+     *
+     * @param forkJoinPool
+     *            The pool that evaluates the channels
+     * @param binsPerTask
+     *            The number of bins per unit of work
+     */
+    public RackEvaluator( final ForkJoinPool forkJoinPool, final int binsPerTask ) {
+        if ( forkJoinPool == null ) {
+            throw new NullPointerException( "Fork/Join pool must not be null" ); //$NON-NLS-1$
+        }
+        if ( binsPerTask < 1 ) {
+            throw new IllegalArgumentException( "Bins per task must be positive" ); //$NON-NLS-1$
+        }
+
+        _forkJoinPool = forkJoinPool;
+        _binsPerTask = binsPerTask;
+
+        _scratch = new ThreadLocal< double[][] >() {
+            @Override
+            protected double[][] initialValue() {
+                return new double[ 2 ][ _binsPerTask ];
+            }
+        };
+    }
+
+    public final ForkJoinPool getForkJoinPool() {
+        return _forkJoinPool;
+    }
+
+    public final int getBinsPerTask() {
+        return _binsPerTask;
+    }
+
+    /**
+     * Writes the composite response of every channel at the given frequencies
+     * (in Hertz) into the supplied per-channel output arrays, blocking until
+     * all of the channels have been evaluated.
+     *
+     * @param channelStrips
+     *            The channels to evaluate, in output order
+     * @param frequencies
+     *            The frequencies (in Hertz) to evaluate
+     * @param hReal
+     *            The output arrays for the real part of each channel's response
+     * @param hImaginary
+     *            The output arrays for the imaginary part of each channel's
+     *            response
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final List< ? extends ChannelStrip > channelStrips,
+                            final double[] frequencies,
+                            final double[][] hReal,
+                            final double[][] hImaginary,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        getFilterH( channelStrips,
+                    null,
+                    frequencies,
+                    hReal,
+                    hImaginary,
+                    null,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite response of every channel over the given frequency
+     * grid into the supplied per-channel output arrays, blocking until all of
+     * the channels have been evaluated.
+     * <p>
+     * The grid holds on to its z-domain table, so repeated evaluations over
+     * the same grid don't even need to look the table up by value.
+     *
+     * @param channelStrips
+     *            The channels to evaluate, in output order
+     * @param frequencyGrid
+     *            The shared frequency grid to evaluate
+     * @param hReal
+     *            The output arrays for the real part of each channel's response
+     * @param hImaginary
+     *            The output arrays for the imaginary part of each channel's
+     *            response
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final List< ? extends ChannelStrip > channelStrips,
+                            final FrequencyGrid frequencyGrid,
+                            final double[][] hReal,
+                            final double[][] hImaginary,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        getFilterH( channelStrips,
+                    frequencyGrid,
+                    null,
+                    hReal,
+                    hImaginary,
+                    null,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite response of every channel at the given frequencies
+     * (in Hertz) into the supplied buffer, blocking until all of the channels
+     * have been evaluated.
+     * <p>
+     * Each channel's response is a contiguous region of interleaved real and
+     * imaginary parts, with channel <code>c</code> starting at buffer index
+     * <code>2 c n</code> for <code>n</code> frequencies. With a direct
+     * buffer, the whole rack's response lives off-heap and can be handed to
+     * native code without copying; no objects are allocated per channel or
+     * per bin. For a buffer viewed from a {@link java.nio.ByteBuffer}, use the
+     * native byte order so that the writes needn't swap bytes.
+     *
+     * @param channelStrips
+     *            The channels to evaluate, in output order
+     * @param frequencies
+     *            The frequencies (in Hertz) to evaluate
+     * @param h
+     *            The output buffer, written with absolute puts so that its
+     *            position is left untouched
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final List< ? extends ChannelStrip > channelStrips,
+                            final double[] frequencies,
+                            final DoubleBuffer h,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        getFilterH( channelStrips,
+                    null,
+                    frequencies,
+                    null,
+                    null,
+                    h,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    /**
+     * Writes the composite response of every channel over the given frequency
+     * grid into the supplied buffer, blocking until all of the channels have
+     * been evaluated, with the same layout as for an array of frequencies.
+     *
+     * @param channelStrips
+     *            The channels to evaluate, in output order
+     * @param frequencyGrid
+     *            The shared frequency grid to evaluate
+     * @param h
+     *            The output buffer, written with absolute puts so that its
+     *            position is left untouched
+     * @param calculateAllEnabledFiltersOverride
+     *            Flag for whether we override other criteria as long as a
+     *            specific low-level filter isn't bypassed
+     */
+    public void getFilterH( final List< ? extends ChannelStrip > channelStrips,
+                            final FrequencyGrid frequencyGrid,
+                            final DoubleBuffer h,
+                            final boolean calculateAllEnabledFiltersOverride ) {
+        getFilterH( channelStrips,
+                    frequencyGrid,
+                    null,
+                    null,
+                    null,
+                    h,
+                    calculateAllEnabledFiltersOverride );
+    }
+
+    // Evaluate the rack over either a shared grid or an array of frequencies,
+    // into either a pair of arrays per channel or one buffer for the rack.
+    private void getFilterH( final List< ? extends ChannelStrip > channelStrips,
+                             final FrequencyGrid frequencyGrid,
+                             final double[] frequencies,
+                             final double[][] hReal,
+                             final double[][] hImaginary,
+                             final DoubleBuffer h,
+                             final boolean calculateAllEnabledFiltersOverride ) {
+        final int numberOfChannels = channelStrips.size();
+        final int numberOfFrequencies = ( frequencyGrid != null )
+            ? frequencyGrid.getNumberOfBins()
+            : frequencies.length;
+        if ( h != null ) {
+            if ( ( 2L * numberOfChannels * numberOfFrequencies ) > h.limit() ) {
+                throw new IllegalArgumentException( "Output buffer must cover every channel" ); //$NON-NLS-1$
+            }
+        }
+        else if ( ( hReal.length < numberOfChannels ) || ( hImaginary.length < numberOfChannels ) ) {
+            throw new IllegalArgumentException( "Output arrays must cover every channel" ); //$NON-NLS-1$
+        }
+        if ( numberOfChannels == 0 ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole rack; the
+        // filters re-map it themselves if their sampling frequencies differ.
+        final ChannelStrip[] channels = channelStrips.toArray( new ChannelStrip[ numberOfChannels ] );
+        final double samplingFrequencyHz = channels[ 0 ].getSamplingFrequencyHz();
+        final ZDomainTable zDomainTable = ( frequencyGrid != null )
+            ? frequencyGrid.getZDomainTable( samplingFrequencyHz )
+            : ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz );
+
+        final int numberOfBins = zDomainTable.getNumberOfBins();
+        final int numberOfBinRanges = ( numberOfBins + _binsPerTask - 1 ) / _binsPerTask;
+
+        _forkJoinPool.invoke( new RackTask( channels,
+                                            zDomainTable,
+                                            numberOfBinRanges,
+                                            hReal,
+                                            hImaginary,
+                                            h,
+                                            calculateAllEnabledFiltersOverride,
+                                            0,
+                                            numberOfChannels * numberOfBinRanges ) );
+    }
+
+    /**
+     * A task that evaluates a range of units of work, where each unit is one
+     * channel by one range of bins, splitting itself in half until only a
+     * single unit remains. The output is either a pair of arrays per channel,
+     * or else one buffer for the whole rack.
+     */
+    private final class RackTask extends RecursiveAction {
+        private static final long    serialVersionUID = 1L;
+
+        private final ChannelStrip[] _channels;
+        private final ZDomainTable   _zDomainTable;
+        private final int            _numberOfBinRanges;
+        private final double[][]     _hReal;
+        private final double[][]     _hImaginary;
+        private final DoubleBuffer   _h;
+        private final boolean        _calculateAllEnabledFiltersOverride;
+        private final int            _fromUnit;
+        private final int            _toUnit;
+
+        RackTask( final ChannelStrip[] channels,
+                  final ZDomainTable zDomainTable,
+                  final int numberOfBinRanges,
+                  final double[][] hReal,
+                  final double[][] hImaginary,
+                  final DoubleBuffer h,
+                  final boolean calculateAllEnabledFiltersOverride,
+                  final int fromUnit,
+                  final int toUnit ) {
+            _channels = channels;
+            _zDomainTable = zDomainTable;
+            _numberOfBinRanges = numberOfBinRanges;
+            _hReal = hReal;
+            _hImaginary = hImaginary;
+            _h = h;
+            _calculateAllEnabledFiltersOverride = calculateAllEnabledFiltersOverride;
+            _fromUnit = fromUnit;
+            _toUnit = toUnit;
+        }
+
+        @Override
+        protected void compute() {
+            if ( ( _toUnit - _fromUnit ) > 1 ) {
+                final int middleUnit = ( _fromUnit + _toUnit ) >>> 1;
+                invokeAll( createSubtask( _fromUnit, middleUnit ),
+                           createSubtask( middleUnit, _toUnit ) );
+                return;
+            }
+
+            // Units are ordered by channel, then by range of bins, so that
+            // neighboring units share a channel's coefficients in cache.
+            final int channelIndex = _fromUnit / _numberOfBinRanges;
+            final int binRangeIndex = _fromUnit % _numberOfBinRanges;
+            final int fromIndex = binRangeIndex * _binsPerTask;
+            final int numberOfBins = _zDomainTable.getNumberOfBins();
+            final int toIndex = FastMath.min( fromIndex + _binsPerTask, numberOfBins );
+
+            if ( _h != null ) {
+                // Evaluate through a view of the range of bins into this
+                // worker's scratch arrays, relative to the start of the range,
+                // and then write the range into the channel's region of the
+                // buffer.
+                final double[][] scratch = _scratch.get();
+                final int numberOfRangeBins = toIndex - fromIndex;
+                _channels[ channelIndex ].getFilterH( _zDomainTable.getBinRange( fromIndex,
+                                                                                 toIndex ),
+                                                      0,
+                                                      numberOfRangeBins,
+                                                      scratch[ 0 ],
+                                                      scratch[ 1 ],
+                                                      _calculateAllEnabledFiltersOverride );
+                ChannelStrip.putInterleaved( scratch[ 0 ],
+                                             scratch[ 1 ],
+                                             0,
+                                             numberOfRangeBins,
+                                             _h,
+                                             2 * ( ( channelIndex * numberOfBins ) + fromIndex ) );
+                return;
+            }
+
+            _channels[ channelIndex ].getFilterH( _zDomainTable,
+                                                  fromIndex,
+                                                  toIndex,
+                                                  _hReal[ channelIndex ],
+                                                  _hImaginary[ channelIndex ],
+                                                  _calculateAllEnabledFiltersOverride );
+        }
+
+        private RackTask createSubtask( final int fromUnit, final int toUnit ) {
+            return new RackTask( _channels,
+                                 _zDomainTable,
+                                 _numberOfBinRanges,
+                                 _hReal,
+                                 _hImaginary,
+                                 _h,
+                                 _calculateAllEnabledFiltersOverride,
+                                 fromUnit,
+                                 toUnit );
+        }
+    }
+}
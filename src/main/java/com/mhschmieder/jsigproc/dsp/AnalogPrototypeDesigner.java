@@ -0,0 +1,493 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import org.apache.commons.math3.analysis.solvers.LaguerreSolver;
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.CombinatoricsUtils;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A pole placement designer for Butterworth, Linkwitz-Riley, Bessel and
+ * Chebyshev high pass and low pass filters of any order up to
+ * {@link #MAXIMUM_ORDER}.
+ * <p>
+ * The analog prototype is emitted as exactly ceil(order / 2) second order
+ * sections, each in the (A s^2 + B s + C) / (D s^2 + E s + F) form used by
+ * the hand-tabulated filter types, with the cutoff at 1 rad/s. A first order
+ * filter is therefore a single section, rather than one active section padded
+ * out with identity sections. The sections are then mapped to the z-domain by
+ * the bilinear transform, pre-warped to the cutoff frequency.
+ * <p>
+ * Sections are ordered from the lowest Q to the highest, with any real poles
+ * first, which keeps the intermediate signal levels of a cascade low.
+ */
+public final class AnalogPrototypeDesigner {
+
+    /**
+     * The highest filter order that may be designed, which is 96 dB/octave.
+     */
+    public static final int     MAXIMUM_ORDER               = 16;
+
+    /**
+     * The default pass band ripple for Chebyshev filters, in decibels.
+     */
+    public static final double  CHEBYSHEV_RIPPLE_DB_DEFAULT = 1.0d;
+
+    /**
+     * The number of coefficients per analog section, A through F.
+     */
+    public static final int     ANALOG_SECTION_LENGTH       = 6;
+
+    // The damping of a pole pair is -2 Re(p) / |p|, which falls as Q rises,
+    // so ordering by the real part relative to the radius puts the lowest Q
+    // first.
+    private static final Comparator< Complex > DAMPING_ORDER = new Comparator< Complex >() {
+        @Override
+        public int compare( final Complex pole1, final Complex pole2 ) {
+            return Double.compare( pole1.getReal() / pole1.abs(), pole2.getReal() / pole2.abs() );
+        }
+    };
+
+    // The tolerance below which a Bessel root is taken to be real.
+    private static final double REAL_POLE_TOLERANCE         = 1.0e-9d;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private AnalogPrototypeDesigner() {}
+
+    /**
+     * Returns the number of second order sections needed for a given order.
+     *
+     * @param order
+     *            The filter order, which is its slope in multiples of 6
+     *            dB/octave
+     * @return The number of second order sections
+     */
+    public static int getNumberOfSections( final int order ) {
+        return ( order + 1 ) / 2;
+    }
+
+    /**
+     * Returns a digital low pass filter, using the default Chebyshev ripple.
+     *
+     * @param family
+     *            The analog prototype family
+     * @param order
+     *            The filter order
+     * @param cutoffFrequencyHz
+     *            The cutoff frequency, in Hertz
+     * @param samplingFrequencyHz
+     *            The sampling frequency, in Hertz
+     * @return The biquad cascade, with ceil(order / 2) sections
+     */
+    public static BiquadCoefficients designLowPass( final AnalogPrototypeFamily family,
+                                                    final int order,
+                                                    final double cutoffFrequencyHz,
+                                                    final double samplingFrequencyHz ) {
+        return designLowPass( family,
+                              order,
+                              CHEBYSHEV_RIPPLE_DB_DEFAULT,
+                              cutoffFrequencyHz,
+                              samplingFrequencyHz );
+    }
+
+    /**
+     * Returns a digital low pass filter.
+     *
+     * @param family
+     *            The analog prototype family
+     * @param order
+     *            The filter order
+     * @param rippleDb
+     *            The pass band ripple in decibels, which only applies to
+     *            Chebyshev filters
+     * @param cutoffFrequencyHz
+     *            The cutoff frequency, in Hertz
+     * @param samplingFrequencyHz
+     *            The sampling frequency, in Hertz
+     * @return The biquad cascade, with ceil(order / 2) sections
+     */
+    public static BiquadCoefficients designLowPass( final AnalogPrototypeFamily family,
+                                                    final int order,
+                                                    final double rippleDb,
+                                                    final double cutoffFrequencyHz,
+                                                    final double samplingFrequencyHz ) {
+        return getBiquadCoefficients( getLowPassSections( family, order, rippleDb ),
+                                      DigitalFilterUtilities
+                                              .getPoleAngleRadians( cutoffFrequencyHz,
+                                                                    samplingFrequencyHz ) );
+    }
+
+    /**
+     * Returns a digital high pass filter, using the default Chebyshev ripple.
+     *
+     * @param family
+     *            The analog prototype family
+     * @param order
+     *            The filter order
+     * @param cutoffFrequencyHz
+     *            The cutoff frequency, in Hertz
+     * @param samplingFrequencyHz
+     *            The sampling frequency, in Hertz
+     * @return The biquad cascade, with ceil(order / 2) sections
+     */
+    public static BiquadCoefficients designHighPass( final AnalogPrototypeFamily family,
+                                                     final int order,
+                                                     final double cutoffFrequencyHz,
+                                                     final double samplingFrequencyHz ) {
+        return designHighPass( family,
+                               order,
+                               CHEBYSHEV_RIPPLE_DB_DEFAULT,
+                               cutoffFrequencyHz,
+                               samplingFrequencyHz );
+    }
+
+    /**
+     * Returns a digital high pass filter.
+     *
+     * @param family
+     *            The analog prototype family
+     * @param order
+     *            The filter order
+     * @param rippleDb
+     *            The pass band ripple in decibels, which only applies to
+     *            Chebyshev filters
+     * @param cutoffFrequencyHz
+     *            The cutoff frequency, in Hertz
+     * @param samplingFrequencyHz
+     *            The sampling frequency, in Hertz
+     * @return The biquad cascade, with ceil(order / 2) sections
+     */
+    public static BiquadCoefficients designHighPass( final AnalogPrototypeFamily family,
+                                                     final int order,
+                                                     final double rippleDb,
+                                                     final double cutoffFrequencyHz,
+                                                     final double samplingFrequencyHz ) {
+        return getBiquadCoefficients( getHighPassSections( family, order, rippleDb ),
+                                      DigitalFilterUtilities
+                                              .getPoleAngleRadians( cutoffFrequencyHz,
+                                                                    samplingFrequencyHz ) );
+    }
+
+    /**
+     * Returns the analog low pass prototype, with its cutoff at 1 rad/s.
+     *
+     * @param family
+     *            The analog prototype family
+     * @param order
+     *            The filter order
+     * @param rippleDb
+     *            The pass band ripple in decibels, which only applies to
+     *            Chebyshev filters
+     * @return The analog sections, each holding A through F
+     */
+    public static double[][] getLowPassSections( final AnalogPrototypeFamily family,
+                                                 final int order,
+                                                 final double rippleDb ) {
+        if ( ( order < 1 ) || ( order > MAXIMUM_ORDER ) ) {
+            throw new IllegalArgumentException( "Filter order out of range: " + order ); //$NON-NLS-1$
+        }
+
+        // Collect one pole of each complex conjugate pair, plus the real poles.
+        final List< Complex > poles = new ArrayList<>( order );
+        double gain = 1.0d;
+        switch ( family ) {
+        case BUTTERWORTH:
+            addButterworthPoles( order, poles );
+            break;
+        case LINKWITZ_RILEY:
+            if ( ( order % 2 ) != 0 ) {
+                throw new IllegalArgumentException( "Linkwitz-Riley order must be even: " //$NON-NLS-1$
+                        + order );
+            }
+            addButterworthPoles( order / 2, poles );
+            addButterworthPoles( order / 2, poles );
+            break;
+        case BESSEL:
+            addBesselPoles( order, poles );
+            break;
+        case CHEBYSHEV:
+            if ( rippleDb <= 0.0d ) {
+                throw new IllegalArgumentException( "Chebyshev ripple must be positive: " //$NON-NLS-1$
+                        + rippleDb );
+            }
+            final double epsilonSquared = FastMath.pow( 10.0d, 0.1d * rippleDb ) - 1.0d;
+            addChebyshevPoles( order, FastMath.sqrt( epsilonSquared ), poles );
+
+            // Even orders start at the bottom of the ripple, so that the peak
+            // gain in the pass band is unity.
+            if ( ( order % 2 ) == 0 ) {
+                gain = 1.0d / FastMath.sqrt( 1.0d + epsilonSquared );
+            }
+            break;
+        default:
+            throw new IllegalArgumentException( "Unexpected analog prototype family: " + family ); //$NON-NLS-1$
+        }
+
+        final double[][] sections = getSections( poles, order );
+        sections[ 0 ][ 2 ] *= gain;
+
+        return sections;
+    }
+
+    /**
+     * Returns the analog high pass prototype, with its cutoff at 1 rad/s,
+     * which is the low pass prototype with s replaced by 1/s.
+     *
+     * @param family
+     *            The analog prototype family
+     * @param order
+     *            The filter order
+     * @param rippleDb
+     *            The pass band ripple in decibels, which only applies to
+     *            Chebyshev filters
+     * @return The analog sections, each holding A through F
+     */
+    public static double[][] getHighPassSections( final AnalogPrototypeFamily family,
+                                                  final int order,
+                                                  final double rippleDb ) {
+        final double[][] sections = getLowPassSections( family, order, rippleDb );
+
+        for ( final double[] section : sections ) {
+            // A first order section is multiplied through by s, and a second
+            // order section by s^2, which reverses its coefficients.
+            final boolean firstOrder = ( section[ 0 ] == 0.0d ) && ( section[ 3 ] == 0.0d );
+            final int lowIndex = firstOrder ? 1 : 0;
+            swap( section, lowIndex, 2 );
+            swap( section, lowIndex + 3, 5 );
+        }
+
+        return sections;
+    }
+
+    /**
+     * Maps analog sections to the z-domain with the bilinear transform,
+     * pre-warped so that 1 rad/s lands on the given angle.
+     *
+     * @param analogSections
+     *            The analog sections, each holding A through F
+     * @param cutoffAngleRadians
+     *            The angle of the cutoff frequency in the z-plane, in radians
+     * @return The normalized biquad cascade
+     */
+    public static BiquadCoefficients getBiquadCoefficients( final double[][] analogSections,
+                                                            final double cutoffAngleRadians ) {
+        final double eqCos = FastMath.cos( cutoffAngleRadians );
+        final double eqSin = FastMath.sin( cutoffAngleRadians );
+        final double oneMinusEqCos = ( 1.0d - eqCos );
+        final double onePlusEqCos = ( 1.0d + eqCos );
+
+        final int numberOfSections = analogSections.length;
+        final double[] b0 = new double[ numberOfSections ];
+        final double[] b1 = new double[ numberOfSections ];
+        final double[] b2 = new double[ numberOfSections ];
+        final double[] a0 = new double[ numberOfSections ];
+        final double[] a1 = new double[ numberOfSections ];
+        final double[] a2 = new double[ numberOfSections ];
+
+        for ( int sectionIndex = 0; sectionIndex < numberOfSections; sectionIndex++ ) {
+            final double[] analogSection = analogSections[ sectionIndex ];
+
+            // A first order section is mapped on its own, as mapping it as a
+            // biquad leaves a cancelling pole and zero on the unit circle at
+            // the Nyquist frequency.
+            if ( ( analogSection[ 0 ] == 0.0d ) && ( analogSection[ 3 ] == 0.0d ) ) {
+                b0[ sectionIndex ] = ( analogSection[ 1 ] * onePlusEqCos ) + ( analogSection[ 2 ] * eqSin );
+                b1[ sectionIndex ] = ( -analogSection[ 1 ] * onePlusEqCos ) + ( analogSection[ 2 ] * eqSin );
+                a0[ sectionIndex ] = ( analogSection[ 4 ] * onePlusEqCos ) + ( analogSection[ 5 ] * eqSin );
+                a1[ sectionIndex ] = ( -analogSection[ 4 ] * onePlusEqCos ) + ( analogSection[ 5 ] * eqSin );
+                continue;
+            }
+
+            // NOTE: The utility method returns the coefficients from z^-2 up.
+            final double[] numerator = DigitalFilterUtilities
+                    .getDigitalBiquadPoleCoefficients( eqSin,
+                                                       oneMinusEqCos,
+                                                       onePlusEqCos,
+                                                       Arrays.copyOfRange( analogSection, 0, 3 ) );
+            final double[] denominator = DigitalFilterUtilities
+                    .getDigitalBiquadPoleCoefficients( eqSin,
+                                                       oneMinusEqCos,
+                                                       onePlusEqCos,
+                                                       Arrays.copyOfRange( analogSection, 3, 6 ) );
+
+            b0[ sectionIndex ] = numerator[ 2 ];
+            b1[ sectionIndex ] = numerator[ 1 ];
+            b2[ sectionIndex ] = numerator[ 0 ];
+            a0[ sectionIndex ] = denominator[ 2 ];
+            a1[ sectionIndex ] = denominator[ 1 ];
+            a2[ sectionIndex ] = denominator[ 0 ];
+        }
+
+        return new BiquadCoefficients( b0, b1, b2, a0, a1, a2 );
+    }
+
+    // Butterworth poles lie evenly spaced on the left half of the unit circle.
+    private static void addButterworthPoles( final int order, final List< Complex > poles ) {
+        for ( int k = 1; k <= ( order / 2 ); k++ ) {
+            final double angle = ( ( ( 2 * k ) - 1 ) * FastMath.PI ) / ( 2.0d * order );
+            poles.add( new Complex( -FastMath.sin( angle ), FastMath.cos( angle ) ) );
+        }
+        if ( ( order % 2 ) != 0 ) {
+            poles.add( new Complex( -1.0d, 0.0d ) );
+        }
+    }
+
+    // Chebyshev poles lie on an ellipse, squeezed from the Butterworth circle
+    // according to the ripple factor.
+    private static void addChebyshevPoles( final int order,
+                                           final double epsilon,
+                                           final List< Complex > poles ) {
+        final double mu = FastMath.asinh( 1.0d / epsilon ) / order;
+        final double sinhMu = FastMath.sinh( mu );
+        final double coshMu = FastMath.cosh( mu );
+
+        for ( int k = 1; k <= ( order / 2 ); k++ ) {
+            final double angle = ( ( ( 2 * k ) - 1 ) * FastMath.PI ) / ( 2.0d * order );
+            poles.add( new Complex( -sinhMu * FastMath.sin( angle ), coshMu * FastMath.cos( angle ) ) );
+        }
+        if ( ( order % 2 ) != 0 ) {
+            poles.add( new Complex( -sinhMu, 0.0d ) );
+        }
+    }
+
+    // Bessel poles are the roots of the reverse Bessel polynomial, which have
+    // no closed form, scaled so that the magnitude is -3 dB at 1 rad/s.
+    private static void addBesselPoles( final int order, final List< Complex > poles ) {
+        // The coefficients are (2n - k)! / (2^(n - k) k! (n - k)!), in
+        // ascending powers of s.
+        final double[] coefficients = new double[ order + 1 ];
+        for ( int k = 0; k <= order; k++ ) {
+            coefficients[ k ] = FastMath.exp( CombinatoricsUtils.factorialLog( ( 2 * order ) - k )
+                    - CombinatoricsUtils.factorialLog( k )
+                    - CombinatoricsUtils.factorialLog( order - k ) )
+                    / FastMath.pow( 2.0d, order - k );
+        }
+
+        final Complex[] roots = new LaguerreSolver().solveAllComplex( coefficients, 0.0d );
+
+        // Find the -3 dB frequency by bisection, as the magnitude falls
+        // monotonically; it lies below the order, as the poles are all within
+        // a circle of that radius.
+        double lowerFrequency = 0.0d;
+        double upperFrequency = order + 1.0d;
+        for ( int iteration = 0; iteration < 100; iteration++ ) {
+            final double frequency = 0.5d * ( lowerFrequency + upperFrequency );
+            double magnitudeSquared = 1.0d;
+            for ( final Complex root : roots ) {
+                final double distanceReal = -root.getReal();
+                final double distanceImaginary = frequency - root.getImaginary();
+                magnitudeSquared *= ( ( root.getReal() * root.getReal() )
+                        + ( root.getImaginary() * root.getImaginary() ) )
+                        / ( ( distanceReal * distanceReal )
+                                + ( distanceImaginary * distanceImaginary ) );
+            }
+            if ( magnitudeSquared > 0.5d ) {
+                lowerFrequency = frequency;
+            }
+            else {
+                upperFrequency = frequency;
+            }
+        }
+        final double scale = 1.0d / ( 0.5d * ( lowerFrequency + upperFrequency ) );
+
+        for ( final Complex root : roots ) {
+            final double tolerance = REAL_POLE_TOLERANCE * root.abs();
+            if ( FastMath.abs( root.getImaginary() ) <= tolerance ) {
+                poles.add( new Complex( root.getReal() * scale, 0.0d ) );
+            }
+            else if ( root.getImaginary() > 0.0d ) {
+                poles.add( root.multiply( scale ) );
+            }
+        }
+    }
+
+    // Group the poles into sections of unity DC gain: real poles first, in
+    // pairs where possible, and then complex pairs from the lowest Q up.
+    private static double[][] getSections( final List< Complex > poles, final int order ) {
+        final List< Complex > realPoles = new ArrayList<>();
+        final List< Complex > complexPoles = new ArrayList<>();
+        for ( final Complex pole : poles ) {
+            if ( pole.getImaginary() == 0.0d ) {
+                realPoles.add( pole );
+            }
+            else {
+                complexPoles.add( pole );
+            }
+        }
+
+        complexPoles.sort( DAMPING_ORDER );
+
+        final double[][] sections = new double[ getNumberOfSections( order ) ][];
+        int sectionIndex = 0;
+
+        // An odd real pole goes in a first order section on its own.
+        int realPoleIndex = 0;
+        if ( ( realPoles.size() % 2 ) != 0 ) {
+            final double pole = realPoles.get( 0 ).getReal();
+            sections[ sectionIndex++ ] = new double[] { 0.0d, 0.0d, -pole, 0.0d, 1.0d, -pole };
+            realPoleIndex = 1;
+        }
+        for ( ; realPoleIndex < realPoles.size(); realPoleIndex += 2 ) {
+            final double pole1 = realPoles.get( realPoleIndex ).getReal();
+            final double pole2 = realPoles.get( realPoleIndex + 1 ).getReal();
+            final double product = pole1 * pole2;
+            sections[ sectionIndex++ ] =
+                    new double[] { 0.0d, 0.0d, product, 1.0d, -( pole1 + pole2 ), product };
+        }
+
+        for ( final Complex pole : complexPoles ) {
+            final double normSquared = ( pole.getReal() * pole.getReal() )
+                    + ( pole.getImaginary() * pole.getImaginary() );
+            sections[ sectionIndex++ ] = new double[] { 0.0d,
+                                                        0.0d,
+                                                        normSquared,
+                                                        1.0d,
+                                                        -2.0d * pole.getReal(),
+                                                        normSquared };
+        }
+
+        return sections;
+    }
+
+    private static void swap( final double[] values, final int index1, final int index2 ) {
+        final double value = values[ index1 ];
+        values[ index1 ] = values[ index2 ];
+        values[ index2 ] = value;
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+/**
+ * The families of analog low pass prototypes that {@link AnalogPrototypeDesigner}
+ * knows how to place the poles for.
+ */
+public enum AnalogPrototypeFamily {
+    /**
+     * Maximally flat magnitude, -3 dB at the cutoff frequency.
+     */
+    BUTTERWORTH,
+
+    /**
+     * A Butterworth filter of half the order, squared, which is -6 dB at the
+     * cutoff frequency so that its low pass and high pass sum flat. The order
+     * must be even.
+     */
+    LINKWITZ_RILEY,
+
+    /**
+     * Maximally flat group delay, normalized to -3 dB at the cutoff frequency.
+     */
+    BESSEL,
+
+    /**
+     * Chebyshev Type I, with equiripple in the pass band, whose pass band
+     * edge is at the cutoff frequency.
+     */
+    CHEBYSHEV;
+
+    public static AnalogPrototypeFamily defaultValue() {
+        return BUTTERWORTH;
+    }
+}
@@ -0,0 +1,250 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+/**
+ * A time-domain cascade of biquad sections, in Transposed Direct Form II.
+ * <p>
+ * Each instance holds the filter state for a single channel, so one cascade
+ * is needed per channel even when several channels share the same filter
+ * settings. Coefficients are supplied as immutable {@link BiquadCoefficients}
+ * snapshots, which any thread may publish at any time; the processing thread
+ * picks up the latest snapshot at the start of each block, so it never sees
+ * a mix of old and new coefficients and never needs a lock.
+ * <p>
+ * When interpolation is requested, the coefficients are ramped linearly from
+ * the previous snapshot to the new one across the first block, which avoids
+ * zipper noise during parameter automation. Sections are applied one after
+ * the other across the whole block, and processing never allocates.
+ */
+public final class BiquadCascade {
+
+    // State values smaller than this are flushed to zero after each block, to
+    // avoid the heavy cost of denormal arithmetic when the input decays.
+    private static final double         DENORMAL_THRESHOLD = 1.0E-30d;
+
+    // The number of sections that state is allocated for.
+    private final int                   _maximumNumberOfSections;
+
+    // The latest published snapshot, paired with whether to ramp towards it,
+    // so that a single volatile read sees both from the same publication.
+    private volatile PendingCoefficients _pendingCoefficients;
+
+    // The snapshot in use by the processing thread.
+    private BiquadCoefficients           _coefficients;
+
+    // Transposed Direct Form II state, per section.
+    private final double[]               _s1;
+    private final double[]               _s2;
+
+    // This is the fully qualified constructor; the cascade starts out as a
+    // pass-through, until coefficients are set.
+    public BiquadCascade( final int maximumNumberOfSections ) {
+        _maximumNumberOfSections = maximumNumberOfSections;
+
+        _pendingCoefficients = new PendingCoefficients( BiquadCoefficients.IDENTITY, false );
+        _coefficients = BiquadCoefficients.IDENTITY;
+
+        _s1 = new double[ maximumNumberOfSections ];
+        _s2 = new double[ maximumNumberOfSections ];
+    }
+
+    // This is the convenience constructor for a cascade that is sized for,
+    // and initially loaded with, the given coefficients.
+    public BiquadCascade( final BiquadCoefficients biquadCoefficients ) {
+        this( biquadCoefficients.getNumberOfSections() );
+
+        _pendingCoefficients = new PendingCoefficients( biquadCoefficients, false );
+        _coefficients = biquadCoefficients;
+    }
+
+    public int getMaximumNumberOfSections() {
+        return _maximumNumberOfSections;
+    }
+
+    // Return the most recently published coefficients.
+    public BiquadCoefficients getCoefficients() {
+        return _pendingCoefficients._coefficients;
+    }
+
+    /**
+     * Publishes new coefficients, which take effect at the start of the next
+     * processed block. This may be called from any thread.
+     * <p>
+     * The filter state is kept, so that coefficient changes during playback
+     * do not cause a discontinuity beyond that of the new response itself.
+     *
+     * @param biquadCoefficients
+     *            The new coefficient snapshot
+     * @param interpolate
+     *            Flag for whether to ramp from the current coefficients over
+     *            the next block, which only applies if the number of sections
+     *            is unchanged
+     */
+    public void setCoefficients( final BiquadCoefficients biquadCoefficients,
+                                 final boolean interpolate ) {
+        if ( biquadCoefficients.getNumberOfSections() > _maximumNumberOfSections ) {
+            throw new IllegalArgumentException( "Too many biquad sections: " //$NON-NLS-1$
+                    + biquadCoefficients.getNumberOfSections() );
+        }
+
+        _pendingCoefficients = new PendingCoefficients( biquadCoefficients, interpolate );
+    }
+
+    // Publishes new coefficients without interpolation.
+    public void setCoefficients( final BiquadCoefficients biquadCoefficients ) {
+        setCoefficients( biquadCoefficients, false );
+    }
+
+    /**
+     * Clears the filter state, such as when starting a new, unrelated signal.
+     * This must only be called from the processing thread.
+     */
+    public void reset() {
+        Arrays.fill( _s1, 0.0d );
+        Arrays.fill( _s2, 0.0d );
+    }
+
+    /**
+     * Filters a block of samples through all of the sections in use.
+     * <p>
+     * The input and output arrays may be the same array, for in-place
+     * processing.
+     *
+     * @param in
+     *            The input samples
+     * @param out
+     *            The output samples
+     * @param offset
+     *            The index of the first sample to process, in both arrays
+     * @param length
+     *            The number of samples to process
+     */
+    public void process( final float[] in, final float[] out, final int offset, final int length ) {
+        // An empty block must not consume a pending snapshot, as there would
+        // be no samples to ramp across and the interpolation would be lost.
+        if ( length <= 0 ) {
+            return;
+        }
+
+        // Pick up the latest snapshot once per block.
+        final BiquadCoefficients previous = _coefficients;
+        final PendingCoefficients pendingCoefficients = _pendingCoefficients;
+        final BiquadCoefficients current = pendingCoefficients._coefficients;
+        final boolean interpolate = pendingCoefficients._interpolate && ( current != previous )
+                && ( current.getNumberOfSections() == previous.getNumberOfSections() );
+        _coefficients = current;
+
+        final int numberOfSections = current.getNumberOfSections();
+        if ( numberOfSections == 0 ) {
+            if ( in != out ) {
+                System.arraycopy( in, offset, out, offset, length );
+            }
+            return;
+        }
+
+        final int end = offset + length;
+        final double rampScale = interpolate ? 1.0d / length : 0.0d;
+
+        // The first section reads from the input; the rest work in place.
+        float[] source = in;
+        for ( int sectionIndex = 0; sectionIndex < numberOfSections; sectionIndex++ ) {
+            final double b0Target = current.getB0( sectionIndex );
+            final double b1Target = current.getB1( sectionIndex );
+            final double b2Target = current.getB2( sectionIndex );
+            final double a1Target = current.getA1( sectionIndex );
+            final double a2Target = current.getA2( sectionIndex );
+
+            double s1 = _s1[ sectionIndex ];
+            double s2 = _s2[ sectionIndex ];
+
+            if ( interpolate ) {
+                // Ramp each coefficient so that it lands exactly on the
+                // target at the end of the block.
+                double b0 = previous.getB0( sectionIndex );
+                double b1 = previous.getB1( sectionIndex );
+                double b2 = previous.getB2( sectionIndex );
+                double a1 = previous.getA1( sectionIndex );
+                double a2 = previous.getA2( sectionIndex );
+                final double b0Step = ( b0Target - b0 ) * rampScale;
+                final double b1Step = ( b1Target - b1 ) * rampScale;
+                final double b2Step = ( b2Target - b2 ) * rampScale;
+                final double a1Step = ( a1Target - a1 ) * rampScale;
+                final double a2Step = ( a2Target - a2 ) * rampScale;
+
+                for ( int sampleIndex = offset; sampleIndex < end; sampleIndex++ ) {
+                    b0 += b0Step;
+                    b1 += b1Step;
+                    b2 += b2Step;
+                    a1 += a1Step;
+                    a2 += a2Step;
+
+                    final double x = source[ sampleIndex ];
+                    final double y = ( b0 * x ) + s1;
+                    s1 = ( ( b1 * x ) - ( a1 * y ) ) + s2;
+                    s2 = ( b2 * x ) - ( a2 * y );
+                    out[ sampleIndex ] = ( float ) y;
+                }
+            }
+            else {
+                for ( int sampleIndex = offset; sampleIndex < end; sampleIndex++ ) {
+                    final double x = source[ sampleIndex ];
+                    final double y = ( b0Target * x ) + s1;
+                    s1 = ( ( b1Target * x ) - ( a1Target * y ) ) + s2;
+                    s2 = ( b2Target * x ) - ( a2Target * y );
+                    out[ sampleIndex ] = ( float ) y;
+                }
+            }
+
+            _s1[ sectionIndex ] = ( FastMath.abs( s1 ) < DENORMAL_THRESHOLD ) ? 0.0d : s1;
+            _s2[ sectionIndex ] = ( FastMath.abs( s2 ) < DENORMAL_THRESHOLD ) ? 0.0d : s2;
+
+            source = out;
+        }
+    }
+
+    // A published snapshot, with whether to ramp towards it; this is
+    // immutable, so that it can be handed over through one volatile field.
+    private static final class PendingCoefficients {
+
+        private final BiquadCoefficients _coefficients;
+        private final boolean            _interpolate;
+
+        PendingCoefficients( final BiquadCoefficients coefficients, final boolean interpolate ) {
+            _coefficients = coefficients;
+            _interpolate = interpolate;
+        }
+    }
+}
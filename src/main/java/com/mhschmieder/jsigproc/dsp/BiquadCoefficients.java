@@ -0,0 +1,608 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An immutable snapshot of the coefficients of a cascade of biquad sections.
+ * <p>
+ * Filters publish a new snapshot through a single volatile reference every
+ * time their parameters change, so that evaluation and audio threads always
+ * see one consistent generation of coefficients without taking any locks.
+ * Coefficients are normalized by a0 on construction, so a0 is implicitly 1.
+ * <p>
+ * The numerator and denominator follow the z^-1 convention used throughout
+ * this library: H(z) = (b0 + b1 z^-1 + b2 z^-2) / (1 + a1 z^-1 + a2 z^-2).
+ */
+public final class BiquadCoefficients {
+
+    /**
+     * The empty cascade, which passes its input through unchanged.
+     */
+    public static final BiquadCoefficients IDENTITY = new BiquadCoefficients( new double[ 0 ],
+                                                                              new double[ 0 ],
+                                                                              new double[ 0 ],
+                                                                              new double[ 0 ],
+                                                                              new double[ 0 ],
+                                                                              new double[ 0 ] );
+
+    // The rounding allowed in b0 for a section to count as the identity.
+    private static final double            IDENTITY_TOLERANCE = 2.0d * FastMath.ulp( 1.0d );
+
+    // Normalized coefficients, per section.
+    private final double[]                 _b0;
+    private final double[]                 _b1;
+    private final double[]                 _b2;
+    private final double[]                 _a1;
+    private final double[]                 _a2;
+
+    // Per-section constants of the squared magnitudes of the numerator and
+    // denominator on the unit circle, as quadratics c0 + c1 p + c2 p^2 in
+    // p = sin^2(w/2), which stay well conditioned near DC where the poles of
+    // low frequency sections nearly cancel the cos(w) terms.
+    private final double[]                 _numeratorNorm0;
+    private final double[]                 _numeratorNorm1;
+    private final double[]                 _numeratorNorm2;
+    private final double[]                 _denominatorNorm0;
+    private final double[]                 _denominatorNorm1;
+    private final double[]                 _denominatorNorm2;
+
+    /**
+     * Constructs a snapshot from per-section coefficient arrays, which are
+     * copied and normalized by their respective a0 coefficients.
+     *
+     * @param b0
+     *            The numerator coefficients for z^0, per section
+     * @param b1
+     *            The numerator coefficients for z^-1, per section
+     * @param b2
+     *            The numerator coefficients for z^-2, per section
+     * @param a0
+     *            The denominator coefficients for z^0, per section
+     * @param a1
+     *            The denominator coefficients for z^-1, per section
+     * @param a2
+     *            The denominator coefficients for z^-2, per section
+     */
+    public BiquadCoefficients( final double[] b0,
+                               final double[] b1,
+                               final double[] b2,
+                               final double[] a0,
+                               final double[] a1,
+                               final double[] a2 ) {
+        final int numberOfSections = b0.length;
+
+        _b0 = new double[ numberOfSections ];
+        _b1 = new double[ numberOfSections ];
+        _b2 = new double[ numberOfSections ];
+        _a1 = new double[ numberOfSections ];
+        _a2 = new double[ numberOfSections ];
+
+        _numeratorNorm0 = new double[ numberOfSections ];
+        _numeratorNorm1 = new double[ numberOfSections ];
+        _numeratorNorm2 = new double[ numberOfSections ];
+        _denominatorNorm0 = new double[ numberOfSections ];
+        _denominatorNorm1 = new double[ numberOfSections ];
+        _denominatorNorm2 = new double[ numberOfSections ];
+
+        for ( int sectionIndex = 0; sectionIndex < numberOfSections; sectionIndex++ ) {
+            if ( a0[ sectionIndex ] == 0.0d ) {
+                throw new IllegalArgumentException( "Biquad a0 coefficient must be non-zero" ); //$NON-NLS-1$
+            }
+
+            final double a0Reciprocal = 1.0d / a0[ sectionIndex ];
+            _b0[ sectionIndex ] = b0[ sectionIndex ] * a0Reciprocal;
+            _b1[ sectionIndex ] = b1[ sectionIndex ] * a0Reciprocal;
+            _b2[ sectionIndex ] = b2[ sectionIndex ] * a0Reciprocal;
+            _a1[ sectionIndex ] = a1[ sectionIndex ] * a0Reciprocal;
+            _a2[ sectionIndex ] = a2[ sectionIndex ] * a0Reciprocal;
+
+            // |c0 + c1 z^-1 + c2 z^-2|^2 = (c0 + c1 + c2)^2
+            //  - 4 (c0 c1 + 4 c0 c2 + c1 c2) p + 16 c0 c2 p^2
+            final double sectionB0 = _b0[ sectionIndex ];
+            final double sectionB1 = _b1[ sectionIndex ];
+            final double sectionB2 = _b2[ sectionIndex ];
+            final double sectionA1 = _a1[ sectionIndex ];
+            final double sectionA2 = _a2[ sectionIndex ];
+            final double numeratorSum = sectionB0 + sectionB1 + sectionB2;
+            final double denominatorSum = 1.0d + sectionA1 + sectionA2;
+            _numeratorNorm0[ sectionIndex ] = numeratorSum * numeratorSum;
+            _numeratorNorm1[ sectionIndex ] = -4.0d * ( ( sectionB0 * sectionB1 )
+                    + ( 4.0d * sectionB0 * sectionB2 ) + ( sectionB1 * sectionB2 ) );
+            _numeratorNorm2[ sectionIndex ] = 16.0d * sectionB0 * sectionB2;
+            _denominatorNorm0[ sectionIndex ] = denominatorSum * denominatorSum;
+            _denominatorNorm1[ sectionIndex ] = -4.0d
+                    * ( sectionA1 + ( 4.0d * sectionA2 ) + ( sectionA1 * sectionA2 ) );
+            _denominatorNorm2[ sectionIndex ] = 16.0d * sectionA2;
+        }
+    }
+
+    /**
+     * Returns a snapshot for a single biquad section.
+     *
+     * @param b0
+     *            The numerator coefficient for z^0
+     * @param b1
+     *            The numerator coefficient for z^-1
+     * @param b2
+     *            The numerator coefficient for z^-2
+     * @param a0
+     *            The denominator coefficient for z^0
+     * @param a1
+     *            The denominator coefficient for z^-1
+     * @param a2
+     *            The denominator coefficient for z^-2
+     * @return The single-section snapshot
+     */
+    public static BiquadCoefficients fromSection( final double b0,
+                                                  final double b1,
+                                                  final double b2,
+                                                  final double a0,
+                                                  final double a1,
+                                                  final double a2 ) {
+        return new BiquadCoefficients( new double[] { b0 },
+                                       new double[] { b1 },
+                                       new double[] { b2 },
+                                       new double[] { a0 },
+                                       new double[] { a1 },
+                                       new double[] { a2 } );
+    }
+
+    /**
+     * Returns a snapshot that applies the given snapshots one after the other,
+     * such as to fuse a whole channel into a single time-domain cascade.
+     *
+     * @param biquadCoefficients
+     *            The snapshots to concatenate, in processing order
+     * @return The concatenated snapshot
+     */
+    public static BiquadCoefficients concatenate( final BiquadCoefficients... biquadCoefficients ) {
+        int numberOfSections = 0;
+        for ( final BiquadCoefficients coefficients : biquadCoefficients ) {
+            numberOfSections += coefficients.getNumberOfSections();
+        }
+
+        final double[] b0 = new double[ numberOfSections ];
+        final double[] b1 = new double[ numberOfSections ];
+        final double[] b2 = new double[ numberOfSections ];
+        final double[] a0 = new double[ numberOfSections ];
+        final double[] a1 = new double[ numberOfSections ];
+        final double[] a2 = new double[ numberOfSections ];
+
+        int sectionIndex = 0;
+        for ( final BiquadCoefficients coefficients : biquadCoefficients ) {
+            for ( int i = 0; i < coefficients.getNumberOfSections(); i++ ) {
+                b0[ sectionIndex ] = coefficients._b0[ i ];
+                b1[ sectionIndex ] = coefficients._b1[ i ];
+                b2[ sectionIndex ] = coefficients._b2[ i ];
+                a0[ sectionIndex ] = 1.0d;
+                a1[ sectionIndex ] = coefficients._a1[ i ];
+                a2[ sectionIndex ] = coefficients._a2[ i ];
+                sectionIndex++;
+            }
+        }
+
+        return new BiquadCoefficients( b0, b1, b2, a0, a1, a2 );
+    }
+
+    /**
+     * Returns a snapshot without any sections whose numerator equals their
+     * denominator, as those pass their input through unchanged but would
+     * still be evaluated on every bin and every sample.
+     *
+     * @return The compacted snapshot, or this snapshot if it has no identity
+     *         sections
+     */
+    public BiquadCoefficients withoutIdentitySections() {
+        final int numberOfSections = getNumberOfSections();
+        int numberOfActiveSections = 0;
+        for ( int sectionIndex = 0; sectionIndex < numberOfSections; sectionIndex++ ) {
+            if ( !isIdentitySection( sectionIndex ) ) {
+                numberOfActiveSections++;
+            }
+        }
+        if ( numberOfActiveSections == numberOfSections ) {
+            return this;
+        }
+
+        final double[] b0 = new double[ numberOfActiveSections ];
+        final double[] b1 = new double[ numberOfActiveSections ];
+        final double[] b2 = new double[ numberOfActiveSections ];
+        final double[] a0 = new double[ numberOfActiveSections ];
+        final double[] a1 = new double[ numberOfActiveSections ];
+        final double[] a2 = new double[ numberOfActiveSections ];
+
+        int activeSectionIndex = 0;
+        for ( int sectionIndex = 0; sectionIndex < numberOfSections; sectionIndex++ ) {
+            if ( isIdentitySection( sectionIndex ) ) {
+                continue;
+            }
+            b0[ activeSectionIndex ] = _b0[ sectionIndex ];
+            b1[ activeSectionIndex ] = _b1[ sectionIndex ];
+            b2[ activeSectionIndex ] = _b2[ sectionIndex ];
+            a0[ activeSectionIndex ] = 1.0d;
+            a1[ activeSectionIndex ] = _a1[ sectionIndex ];
+            a2[ activeSectionIndex ] = _a2[ sectionIndex ];
+            activeSectionIndex++;
+        }
+
+        return new BiquadCoefficients( b0, b1, b2, a0, a1, a2 );
+    }
+
+    // A section is the identity when its normalized numerator matches its
+    // denominator, which is the case for the padding sections of the legacy
+    // filter tables as both are computed by the same arithmetic. Only b0 can
+    // be off, by the rounding of a0 times its own reciprocal.
+    private boolean isIdentitySection( final int sectionIndex ) {
+        return ( FastMath.abs( _b0[ sectionIndex ] - 1.0d ) <= IDENTITY_TOLERANCE )
+                && ( _b1[ sectionIndex ] == _a1[ sectionIndex ] )
+                && ( _b2[ sectionIndex ] == _a2[ sectionIndex ] );
+    }
+
+    public int getNumberOfSections() {
+        return _b0.length;
+    }
+
+    public double getB0( final int sectionIndex ) {
+        return _b0[ sectionIndex ];
+    }
+
+    public double getB1( final int sectionIndex ) {
+        return _b1[ sectionIndex ];
+    }
+
+    public double getB2( final int sectionIndex ) {
+        return _b2[ sectionIndex ];
+    }
+
+    public double getA1( final int sectionIndex ) {
+        return _a1[ sectionIndex ];
+    }
+
+    public double getA2( final int sectionIndex ) {
+        return _a2[ sectionIndex ];
+    }
+
+    /**
+     * Evaluates the cascade's frequency response at a single point of the
+     * z-plane, writing the interleaved result at the given offset.
+     * <p>
+     * This is the actual response N/D rather than its conjugate. The
+     * numerators and denominators of all sections are accumulated separately,
+     * so that a single complex division is made for the whole cascade; if the
+     * composite denominator vanishes at this point, the response is unity.
+     *
+     * @param zMinusOneReal
+     *            The real part of z^-1
+     * @param zMinusOneImaginary
+     *            The imaginary part of z^-1
+     * @param zMinusTwoReal
+     *            The real part of z^-2
+     * @param zMinusTwoImaginary
+     *            The imaginary part of z^-2
+     * @param h
+     *            The array to receive the interleaved real and imaginary parts
+     * @param offset
+     *            The offset of the real part in the result array
+     */
+    public void getH( final double zMinusOneReal,
+                      final double zMinusOneImaginary,
+                      final double zMinusTwoReal,
+                      final double zMinusTwoImaginary,
+                      final double[] h,
+                      final int offset ) {
+        // Combine all of the sections into a single numerator and denominator.
+        double numeratorReal = 1.0d;
+        double numeratorImaginary = 0.0d;
+        double denominatorReal = 1.0d;
+        double denominatorImaginary = 0.0d;
+        for ( int sectionIndex = 0; sectionIndex < _b0.length; sectionIndex++ ) {
+            final double sectionNumeratorReal = _b0[ sectionIndex ]
+                    + ( _b1[ sectionIndex ] * zMinusOneReal )
+                    + ( _b2[ sectionIndex ] * zMinusTwoReal );
+            final double sectionNumeratorImaginary = ( _b1[ sectionIndex ] * zMinusOneImaginary )
+                    + ( _b2[ sectionIndex ] * zMinusTwoImaginary );
+            final double sectionDenominatorReal = 1.0d + ( _a1[ sectionIndex ] * zMinusOneReal )
+                    + ( _a2[ sectionIndex ] * zMinusTwoReal );
+            final double sectionDenominatorImaginary = ( _a1[ sectionIndex ] * zMinusOneImaginary )
+                    + ( _a2[ sectionIndex ] * zMinusTwoImaginary );
+
+            final double numeratorProductReal = ( numeratorReal * sectionNumeratorReal )
+                    - ( numeratorImaginary * sectionNumeratorImaginary );
+            numeratorImaginary = ( numeratorReal * sectionNumeratorImaginary )
+                    + ( numeratorImaginary * sectionNumeratorReal );
+            numeratorReal = numeratorProductReal;
+
+            final double denominatorProductReal = ( denominatorReal * sectionDenominatorReal )
+                    - ( denominatorImaginary * sectionDenominatorImaginary );
+            denominatorImaginary = ( denominatorReal * sectionDenominatorImaginary )
+                    + ( denominatorImaginary * sectionDenominatorReal );
+            denominatorReal = denominatorProductReal;
+        }
+
+        // NOTE: Avoid divide by zero exceptions!
+        if ( ComplexArithmetic.getNorm( denominatorReal, denominatorImaginary ) == 0.0d ) {
+            h[ offset + ComplexArithmetic.REAL ] = 1.0d;
+            h[ offset + ComplexArithmetic.IMAGINARY ] = 0.0d;
+            return;
+        }
+
+        // Result = numerator / denominator
+        ComplexArithmetic.divide( numeratorReal,
+                                  numeratorImaginary,
+                                  denominatorReal,
+                                  denominatorImaginary,
+                                  h,
+                                  offset );
+    }
+
+    /**
+     * Multiplies the cascade's frequency response at a range of bins of a
+     * precomputed z-domain table into the supplied accumulators.
+     * <p>
+     * As with the single-frequency filter methods, the conjugate of the
+     * response is returned, to match the library's delay sign convention.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param hReal
+     *            The accumulator for the real part of the response
+     * @param hImaginary
+     *            The accumulator for the imaginary part of the response
+     */
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        final double[] h = new double[ 2 ];
+
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            getH( zDomainTable.getZMinusOneReal( binIndex ),
+                  zDomainTable.getZMinusOneImaginary( binIndex ),
+                  zDomainTable.getZMinusTwoReal( binIndex ),
+                  zDomainTable.getZMinusTwoImaginary( binIndex ),
+                  h,
+                  0 );
+
+            // Return the conjugate, as with the single-frequency methods.
+            ComplexArithmetic.multiplyInto( hReal,
+                                            hImaginary,
+                                            binIndex,
+                                            h[ ComplexArithmetic.REAL ],
+                                            -h[ ComplexArithmetic.IMAGINARY ] );
+        }
+    }
+
+    /**
+     * Multiplies the cascade's frequency response at a range of bins of a
+     * precomputed z-domain table into the supplied single precision
+     * accumulators, such as for coarse visualization sweeps over many
+     * channels where the output arrays dominate the memory traffic.
+     * <p>
+     * The response is evaluated in double precision and rounded once into
+     * the accumulators, so each cascade multiplied in adds a relative error
+     * of at most 2^-23 (about 1.0e-6 dB in magnitude and 1.2e-7 radians in
+     * phase) to what the double precision method would produce.
+     * <p>
+     * NOTE: The sections are deliberately not evaluated in float arithmetic,
+     * as the denominators of low frequency sections nearly cancel on the unit
+     * circle close to DC, which would cost several digits in float.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param hReal
+     *            The accumulator for the real part of the response
+     * @param hImaginary
+     *            The accumulator for the imaginary part of the response
+     */
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        final double[] h = new double[ 2 ];
+
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            getH( zDomainTable.getZMinusOneReal( binIndex ),
+                  zDomainTable.getZMinusOneImaginary( binIndex ),
+                  zDomainTable.getZMinusTwoReal( binIndex ),
+                  zDomainTable.getZMinusTwoImaginary( binIndex ),
+                  h,
+                  0 );
+
+            // Return the conjugate, as with the single-frequency methods.
+            ComplexArithmetic.multiplyInto( hReal,
+                                            hImaginary,
+                                            binIndex,
+                                            h[ ComplexArithmetic.REAL ],
+                                            -h[ ComplexArithmetic.IMAGINARY ] );
+        }
+    }
+
+    /**
+     * Multiplies the cascade's frequency response at a range of bins of a
+     * precomputed z-domain table into the supplied accumulators in polar
+     * form, along with its group delay, in one pass over the bins.
+     * <p>
+     * Each section's numerator and denominator c0 + c1 z^-1 + c2 z^-2 is
+     * evaluated on the unit circle as z^-1 (u + jv), with
+     * u = c1 + (c0 + c2) cos(w) and v = (c0 - c2) sin(w). As v never changes
+     * sign between DC and Nyquist, the phase of each factor is continuous
+     * there, so the summed phase is unwrapped without any search, and its
+     * derivative (c0 - c2) (c0 + c2 + c1 cos(w)) / (u^2 + v^2) gives the
+     * group delay analytically rather than by differencing neighboring bins.
+     * <p>
+     * As with the complex methods, the phase is that of the conjugate of the
+     * response, so that a pure delay has a positive phase and a positive
+     * group delay.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param magnitude
+     *            The accumulator that the magnitude is multiplied into
+     * @param phaseRadians
+     *            The accumulator that the unwrapped phase (in radians) is
+     *            added to
+     * @param groupDelaySeconds
+     *            The accumulator that the group delay (in seconds) is added to
+     */
+    public void multiplyPolarH( final ZDomainTable zDomainTable,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        final double samplingFrequencyHz = zDomainTable.getSamplingFrequencyHz();
+
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            // As z lies on the unit circle, z^-1 = cos(w) - j sin(w).
+            final double cosOmega = zDomainTable.getZMinusOneReal( binIndex );
+            final double sinOmega = -zDomainTable.getZMinusOneImaginary( binIndex );
+
+            double normRatio = 1.0d;
+            double phase = 0.0d;
+            double groupDelaySamples = 0.0d;
+            for ( int sectionIndex = 0; sectionIndex < _b0.length; sectionIndex++ ) {
+                final double b0 = _b0[ sectionIndex ];
+                final double b1 = _b1[ sectionIndex ];
+                final double b2 = _b2[ sectionIndex ];
+                final double a1 = _a1[ sectionIndex ];
+                final double a2 = _a2[ sectionIndex ];
+
+                final double numeratorU = b1 + ( ( b0 + b2 ) * cosOmega );
+                final double numeratorV = ( b0 - b2 ) * sinOmega;
+                final double denominatorU = a1 + ( ( 1.0d + a2 ) * cosOmega );
+                final double denominatorV = ( 1.0d - a2 ) * sinOmega;
+
+                final double numeratorNorm = ComplexArithmetic.getNorm( numeratorU, numeratorV );
+                final double denominatorNorm = ComplexArithmetic.getNorm( denominatorU,
+                                                                          denominatorV );
+
+                // NOTE: Avoid divide by zero exceptions! A pole on the unit
+                //  circle leaves the section out, as the evaluation of the
+                //  complex response does for the whole cascade.
+                if ( denominatorNorm == 0.0d ) {
+                    continue;
+                }
+                normRatio *= numeratorNorm / denominatorNorm;
+
+                // The conjugate's phase is that of the denominator less that
+                // of the numerator, as the common z^-1 factors cancel.
+                phase += FastMath.atan2( denominatorV, denominatorU )
+                        - FastMath.atan2( numeratorV, numeratorU );
+
+                // A zero on the unit circle has no defined group delay at the
+                // bin it sits on, so it contributes nothing there.
+                groupDelaySamples += ( ( 1.0d - a2 ) * ( 1.0d + a2 + ( a1 * cosOmega ) ) )
+                        / denominatorNorm;
+                if ( numeratorNorm != 0.0d ) {
+                    groupDelaySamples -= ( ( b0 - b2 ) * ( b0 + b2 + ( b1 * cosOmega ) ) )
+                            / numeratorNorm;
+                }
+            }
+
+            magnitude[ binIndex ] *= FastMath.sqrt( normRatio );
+            phaseRadians[ binIndex ] += phase;
+            groupDelaySeconds[ binIndex ] += groupDelaySamples / samplingFrequencyHz;
+        }
+    }
+
+    /**
+     * Multiplies the squared magnitude of the cascade's frequency response at
+     * a range of bins of a precomputed z-domain table into the supplied
+     * accumulator, for sweeps that only need the magnitude (such as in dB).
+     * <p>
+     * The squared magnitude of each section is a ratio of real quadratics in
+     * sin^2(w/2), whose coefficients are computed once per snapshot, so no
+     * complex arithmetic is needed per bin; as with the complex methods, the
+     * numerators and denominators of all sections are accumulated separately
+     * so that a single division is made per bin, and a bin at which the
+     * composite denominator vanishes is left untouched.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param magnitudeSquared
+     *            The accumulator that the squared magnitude is multiplied into
+     */
+    public void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            // As z lies on the unit circle, z^-1 = cos(w) - j sin(w). Below
+            // a quarter of the sampling frequency, sin^2(w/2) is taken from
+            // sin(w) rather than 1 - cos(w), which would cancel near DC.
+            final double cosOmega = zDomainTable.getZMinusOneReal( binIndex );
+            final double sinOmega = zDomainTable.getZMinusOneImaginary( binIndex );
+            final double p = ( cosOmega >= 0.0d )
+                ? ( sinOmega * sinOmega ) / ( 2.0d * ( 1.0d + cosOmega ) )
+                : 0.5d * ( 1.0d - cosOmega );
+
+            double numeratorNorm = 1.0d;
+            double denominatorNorm = 1.0d;
+            for ( int sectionIndex = 0; sectionIndex < _b0.length; sectionIndex++ ) {
+                numeratorNorm *= _numeratorNorm0[ sectionIndex ]
+                        + ( p * ( _numeratorNorm1[ sectionIndex ]
+                                + ( p * _numeratorNorm2[ sectionIndex ] ) ) );
+                denominatorNorm *= _denominatorNorm0[ sectionIndex ]
+                        + ( p * ( _denominatorNorm1[ sectionIndex ]
+                                + ( p * _denominatorNorm2[ sectionIndex ] ) ) );
+            }
+
+            // NOTE: Avoid divide by zero exceptions!
+            if ( denominatorNorm <= 0.0d ) {
+                continue;
+            }
+
+            // Rounding can take a norm just below zero at a zero of the
+            // numerator on the unit circle.
+            magnitudeSquared[ binIndex ] *= FastMath.max( numeratorNorm, 0.0d ) / denominatorNorm;
+        }
+    }
+}
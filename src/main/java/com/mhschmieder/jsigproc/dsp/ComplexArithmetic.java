@@ -0,0 +1,145 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+/**
+ * Allocation-free complex arithmetic on paired primitive doubles, for the
+ * inner loops of filter evaluation.
+ * <p>
+ * Results are written to a caller-supplied array, either as an interleaved
+ * real/imaginary pair at a given offset or into split real and imaginary
+ * accumulators. Unlike {@link org.apache.commons.math3.complex.Complex}, no
+ * NaN or infinity checks are made, so callers are responsible for avoiding
+ * zero denominators where that matters; in return, everything inlines and
+ * stays in registers. The {@code Complex} class remains in use at the public
+ * API boundary only.
+ */
+public final class ComplexArithmetic {
+
+    // Offset of the real part in an interleaved pair.
+    public static final int REAL      = 0;
+
+    // Offset of the imaginary part in an interleaved pair.
+    public static final int IMAGINARY = 1;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private ComplexArithmetic() {}
+
+    // Get the squared magnitude (norm) of a complex number.
+    public static double getNorm( final double real, final double imaginary ) {
+        return ( real * real ) + ( imaginary * imaginary );
+    }
+
+    // Multiply two complex numbers, writing the interleaved result at offset.
+    public static void multiply( final double aReal,
+                                 final double aImaginary,
+                                 final double bReal,
+                                 final double bImaginary,
+                                 final double[] result,
+                                 final int offset ) {
+        result[ offset + REAL ] = ( aReal * bReal ) - ( aImaginary * bImaginary );
+        result[ offset + IMAGINARY ] = ( aReal * bImaginary ) + ( aImaginary * bReal );
+    }
+
+    // Divide two complex numbers, writing the interleaved result at offset.
+    // NOTE: A zero denominator produces NaN or infinite parts, so callers
+    //  should check the denominator norm first where that matters.
+    public static void divide( final double numeratorReal,
+                               final double numeratorImaginary,
+                               final double denominatorReal,
+                               final double denominatorImaginary,
+                               final double[] result,
+                               final int offset ) {
+        final double denominatorNorm = getNorm( denominatorReal, denominatorImaginary );
+        result[ offset + REAL ] = ( ( numeratorReal * denominatorReal )
+                + ( numeratorImaginary * denominatorImaginary ) ) / denominatorNorm;
+        result[ offset + IMAGINARY ] = ( ( numeratorImaginary * denominatorReal )
+                - ( numeratorReal * denominatorImaginary ) ) / denominatorNorm;
+    }
+
+    // Get the reciprocal of a complex number, writing the interleaved result
+    // at offset.
+    public static void reciprocal( final double real,
+                                   final double imaginary,
+                                   final double[] result,
+                                   final int offset ) {
+        final double norm = getNorm( real, imaginary );
+        result[ offset + REAL ] = real / norm;
+        result[ offset + IMAGINARY ] = -imaginary / norm;
+    }
+
+    // Evaluate the quadratic c0 + c1 x + c2 x^2 for a complex variable whose
+    // square is supplied as well, writing the interleaved result at offset.
+    public static void evaluateQuadratic( final double c0,
+                                          final double c1,
+                                          final double c2,
+                                          final double xReal,
+                                          final double xImaginary,
+                                          final double xSquaredReal,
+                                          final double xSquaredImaginary,
+                                          final double[] result,
+                                          final int offset ) {
+        result[ offset + REAL ] = c0 + ( c1 * xReal ) + ( c2 * xSquaredReal );
+        result[ offset + IMAGINARY ] = ( c1 * xImaginary ) + ( c2 * xSquaredImaginary );
+    }
+
+    // Multiply a complex number into one bin of a pair of split real and
+    // imaginary accumulators.
+    public static void multiplyInto( final double[] hReal,
+                                     final double[] hImaginary,
+                                     final int index,
+                                     final double real,
+                                     final double imaginary ) {
+        final double accumulatorReal = hReal[ index ];
+        final double accumulatorImaginary = hImaginary[ index ];
+        hReal[ index ] = ( accumulatorReal * real ) - ( accumulatorImaginary * imaginary );
+        hImaginary[ index ] = ( accumulatorReal * imaginary ) + ( accumulatorImaginary * real );
+    }
+
+    // Multiply a complex number into one bin of a pair of split real and
+    // imaginary single precision accumulators. The product is formed in
+    // double precision and rounded once, so each call adds at most one float
+    // rounding (2^-24 relative) to each part.
+    public static void multiplyInto( final float[] hReal,
+                                     final float[] hImaginary,
+                                     final int index,
+                                     final double real,
+                                     final double imaginary ) {
+        final double accumulatorReal = hReal[ index ];
+        final double accumulatorImaginary = hImaginary[ index ];
+        hReal[ index ] = ( float ) ( ( accumulatorReal * real )
+                - ( accumulatorImaginary * imaginary ) );
+        hImaginary[ index ] = ( float ) ( ( accumulatorReal * imaginary )
+                + ( accumulatorImaginary * real ) );
+    }
+}
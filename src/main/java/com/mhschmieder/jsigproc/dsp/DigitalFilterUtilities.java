@@ -61,6 +61,25 @@ public class DigitalFilterUtilities {
         return z;
     }
 
+    // Convert a frequency (in Hertz) to the z^-1 and z^-2 terms of the
+    // z-Domain (digital), written as two interleaved complex pairs at the
+    // given offset, so that single-bin evaluation needn't allocate.
+    public static void convertFrequencyToZDomainPowers( final double poleFrequencyHz,
+                                                        final double samplingFrequencyHz,
+                                                        final double[] zPowers,
+                                                        final int offset ) {
+        // Theta is the angle to the pole frequency, in the z-plane.
+        final double poleAngleRadians = getPoleAngleRadians( poleFrequencyHz, samplingFrequencyHz );
+        final double cosTheta = FastMath.cos( poleAngleRadians );
+        final double sinTheta = FastMath.sin( poleAngleRadians );
+
+        // As z lies on the unit circle, its reciprocal is its conjugate.
+        zPowers[ offset ] = cosTheta;
+        zPowers[ offset + 1 ] = -sinTheta;
+        zPowers[ offset + 2 ] = ( cosTheta * cosTheta ) - ( sinTheta * sinTheta );
+        zPowers[ offset + 3 ] = -2.0d * sinTheta * cosTheta;
+    }
+
     // Get the bilinear transformation given coefficients in the analog domain.
     // See http://en.wikipedia.org/wiki/Bilinear_transform for details.
     public static Complex getBilinearTransform( final Complex z,
@@ -77,8 +96,15 @@ public class DigitalFilterUtilities {
         final double oneMinusCos = 1.0d - eQCos;
         final double onePlusCos = 1.0d + eQCos;
 
+        // Work with primitive complex pairs, taking the reciprocals of z and z
+        // squared only once, so that only the result is created as an object.
+        final double[] zPowers = new double[ 6 ];
+        ComplexArithmetic.reciprocal( z.getReal(), z.getImaginary(), zPowers, 0 );
+        ComplexArithmetic.reciprocal( zSquared.getReal(), zSquared.getImaginary(), zPowers, 2 );
+
         // Calculate the frequency response for the given breakpoint.
-        Complex result = Complex.ONE;
+        double resultReal = 1.0d;
+        double resultImaginary = 0.0d;
         for ( int i = 0; i < biquadSectionCount; i++ ) {
             // Get a set of digital domain biquad coefficients.
             final double[][] digitalBiquadCoefficients =
@@ -88,11 +114,20 @@ public class DigitalFilterUtilities {
                                                                                      analogCoefficients[ i ] );
 
             // Get the digital biquad filter for this section.
-            result = result
-                    .multiply( getDigitalBiquadFilter( z, zSquared, digitalBiquadCoefficients ) );
+            getDigitalBiquadFilter( zPowers[ 0 ],
+                                    zPowers[ 1 ],
+                                    zPowers[ 2 ],
+                                    zPowers[ 3 ],
+                                    digitalBiquadCoefficients,
+                                    zPowers,
+                                    4 );
+            final double productReal = ( resultReal * zPowers[ 4 ] )
+                    - ( resultImaginary * zPowers[ 5 ] );
+            resultImaginary = ( resultReal * zPowers[ 5 ] ) + ( resultImaginary * zPowers[ 4 ] );
+            resultReal = productReal;
         }
 
-        return result;
+        return new Complex( resultReal, resultImaginary );
     }
 
     // Get the filter slope order to filter slope dB mapping (relevant to
@@ -155,22 +190,63 @@ public class DigitalFilterUtilities {
     public static Complex getDigitalBiquadFilter( final Complex z,
                                                   final Complex zSquared,
                                                   final double[][] biquadCoefficients ) {
+        // Work with primitive complex pairs, so that only the result is
+        // created as an object.
+        final double[] zPowers = new double[ 6 ];
+        ComplexArithmetic.reciprocal( z.getReal(), z.getImaginary(), zPowers, 0 );
+        ComplexArithmetic.reciprocal( zSquared.getReal(), zSquared.getImaginary(), zPowers, 2 );
+
+        getDigitalBiquadFilter( zPowers[ 0 ],
+                                zPowers[ 1 ],
+                                zPowers[ 2 ],
+                                zPowers[ 3 ],
+                                biquadCoefficients,
+                                zPowers,
+                                4 );
+
+        return new Complex( zPowers[ 4 ], zPowers[ 5 ] );
+    }
+
+    // Get the bilinear transformation given coefficients in the digital domain,
+    // at z^-1 and z^-2 supplied as primitive complex pairs, writing the
+    // interleaved result at the given offset.
+    public static void getDigitalBiquadFilter( final double zMinusOneReal,
+                                               final double zMinusOneImaginary,
+                                               final double zMinusTwoReal,
+                                               final double zMinusTwoImaginary,
+                                               final double[][] biquadCoefficients,
+                                               final double[] result,
+                                               final int offset ) {
         // Calculate the bilinear transform for the given break point.
         // NOTE: The convention used in this code is an/bn, which is opposite
         // the one from Matlab, Audio EQ Cookbook, and various Wiki sources,
         // where bn/an is more common.
-        final Complex numerator = getQuadraticFactor( z, zSquared, biquadCoefficients[ 0 ] );
-        final Complex denominator = getQuadraticFactor( z, zSquared, biquadCoefficients[ 1 ] );
+        final double[] numerator = biquadCoefficients[ 0 ];
+        final double[] denominator = biquadCoefficients[ 1 ];
+
+        final double numeratorReal = ( numerator[ 0 ] * zMinusTwoReal )
+                + ( numerator[ 1 ] * zMinusOneReal ) + numerator[ 2 ];
+        final double numeratorImaginary = ( numerator[ 0 ] * zMinusTwoImaginary )
+                + ( numerator[ 1 ] * zMinusOneImaginary );
+        final double denominatorReal = ( denominator[ 0 ] * zMinusTwoReal )
+                + ( denominator[ 1 ] * zMinusOneReal ) + denominator[ 2 ];
+        final double denominatorImaginary = ( denominator[ 0 ] * zMinusTwoImaginary )
+                + ( denominator[ 1 ] * zMinusOneImaginary );
 
         // NOTE: Avoid divide by zero exceptions!
-        if ( Complex.ZERO.equals( denominator ) ) {
-            return Complex.ONE;
+        if ( ComplexArithmetic.getNorm( denominatorReal, denominatorImaginary ) == 0.0d ) {
+            result[ offset + ComplexArithmetic.REAL ] = 1.0d;
+            result[ offset + ComplexArithmetic.IMAGINARY ] = 0.0d;
+            return;
         }
 
         // Result = numerator / denominator
-        final Complex result = numerator.divide( denominator );
-
-        return result;
+        ComplexArithmetic.divide( numeratorReal,
+                                  numeratorImaginary,
+                                  denominatorReal,
+                                  denominatorImaginary,
+                                  result,
+                                  offset );
     }
 
     // Get the digital biquad coefficients for a Butterworth filter pole.
@@ -238,10 +314,22 @@ public class DigitalFilterUtilities {
         final double a1 = digitalQuadCoefficients[ 1 ];
         final double a2 = digitalQuadCoefficients[ 2 ];
 
-        final Complex result = new Complex( a0 ).divide( zSquared )
-                .add( new Complex( a1 ).divide( z ) ).add( new Complex( a2 ) );
-
-        return result;
+        // Work with primitive complex pairs, so that only the result is
+        // created as an object.
+        final double[] result = new double[ 6 ];
+        ComplexArithmetic.reciprocal( z.getReal(), z.getImaginary(), result, 0 );
+        ComplexArithmetic.reciprocal( zSquared.getReal(), zSquared.getImaginary(), result, 2 );
+        ComplexArithmetic.evaluateQuadratic( a2,
+                                             a1,
+                                             a0,
+                                             result[ 0 ],
+                                             result[ 1 ],
+                                             result[ 2 ],
+                                             result[ 3 ],
+                                             result,
+                                             4 );
+
+        return new Complex( result[ 4 ], result[ 5 ] );
     }
 
 }
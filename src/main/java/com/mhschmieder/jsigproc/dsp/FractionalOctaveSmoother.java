@@ -0,0 +1,314 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import com.mhschmieder.jmath.MathConstants;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An immutable fractional-octave smoother for responses evaluated over a
+ * given frequency grid, such as the 1/3, 1/6 or 1/24 octave smoothing that is
+ * applied to responses before they are displayed or compared.
+ * <p>
+ * Each bin is replaced by the mean over all bins within half the bandwidth
+ * either side of it, in octaves. The window of every bin is found once, on
+ * construction, and the means are taken as differences of prefix sums, so
+ * smoothing costs O(N) whatever the bandwidth. The prefix sums are carried in
+ * double-double precision, so that a window deep in a stop band doesn't lose
+ * its digits to the much larger sums of the pass band before it.
+ * <p>
+ * The mean is unweighted over the bins in each window, so that it is a mean
+ * over log frequency on the logarithmically spaced grids that responses are
+ * normally evaluated on.
+ * <p>
+ * A smoother can be shared by any number of threads, and the output arrays of
+ * every method may be the same as its input arrays.
+ */
+public final class FractionalOctaveSmoother {
+
+    // The bandwidth of each window, in octaves.
+    private final double _bandwidthOctaves;
+
+    // The first (inclusive) and last (exclusive) bins of each bin's window.
+    private final int[]  _windowStartIndices;
+    private final int[]  _windowEndIndices;
+
+    /**
+     * Constructs a smoother for the given frequency grid and bandwidth.
+     *
+     * @param frequencies
+     *            The frequency grid (in Hertz), in ascending order
+     * @param bandwidthOctaves
+     *            The bandwidth of each window, in octaves
+     */
+    public FractionalOctaveSmoother( final double[] frequencies, final double bandwidthOctaves ) {
+        if ( !( bandwidthOctaves >= 0.0d ) ) {
+            throw new IllegalArgumentException( "Smoothing bandwidth must not be negative" ); //$NON-NLS-1$
+        }
+        for ( int binIndex = 1; binIndex < frequencies.length; binIndex++ ) {
+            if ( frequencies[ binIndex ] < frequencies[ binIndex - 1 ] ) {
+                throw new IllegalArgumentException( "Frequencies must be in ascending order" ); //$NON-NLS-1$
+            }
+        }
+
+        _bandwidthOctaves = bandwidthOctaves;
+
+        final int numberOfBins = frequencies.length;
+        _windowStartIndices = new int[ numberOfBins ];
+        _windowEndIndices = new int[ numberOfBins ];
+
+        // As the grid is ascending, both edges of the windows only ever move
+        // up, so that all of the windows are found in a single pass.
+        final double upperRatio = FastMath.pow( 2.0d, 0.5d * bandwidthOctaves );
+        final double lowerRatio = 1.0d / upperRatio;
+        int windowStartIndex = 0;
+        int windowEndIndex = 0;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double lowerFrequencyHz = frequencies[ binIndex ] * lowerRatio;
+            final double upperFrequencyHz = frequencies[ binIndex ] * upperRatio;
+
+            while ( ( windowStartIndex < binIndex )
+                    && ( frequencies[ windowStartIndex ] < lowerFrequencyHz ) ) {
+                windowStartIndex++;
+            }
+
+            windowEndIndex = FastMath.max( windowEndIndex, binIndex + 1 );
+            while ( ( windowEndIndex < numberOfBins )
+                    && ( frequencies[ windowEndIndex ] <= upperFrequencyHz ) ) {
+                windowEndIndex++;
+            }
+
+            _windowStartIndices[ binIndex ] = windowStartIndex;
+            _windowEndIndices[ binIndex ] = windowEndIndex;
+        }
+    }
+
+    /**
+     * Returns a smoother for the given frequency grid, with windows of 1/N
+     * octave.
+     *
+     * @param frequencies
+     *            The frequency grid (in Hertz), in ascending order
+     * @param fractionOfOctave
+     *            The denominator N of the 1/N octave bandwidth, such as 3 for
+     *            third-octave smoothing
+     * @return The smoother
+     */
+    public static FractionalOctaveSmoother forFractionOfOctave( final double[] frequencies,
+                                                                final int fractionOfOctave ) {
+        if ( fractionOfOctave <= 0 ) {
+            throw new IllegalArgumentException( "Fraction of octave must be positive" ); //$NON-NLS-1$
+        }
+
+        return new FractionalOctaveSmoother( frequencies, 1.0d / fractionOfOctave );
+    }
+
+    public double getBandwidthOctaves() {
+        return _bandwidthOctaves;
+    }
+
+    public int getNumberOfBins() {
+        return _windowStartIndices.length;
+    }
+
+    public int getWindowStartIndex( final int binIndex ) {
+        return _windowStartIndices[ binIndex ];
+    }
+
+    public int getWindowEndIndex( final int binIndex ) {
+        return _windowEndIndices[ binIndex ];
+    }
+
+    /**
+     * Smooths a magnitude response.
+     *
+     * @param smoothingMode
+     *            Whether to average the power or the magnitude; complex
+     *            smoothing needs the phase, so it is not allowed here
+     * @param magnitude
+     *            The magnitude at each bin
+     * @param smoothedMagnitude
+     *            The output array for the smoothed magnitude
+     */
+    public void smoothMagnitude( final SmoothingMode smoothingMode,
+                                 final double[] magnitude,
+                                 final double[] smoothedMagnitude ) {
+        final int numberOfBins = getNumberOfBins();
+        switch ( smoothingMode ) {
+        case POWER:
+            final double[] power = new double[ numberOfBins ];
+            for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                power[ binIndex ] = magnitude[ binIndex ] * magnitude[ binIndex ];
+            }
+            smoothMean( power, power );
+            for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                smoothedMagnitude[ binIndex ] = FastMath.sqrt( power[ binIndex ] );
+            }
+            break;
+        case MAGNITUDE:
+            smoothMean( magnitude, smoothedMagnitude );
+            break;
+        case COMPLEX:
+        default:
+            throw new IllegalArgumentException( "Complex smoothing needs the phase" ); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Smooths a response given as magnitude and phase.
+     * <p>
+     * For power and magnitude smoothing, the phase is averaged directly, so
+     * it should be unwrapped, as it is when it comes from the polar filter
+     * evaluations. For complex smoothing, the smoothed phase is unwrapped to
+     * lie within half a turn of the original phase at each bin.
+     *
+     * @param smoothingMode
+     *            The quantity to average
+     * @param magnitude
+     *            The magnitude at each bin
+     * @param phaseRadians
+     *            The phase (in radians) at each bin
+     * @param smoothedMagnitude
+     *            The output array for the smoothed magnitude
+     * @param smoothedPhaseRadians
+     *            The output array for the smoothed phase (in radians)
+     */
+    public void smoothPolar( final SmoothingMode smoothingMode,
+                             final double[] magnitude,
+                             final double[] phaseRadians,
+                             final double[] smoothedMagnitude,
+                             final double[] smoothedPhaseRadians ) {
+        if ( smoothingMode != SmoothingMode.COMPLEX ) {
+            smoothMagnitude( smoothingMode, magnitude, smoothedMagnitude );
+            smoothMean( phaseRadians, smoothedPhaseRadians );
+            return;
+        }
+
+        final int numberOfBins = getNumberOfBins();
+        final double[] hReal = new double[ numberOfBins ];
+        final double[] hImaginary = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            hReal[ binIndex ] = magnitude[ binIndex ] * FastMath.cos( phaseRadians[ binIndex ] );
+            hImaginary[ binIndex ] = magnitude[ binIndex ] * FastMath.sin( phaseRadians[ binIndex ] );
+        }
+        smoothMean( hReal, hReal );
+        smoothMean( hImaginary, hImaginary );
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double phase = FastMath.atan2( hImaginary[ binIndex ], hReal[ binIndex ] );
+            smoothedPhaseRadians[ binIndex ] = phase + ( MathConstants.TWO_PI * FastMath
+                    .rint( ( phaseRadians[ binIndex ] - phase ) / MathConstants.TWO_PI ) );
+            smoothedMagnitude[ binIndex ] = FastMath.hypot( hReal[ binIndex ],
+                                                            hImaginary[ binIndex ] );
+        }
+    }
+
+    /**
+     * Smooths a complex response.
+     * <p>
+     * For power and magnitude smoothing, only the magnitude is smoothed, and
+     * the phase of each bin is kept.
+     *
+     * @param smoothingMode
+     *            The quantity to average
+     * @param hReal
+     *            The real part of the response at each bin
+     * @param hImaginary
+     *            The imaginary part of the response at each bin
+     * @param smoothedReal
+     *            The output array for the real part of the smoothed response
+     * @param smoothedImaginary
+     *            The output array for the imaginary part of the smoothed
+     *            response
+     */
+    public void smoothComplex( final SmoothingMode smoothingMode,
+                               final double[] hReal,
+                               final double[] hImaginary,
+                               final double[] smoothedReal,
+                               final double[] smoothedImaginary ) {
+        if ( smoothingMode == SmoothingMode.COMPLEX ) {
+            smoothMean( hReal, smoothedReal );
+            smoothMean( hImaginary, smoothedImaginary );
+            return;
+        }
+
+        final int numberOfBins = getNumberOfBins();
+        final double[] magnitude = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            magnitude[ binIndex ] = FastMath.hypot( hReal[ binIndex ], hImaginary[ binIndex ] );
+        }
+        final double[] smoothedMagnitude = new double[ numberOfBins ];
+        smoothMagnitude( smoothingMode, magnitude, smoothedMagnitude );
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            // A bin with no phase of its own takes the smoothed magnitude as
+            // a real value.
+            if ( magnitude[ binIndex ] == 0.0d ) {
+                smoothedReal[ binIndex ] = smoothedMagnitude[ binIndex ];
+                smoothedImaginary[ binIndex ] = 0.0d;
+                continue;
+            }
+
+            final double scale = smoothedMagnitude[ binIndex ] / magnitude[ binIndex ];
+            smoothedReal[ binIndex ] = scale * hReal[ binIndex ];
+            smoothedImaginary[ binIndex ] = scale * hImaginary[ binIndex ];
+        }
+    }
+
+    // Replace each bin by the mean over its window, via the differences of
+    // double-double prefix sums, which are all taken before any output is
+    // written so that the output may be the input.
+    private void smoothMean( final double[] values, final double[] means ) {
+        final int numberOfBins = getNumberOfBins();
+        final double[] prefixSumHigh = new double[ numberOfBins + 1 ];
+        final double[] prefixSumLow = new double[ numberOfBins + 1 ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            // Knuth's error-free sum of the running total and the next value.
+            final double high = prefixSumHigh[ binIndex ];
+            final double value = values[ binIndex ];
+            final double sum = high + value;
+            final double valuePart = sum - high;
+            final double error = ( high - ( sum - valuePart ) ) + ( value - valuePart );
+
+            prefixSumHigh[ binIndex + 1 ] = sum;
+            prefixSumLow[ binIndex + 1 ] = prefixSumLow[ binIndex ] + error;
+        }
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int windowStartIndex = _windowStartIndices[ binIndex ];
+            final int windowEndIndex = _windowEndIndices[ binIndex ];
+            final double windowSum = ( prefixSumHigh[ windowEndIndex ]
+                    - prefixSumHigh[ windowStartIndex ] )
+                    + ( prefixSumLow[ windowEndIndex ] - prefixSumLow[ windowStartIndex ] );
+            means[ binIndex ] = windowSum / ( windowEndIndex - windowStartIndex );
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable, interned grid of frequencies, such as the center frequencies
+ * of a filter bank or the bins that responses are evaluated and displayed on.
+ * <p>
+ * Grids are obtained from the static factory methods, which return the shared
+ * instance for any grid that is already in use, so that banks and evaluators
+ * that work on the same frequencies also share one primitive array, and the
+ * z-domain tables that go with it. Grids compare by value, so that a grid that
+ * has been evicted from the intern table and created again is still equal to
+ * the original one.
+ * <p>
+ * A grid can be shared by any number of threads.
+ */
+public final class FrequencyGrid {
+
+    // The maximum number of grids to retain before evicting the least
+    // recently used one; enough for the bank tables and several display grids.
+    public static final int       MAXIMUM_NUMBER_OF_GRIDS    = 32;
+
+    // The reference frequency of the ISO fractional-octave bands, in Hertz.
+    public static final double    ISO_REFERENCE_FREQUENCY_HZ = 1000.0d;
+
+    // The base-ten octave ratio of the ISO fractional-octave bands.
+    public static final double    ISO_OCTAVE_RATIO           = FastMath.pow( 10.0d, 0.3d );
+
+    // The interned grids, in least recently used order.
+    private static final GridMap  GRIDS                      = new GridMap();
+
+    // The frequencies of the grid, in Hertz; never exposed directly.
+    private final double[]        _frequencies;
+
+    // Cached as the grids are used as hash keys in the intern table.
+    private final int             _hashCode;
+
+    // The z-domain table of the most recently used sampling frequency, which
+    // is the only one in use unless the sampling frequency gets changed.
+    private volatile ZDomainTable _zDomainTable;
+
+    // The frequencies are taken over without copying, as every caller passes
+    // an array that it has just made and no longer refers to.
+    private FrequencyGrid( final double[] frequencies ) {
+        _frequencies = frequencies;
+        _hashCode = Arrays.hashCode( frequencies );
+        _zDomainTable = null;
+    }
+
+    /**
+     * Returns the grid of the given frequencies, which are copied.
+     *
+     * @param frequencies
+     *            The frequencies of the grid (in Hertz)
+     * @return The interned grid of the given frequencies
+     */
+    public static FrequencyGrid of( final double... frequencies ) {
+        return intern( Arrays.copyOf( frequencies, frequencies.length ) );
+    }
+
+    /**
+     * Returns a grid of linearly spaced frequencies, from the minimum to the
+     * maximum frequency inclusive.
+     *
+     * @param minimumFrequencyHz
+     *            The first frequency of the grid (in Hertz)
+     * @param maximumFrequencyHz
+     *            The last frequency of the grid (in Hertz)
+     * @param numberOfBins
+     *            The number of frequencies in the grid
+     * @return The interned grid of linearly spaced frequencies
+     */
+    public static FrequencyGrid linear( final double minimumFrequencyHz,
+                                        final double maximumFrequencyHz,
+                                        final int numberOfBins ) {
+        final double[] frequencies = new double[ numberOfBins ];
+        final double range = maximumFrequencyHz - minimumFrequencyHz;
+        final double denominator = FastMath.max( 1, numberOfBins - 1 );
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            frequencies[ binIndex ] = minimumFrequencyHz + ( ( range * binIndex ) / denominator );
+        }
+
+        return intern( frequencies );
+    }
+
+    /**
+     * Returns a grid of logarithmically spaced frequencies, from the minimum
+     * to the maximum frequency inclusive.
+     *
+     * @param minimumFrequencyHz
+     *            The first frequency of the grid (in Hertz); must be positive
+     * @param maximumFrequencyHz
+     *            The last frequency of the grid (in Hertz); must be positive
+     * @param numberOfBins
+     *            The number of frequencies in the grid
+     * @return The interned grid of logarithmically spaced frequencies
+     */
+    public static FrequencyGrid logarithmic( final double minimumFrequencyHz,
+                                             final double maximumFrequencyHz,
+                                             final int numberOfBins ) {
+        if ( !( minimumFrequencyHz > 0.0d ) || !( maximumFrequencyHz > 0.0d ) ) {
+            throw new IllegalArgumentException( "Logarithmic grids need positive frequencies" ); //$NON-NLS-1$
+        }
+
+        final double[] frequencies = new double[ numberOfBins ];
+        final double logMinimum = FastMath.log( minimumFrequencyHz );
+        final double logRange = FastMath.log( maximumFrequencyHz ) - logMinimum;
+        final double denominator = FastMath.max( 1, numberOfBins - 1 );
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            frequencies[ binIndex ] = FastMath.exp( logMinimum + ( ( logRange * binIndex ) / denominator ) );
+        }
+
+        return intern( frequencies );
+    }
+
+    /**
+     * Returns the grid of ISO 1/N-octave band center frequencies that lie
+     * within the given range, using the exact base-ten midband frequencies
+     * around 1 kHz rather than their rounded nominal values. The range limits
+     * may be given as nominal frequencies, such as 20 Hz for the lowest
+     * third-octave band, whose exact midband frequency is 19.95 Hz.
+     *
+     * @param fractionOfOctave
+     *            The denominator N of the 1/N-octave bands, such as 3 for
+     *            third-octave bands; must be positive
+     * @param minimumFrequencyHz
+     *            The lowest band center frequency to include (in Hertz)
+     * @param maximumFrequencyHz
+     *            The highest band center frequency to include (in Hertz)
+     * @return The interned grid of band center frequencies
+     */
+    public static FrequencyGrid fractionalOctave( final int fractionOfOctave,
+                                                  final double minimumFrequencyHz,
+                                                  final double maximumFrequencyHz ) {
+        if ( fractionOfOctave <= 0 ) {
+            throw new IllegalArgumentException( "Fraction of octave must be positive" ); //$NON-NLS-1$
+        }
+        if ( !( minimumFrequencyHz > 0.0d ) || !( maximumFrequencyHz >= minimumFrequencyHz ) ) {
+            throw new IllegalArgumentException( "Band range must be positive and ascending" ); //$NON-NLS-1$
+        }
+
+        // Odd fractions have a band centered on the reference frequency, while
+        // even fractions have band edges there, with the centers offset by
+        // half a band either side.
+        final double bandOffset = ( ( fractionOfOctave % 2 ) == 0 ) ? 0.5d : 0.0d;
+        final double logRatio = FastMath.log( ISO_OCTAVE_RATIO ) / fractionOfOctave;
+        final double logReference = FastMath.log( ISO_REFERENCE_FREQUENCY_HZ );
+
+        // Allow a tenth of a band at the range limits, so that a limit given as
+        // a rounded nominal frequency, such as 20 Hz, includes its band.
+        final double tolerance = 0.1d;
+        final int firstBandIndex = ( int ) FastMath
+                .ceil( ( ( FastMath.log( minimumFrequencyHz ) - logReference ) / logRatio )
+                        - bandOffset - tolerance );
+        final int lastBandIndex = ( int ) FastMath
+                .floor( ( ( FastMath.log( maximumFrequencyHz ) - logReference ) / logRatio )
+                        - bandOffset + tolerance );
+
+        final int numberOfBands = FastMath.max( 0, ( lastBandIndex - firstBandIndex ) + 1 );
+        final double[] frequencies = new double[ numberOfBands ];
+        for ( int bandIndex = 0; bandIndex < numberOfBands; bandIndex++ ) {
+            final double bandExponent = ( firstBandIndex + bandIndex + bandOffset ) / fractionOfOctave;
+            frequencies[ bandIndex ] = ISO_REFERENCE_FREQUENCY_HZ
+                    * FastMath.pow( ISO_OCTAVE_RATIO, bandExponent );
+        }
+
+        return intern( frequencies );
+    }
+
+    /**
+     * Removes all interned grids, such as after a global grid change. Grids
+     * that are still referenced remain valid.
+     */
+    public static void clear() {
+        synchronized ( GRIDS ) {
+            GRIDS.clear();
+        }
+    }
+
+    // Return the shared grid that is equal to the new one, if there is one,
+    // or else intern the new one.
+    private static FrequencyGrid intern( final double[] frequencies ) {
+        final FrequencyGrid grid = new FrequencyGrid( frequencies );
+
+        synchronized ( GRIDS ) {
+            final FrequencyGrid internedGrid = GRIDS.get( grid );
+            if ( internedGrid != null ) {
+                return internedGrid;
+            }
+
+            GRIDS.put( grid, grid );
+        }
+
+        return grid;
+    }
+
+    public int getNumberOfBins() {
+        return _frequencies.length;
+    }
+
+    public double getFrequencyHz( final int binIndex ) {
+        return _frequencies[ binIndex ];
+    }
+
+    // Return a copy of the frequencies, as the grid must stay immutable.
+    public double[] getFrequencies() {
+        return Arrays.copyOf( _frequencies, _frequencies.length );
+    }
+
+    /**
+     * Returns the shared z-domain table for this grid at the given sampling
+     * frequency, which is held by the grid for as long as the sampling
+     * frequency stays the same, and otherwise comes from the
+     * {@link ZDomainTableCache}.
+     *
+     * @param samplingFrequencyHz
+     *            The sampling frequency (in Hertz)
+     * @return The immutable z-domain table for this grid and sampling frequency
+     */
+    public ZDomainTable getZDomainTable( final double samplingFrequencyHz ) {
+        final ZDomainTable zDomainTable = _zDomainTable;
+        if ( ( zDomainTable != null )
+                && ( zDomainTable.getSamplingFrequencyHz() == samplingFrequencyHz ) ) {
+            return zDomainTable;
+        }
+
+        final ZDomainTable newZDomainTable = ZDomainTableCache.getZDomainTable( _frequencies,
+                                                                               samplingFrequencyHz );
+        _zDomainTable = newZDomainTable;
+
+        return newZDomainTable;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( !( other instanceof FrequencyGrid ) ) {
+            return false;
+        }
+
+        final FrequencyGrid otherGrid = ( FrequencyGrid ) other;
+        return ( _hashCode == otherGrid._hashCode )
+                && Arrays.equals( _frequencies, otherGrid._frequencies );
+    }
+
+    @Override
+    public int hashCode() {
+        return _hashCode;
+    }
+
+    // An access-ordered map that evicts its least recently used grid.
+    private static final class GridMap extends LinkedHashMap< FrequencyGrid, FrequencyGrid > {
+
+        private static final long serialVersionUID = 1L;
+
+        GridMap() {
+            super( 2 * MAXIMUM_NUMBER_OF_GRIDS, 0.75f, true );
+        }
+
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry< FrequencyGrid, FrequencyGrid > eldest ) {
+            return size() > MAXIMUM_NUMBER_OF_GRIDS;
+        }
+    }
+}
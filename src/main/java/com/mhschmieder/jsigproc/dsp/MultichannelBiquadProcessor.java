@@ -0,0 +1,492 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+/**
+ * A time-domain biquad cascade for many channels at once, in Transposed
+ * Direct Form II, such as for running the same crossover on every output of
+ * a large system.
+ * <p>
+ * Coefficients and filter state are stored in structure-of-arrays form, with
+ * the values for all channels of a section contiguous, and the channels are
+ * processed in the innermost loop, in groups of adjacent channels whose state
+ * is held in registers for the whole block. The recursions of different
+ * channels are independent, so interleaving them lets the processor overlap
+ * their arithmetic, where one cascade object per channel leaves it waiting on
+ * each sample's dependency chain in turn.
+ * <p>
+ * Blocks may be interleaved (one frame of all channels after another) or
+ * planar (one array per channel). Planar blocks are transposed through a
+ * small interleaved scratch buffer, so that both layouts share the same
+ * inner loop.
+ * <p>
+ * As with {@link BiquadCascade}, coefficients are supplied as immutable
+ * {@link BiquadCoefficients} snapshots that any thread may publish at any
+ * time, and they take effect at the start of the next block. Channels with
+ * fewer sections than others are padded with pass-through sections. Processing
+ * never allocates, and must be confined to one thread per instance.
+ */
+public final class MultichannelBiquadProcessor {
+
+    // State values smaller than this are flushed to zero after each block, to
+    // avoid the heavy cost of denormal arithmetic when the input decays.
+    private static final double           DENORMAL_THRESHOLD  = 1.0E-30d;
+
+    // The number of frames in the scratch buffer for planar blocks.
+    private static final int              PLANAR_CHUNK_FRAMES = 256;
+
+    // The number of adjacent channels that are filtered together.
+    private static final int              CHANNEL_GROUP_SIZE  = 4;
+
+    private final int                     _numberOfChannels;
+    private final int                     _maximumNumberOfSections;
+
+    // The latest published snapshots, per channel; the array is replaced as a
+    // whole on each change, and never modified once published.
+    private volatile BiquadCoefficients[] _pendingCoefficients;
+
+    // The snapshots that the packed coefficients were built from.
+    private BiquadCoefficients[]          _coefficients;
+
+    // The number of sections in use, which is that of the longest channel.
+    private int                           _numberOfSections;
+
+    // Packed coefficients and state, indexed by section times the number of
+    // channels plus channel, so that the channels of a section are adjacent.
+    private final double[]                _b0;
+    private final double[]                _b1;
+    private final double[]                _b2;
+    private final double[]                _a1;
+    private final double[]                _a2;
+    private final double[]                _s1;
+    private final double[]                _s2;
+
+    // Interleaved scratch space for planar blocks.
+    private final float[]                 _scratch;
+
+    // This is the fully qualified constructor; all channels start out as a
+    // pass-through, until coefficients are set.
+    public MultichannelBiquadProcessor( final int numberOfChannels,
+                                        final int maximumNumberOfSections ) {
+        if ( numberOfChannels < 1 ) {
+            throw new IllegalArgumentException( "Number of channels must be positive: " //$NON-NLS-1$
+                    + numberOfChannels );
+        }
+
+        _numberOfChannels = numberOfChannels;
+        _maximumNumberOfSections = maximumNumberOfSections;
+
+        final BiquadCoefficients[] identity = new BiquadCoefficients[ numberOfChannels ];
+        Arrays.fill( identity, BiquadCoefficients.IDENTITY );
+        _pendingCoefficients = identity;
+        _coefficients = identity;
+        _numberOfSections = 0;
+
+        final int packedLength = numberOfChannels * maximumNumberOfSections;
+        _b0 = new double[ packedLength ];
+        _b1 = new double[ packedLength ];
+        _b2 = new double[ packedLength ];
+        _a1 = new double[ packedLength ];
+        _a2 = new double[ packedLength ];
+        _s1 = new double[ packedLength ];
+        _s2 = new double[ packedLength ];
+
+        _scratch = new float[ PLANAR_CHUNK_FRAMES * numberOfChannels ];
+    }
+
+    public int getNumberOfChannels() {
+        return _numberOfChannels;
+    }
+
+    public int getMaximumNumberOfSections() {
+        return _maximumNumberOfSections;
+    }
+
+    // Return the most recently published coefficients for one channel.
+    public BiquadCoefficients getCoefficients( final int channelIndex ) {
+        return _pendingCoefficients[ channelIndex ];
+    }
+
+    /**
+     * Publishes the same coefficients for all channels, which take effect at
+     * the start of the next processed block. This may be called from any
+     * thread.
+     *
+     * @param biquadCoefficients
+     *            The new coefficient snapshot
+     */
+    public synchronized void setCoefficients( final BiquadCoefficients biquadCoefficients ) {
+        checkNumberOfSections( biquadCoefficients );
+
+        final BiquadCoefficients[] coefficients = new BiquadCoefficients[ _numberOfChannels ];
+        Arrays.fill( coefficients, biquadCoefficients );
+        _pendingCoefficients = coefficients;
+    }
+
+    /**
+     * Publishes new coefficients for one channel, which take effect at the
+     * start of the next processed block. This may be called from any thread;
+     * the setters are synchronized so that concurrent changes to different
+     * channels are never lost, whereas processing only reads the published
+     * set and never takes the lock.
+     *
+     * @param channelIndex
+     *            The index of the channel to change
+     * @param biquadCoefficients
+     *            The new coefficient snapshot
+     */
+    public synchronized void setCoefficients( final int channelIndex,
+                                              final BiquadCoefficients biquadCoefficients ) {
+        checkNumberOfSections( biquadCoefficients );
+
+        final BiquadCoefficients[] coefficients = _pendingCoefficients.clone();
+        coefficients[ channelIndex ] = biquadCoefficients;
+        _pendingCoefficients = coefficients;
+    }
+
+    /**
+     * Clears the filter state of all channels, such as when starting a new,
+     * unrelated signal. This must only be called from the processing thread.
+     */
+    public void reset() {
+        Arrays.fill( _s1, 0.0d );
+        Arrays.fill( _s2, 0.0d );
+    }
+
+    /**
+     * Filters a block of interleaved frames, with the samples for all channels
+     * of one frame adjacent.
+     * <p>
+     * The input and output arrays may be the same array, for in-place
+     * processing.
+     *
+     * @param in
+     *            The input samples
+     * @param out
+     *            The output samples
+     * @param offset
+     *            The index of the first sample of the first frame, in both
+     *            arrays
+     * @param numberOfFrames
+     *            The number of frames to process
+     */
+    public void processInterleaved( final float[] in,
+                                    final float[] out,
+                                    final int offset,
+                                    final int numberOfFrames ) {
+        updateCoefficients();
+
+        if ( _numberOfSections == 0 ) {
+            if ( in != out ) {
+                System.arraycopy( in, offset, out, offset, numberOfFrames * _numberOfChannels );
+            }
+            return;
+        }
+
+        filter( in, out, offset, numberOfFrames );
+        flushDenormals();
+    }
+
+    /**
+     * Filters a block of planar frames, with one array per channel.
+     * <p>
+     * The input and output arrays may be the same arrays, for in-place
+     * processing.
+     *
+     * @param in
+     *            The input samples, per channel
+     * @param out
+     *            The output samples, per channel
+     * @param offset
+     *            The index of the first sample to process, in all arrays
+     * @param numberOfFrames
+     *            The number of frames to process
+     */
+    public void processPlanar( final float[][] in,
+                               final float[][] out,
+                               final int offset,
+                               final int numberOfFrames ) {
+        updateCoefficients();
+
+        final int numberOfChannels = _numberOfChannels;
+        if ( _numberOfSections == 0 ) {
+            for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                if ( in[ channelIndex ] != out[ channelIndex ] ) {
+                    System.arraycopy( in[ channelIndex ],
+                                      offset,
+                                      out[ channelIndex ],
+                                      offset,
+                                      numberOfFrames );
+                }
+            }
+            return;
+        }
+
+        for ( int chunkOffset = 0; chunkOffset < numberOfFrames; chunkOffset +=
+                PLANAR_CHUNK_FRAMES ) {
+            final int chunkFrames = FastMath.min( PLANAR_CHUNK_FRAMES, numberOfFrames - chunkOffset );
+            final int start = offset + chunkOffset;
+
+            for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                final float[] channelIn = in[ channelIndex ];
+                for ( int frame = 0, sampleIndex = channelIndex; frame < chunkFrames; frame++, sampleIndex +=
+                        numberOfChannels ) {
+                    _scratch[ sampleIndex ] = channelIn[ start + frame ];
+                }
+            }
+
+            filter( _scratch, _scratch, 0, chunkFrames );
+
+            for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                final float[] channelOut = out[ channelIndex ];
+                for ( int frame = 0, sampleIndex = channelIndex; frame < chunkFrames; frame++, sampleIndex +=
+                        numberOfChannels ) {
+                    channelOut[ start + frame ] = _scratch[ sampleIndex ];
+                }
+            }
+        }
+
+        flushDenormals();
+    }
+
+    // Apply every section in use to a block of interleaved frames, one section
+    // after the other across the whole block.
+    private void filter( final float[] in,
+                         final float[] out,
+                         final int offset,
+                         final int numberOfFrames ) {
+        final int numberOfChannels = _numberOfChannels;
+        final int end = offset + ( numberOfFrames * numberOfChannels );
+
+        // The first section reads from the input; the rest work in place.
+        float[] source = in;
+        for ( int sectionIndex = 0; sectionIndex < _numberOfSections; sectionIndex++ ) {
+            final int sectionOffset = sectionIndex * numberOfChannels;
+
+            int channelIndex = 0;
+            for ( ; ( channelIndex + CHANNEL_GROUP_SIZE ) <= numberOfChannels; channelIndex +=
+                    CHANNEL_GROUP_SIZE ) {
+                filterChannelGroup( source, out, offset + channelIndex, end, sectionOffset
+                        + channelIndex );
+            }
+            for ( ; channelIndex < numberOfChannels; channelIndex++ ) {
+                filterChannel( source, out, offset + channelIndex, end, sectionOffset + channelIndex );
+            }
+
+            source = out;
+        }
+    }
+
+    // Apply one section to a group of adjacent channels, with their state and
+    // coefficients held in locals across the whole block. The recursion of
+    // each channel depends on its previous output, which would leave the
+    // processor waiting on every multiply and add if the channels were done
+    // one at a time; interleaving several independent channels keeps it busy.
+    private void filterChannelGroup( final float[] in,
+                                     final float[] out,
+                                     final int start,
+                                     final int end,
+                                     final int packedIndex ) {
+        final int numberOfChannels = _numberOfChannels;
+
+        final double b00 = _b0[ packedIndex ];
+        final double b01 = _b0[ packedIndex + 1 ];
+        final double b02 = _b0[ packedIndex + 2 ];
+        final double b03 = _b0[ packedIndex + 3 ];
+        final double b10 = _b1[ packedIndex ];
+        final double b11 = _b1[ packedIndex + 1 ];
+        final double b12 = _b1[ packedIndex + 2 ];
+        final double b13 = _b1[ packedIndex + 3 ];
+        final double b20 = _b2[ packedIndex ];
+        final double b21 = _b2[ packedIndex + 1 ];
+        final double b22 = _b2[ packedIndex + 2 ];
+        final double b23 = _b2[ packedIndex + 3 ];
+        final double a10 = _a1[ packedIndex ];
+        final double a11 = _a1[ packedIndex + 1 ];
+        final double a12 = _a1[ packedIndex + 2 ];
+        final double a13 = _a1[ packedIndex + 3 ];
+        final double a20 = _a2[ packedIndex ];
+        final double a21 = _a2[ packedIndex + 1 ];
+        final double a22 = _a2[ packedIndex + 2 ];
+        final double a23 = _a2[ packedIndex + 3 ];
+
+        double s10 = _s1[ packedIndex ];
+        double s11 = _s1[ packedIndex + 1 ];
+        double s12 = _s1[ packedIndex + 2 ];
+        double s13 = _s1[ packedIndex + 3 ];
+        double s20 = _s2[ packedIndex ];
+        double s21 = _s2[ packedIndex + 1 ];
+        double s22 = _s2[ packedIndex + 2 ];
+        double s23 = _s2[ packedIndex + 3 ];
+
+        for ( int sampleIndex = start; sampleIndex < end; sampleIndex += numberOfChannels ) {
+            final double x0 = in[ sampleIndex ];
+            final double x1 = in[ sampleIndex + 1 ];
+            final double x2 = in[ sampleIndex + 2 ];
+            final double x3 = in[ sampleIndex + 3 ];
+
+            final double y0 = ( b00 * x0 ) + s10;
+            final double y1 = ( b01 * x1 ) + s11;
+            final double y2 = ( b02 * x2 ) + s12;
+            final double y3 = ( b03 * x3 ) + s13;
+
+            s10 = ( ( b10 * x0 ) - ( a10 * y0 ) ) + s20;
+            s11 = ( ( b11 * x1 ) - ( a11 * y1 ) ) + s21;
+            s12 = ( ( b12 * x2 ) - ( a12 * y2 ) ) + s22;
+            s13 = ( ( b13 * x3 ) - ( a13 * y3 ) ) + s23;
+
+            s20 = ( b20 * x0 ) - ( a20 * y0 );
+            s21 = ( b21 * x1 ) - ( a21 * y1 );
+            s22 = ( b22 * x2 ) - ( a22 * y2 );
+            s23 = ( b23 * x3 ) - ( a23 * y3 );
+
+            out[ sampleIndex ] = ( float ) y0;
+            out[ sampleIndex + 1 ] = ( float ) y1;
+            out[ sampleIndex + 2 ] = ( float ) y2;
+            out[ sampleIndex + 3 ] = ( float ) y3;
+        }
+
+        _s1[ packedIndex ] = s10;
+        _s1[ packedIndex + 1 ] = s11;
+        _s1[ packedIndex + 2 ] = s12;
+        _s1[ packedIndex + 3 ] = s13;
+        _s2[ packedIndex ] = s20;
+        _s2[ packedIndex + 1 ] = s21;
+        _s2[ packedIndex + 2 ] = s22;
+        _s2[ packedIndex + 3 ] = s23;
+    }
+
+    // Apply one section to a single channel, for the channels left over after
+    // the last whole group.
+    private void filterChannel( final float[] in,
+                                final float[] out,
+                                final int start,
+                                final int end,
+                                final int packedIndex ) {
+        final int numberOfChannels = _numberOfChannels;
+
+        final double b0 = _b0[ packedIndex ];
+        final double b1 = _b1[ packedIndex ];
+        final double b2 = _b2[ packedIndex ];
+        final double a1 = _a1[ packedIndex ];
+        final double a2 = _a2[ packedIndex ];
+
+        double s1 = _s1[ packedIndex ];
+        double s2 = _s2[ packedIndex ];
+
+        for ( int sampleIndex = start; sampleIndex < end; sampleIndex += numberOfChannels ) {
+            final double x = in[ sampleIndex ];
+            final double y = ( b0 * x ) + s1;
+            s1 = ( ( b1 * x ) - ( a1 * y ) ) + s2;
+            s2 = ( b2 * x ) - ( a2 * y );
+            out[ sampleIndex ] = ( float ) y;
+        }
+
+        _s1[ packedIndex ] = s1;
+        _s2[ packedIndex ] = s2;
+    }
+
+    // Pick up the latest snapshots once per block, and repack the coefficients
+    // if any have changed. The state of each section is kept, so that changes
+    // during playback do not cause a discontinuity beyond that of the new
+    // response itself; sections that fall out of use are cleared, so that they
+    // start afresh if they come back into use.
+    private void updateCoefficients() {
+        final BiquadCoefficients[] pendingCoefficients = _pendingCoefficients;
+        if ( pendingCoefficients == _coefficients ) {
+            return;
+        }
+        _coefficients = pendingCoefficients;
+
+        final int numberOfChannels = _numberOfChannels;
+        int numberOfSections = 0;
+        for ( final BiquadCoefficients coefficients : pendingCoefficients ) {
+            numberOfSections = FastMath.max( numberOfSections, coefficients.getNumberOfSections() );
+        }
+
+        for ( int sectionIndex = 0; sectionIndex < numberOfSections; sectionIndex++ ) {
+            for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                final BiquadCoefficients coefficients = pendingCoefficients[ channelIndex ];
+                final int packedIndex = ( sectionIndex * numberOfChannels ) + channelIndex;
+
+                if ( sectionIndex < coefficients.getNumberOfSections() ) {
+                    _b0[ packedIndex ] = coefficients.getB0( sectionIndex );
+                    _b1[ packedIndex ] = coefficients.getB1( sectionIndex );
+                    _b2[ packedIndex ] = coefficients.getB2( sectionIndex );
+                    _a1[ packedIndex ] = coefficients.getA1( sectionIndex );
+                    _a2[ packedIndex ] = coefficients.getA2( sectionIndex );
+                }
+                else {
+                    // Pad shorter channels with exact pass-through sections.
+                    _b0[ packedIndex ] = 1.0d;
+                    _b1[ packedIndex ] = 0.0d;
+                    _b2[ packedIndex ] = 0.0d;
+                    _a1[ packedIndex ] = 0.0d;
+                    _a2[ packedIndex ] = 0.0d;
+                    _s1[ packedIndex ] = 0.0d;
+                    _s2[ packedIndex ] = 0.0d;
+                }
+            }
+        }
+
+        final int packedEnd = FastMath.max( numberOfSections, _numberOfSections ) * numberOfChannels;
+        final int packedStart = numberOfSections * numberOfChannels;
+        if ( packedEnd > packedStart ) {
+            Arrays.fill( _s1, packedStart, packedEnd, 0.0d );
+            Arrays.fill( _s2, packedStart, packedEnd, 0.0d );
+        }
+
+        _numberOfSections = numberOfSections;
+    }
+
+    private void flushDenormals() {
+        final int packedEnd = _numberOfSections * _numberOfChannels;
+        for ( int packedIndex = 0; packedIndex < packedEnd; packedIndex++ ) {
+            if ( FastMath.abs( _s1[ packedIndex ] ) < DENORMAL_THRESHOLD ) {
+                _s1[ packedIndex ] = 0.0d;
+            }
+            if ( FastMath.abs( _s2[ packedIndex ] ) < DENORMAL_THRESHOLD ) {
+                _s2[ packedIndex ] = 0.0d;
+            }
+        }
+    }
+
+    private void checkNumberOfSections( final BiquadCoefficients biquadCoefficients ) {
+        if ( biquadCoefficients.getNumberOfSections() > _maximumNumberOfSections ) {
+            throw new IllegalArgumentException( "Too many biquad sections: " //$NON-NLS-1$
+                    + biquadCoefficients.getNumberOfSections() );
+        }
+    }
+}
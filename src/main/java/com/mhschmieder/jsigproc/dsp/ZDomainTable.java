@@ -0,0 +1,207 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import com.mhschmieder.jmath.MathConstants;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+/**
+ * An immutable table of precomputed z-domain terms for a given frequency grid
+ * and sampling frequency.
+ * <p>
+ * Every digital filter evaluation needs z^-1 and z^-2 at each frequency bin,
+ * which costs a cosine and a sine per bin. As frequency grids and sampling
+ * frequencies rarely change, the same table can be shared by every filter of
+ * every channel that is evaluated on the same grid. Instances are normally
+ * obtained from {@link ZDomainTableCache} rather than constructed directly.
+ * <p>
+ * As z lies on the unit circle, z^-1 is simply the conjugate of z, so the
+ * table stores cos(theta), -sin(theta), cos(2*theta) and -sin(2*theta), where
+ * theta is the angle to the frequency (radians), in the z-plane.
+ * <p>
+ * A table may also be a view of a range of bins of another table, sharing its
+ * terms, so that a range can be evaluated into arrays that start at bin 0
+ * rather than into arrays that span the whole grid.
+ */
+public final class ZDomainTable {
+
+    // The sampling frequency that the pole angles are relative to.
+    private final double          _samplingFrequencyHz;
+
+    // The frequency grid (in Hertz), as originally supplied.
+    private final double[]        _frequencies;
+
+    // Real and imaginary parts of z^-1 and z^-2, per frequency bin.
+    private final double[]        _zMinusOneReal;
+    private final double[]        _zMinusOneImaginary;
+    private final double[]        _zMinusTwoReal;
+    private final double[]        _zMinusTwoImaginary;
+
+    // The whole table that this one is a range of bins of, or this table
+    // itself, along with the first bin and the number of bins of the range.
+    private final ZDomainTable    _wholeTable;
+    private final int             _binOffset;
+    private final int             _numberOfBins;
+
+    // The equivalent table for the most recently requested other sampling
+    // frequency, so that a filter whose rate differs from its bank's doesn't
+    // look the grid up by value on every evaluation.
+    private volatile ZDomainTable _resampledTable;
+
+    // This is the fully qualified constructor; it copies the frequency grid so
+    // that later changes to the caller's array cannot corrupt the table.
+    public ZDomainTable( final double[] frequencies, final double samplingFrequencyHz ) {
+        _samplingFrequencyHz = samplingFrequencyHz;
+        _frequencies = Arrays.copyOf( frequencies, frequencies.length );
+
+        final int numberOfBins = frequencies.length;
+        _zMinusOneReal = new double[ numberOfBins ];
+        _zMinusOneImaginary = new double[ numberOfBins ];
+        _zMinusTwoReal = new double[ numberOfBins ];
+        _zMinusTwoImaginary = new double[ numberOfBins ];
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
+            final double fAdjusted = FastMath.max( frequencies[ binIndex ],
+                                                   MathConstants.EPSILON_SMALL );
+
+            final double theta = DigitalFilterUtilities
+                    .getPoleAngleRadians( fAdjusted, samplingFrequencyHz );
+            final double cosTheta = FastMath.cos( theta );
+            final double sinTheta = FastMath.sin( theta );
+
+            _zMinusOneReal[ binIndex ] = cosTheta;
+            _zMinusOneImaginary[ binIndex ] = -sinTheta;
+            _zMinusTwoReal[ binIndex ] = ( cosTheta * cosTheta ) - ( sinTheta * sinTheta );
+            _zMinusTwoImaginary[ binIndex ] = -2.0d * sinTheta * cosTheta;
+        }
+
+        _wholeTable = this;
+        _binOffset = 0;
+        _numberOfBins = numberOfBins;
+    }
+
+    // This is the range constructor; it shares the terms of the whole table.
+    private ZDomainTable( final ZDomainTable wholeTable,
+                          final int fromIndex,
+                          final int toIndex ) {
+        _samplingFrequencyHz = wholeTable._samplingFrequencyHz;
+        _frequencies = wholeTable._frequencies;
+        _zMinusOneReal = wholeTable._zMinusOneReal;
+        _zMinusOneImaginary = wholeTable._zMinusOneImaginary;
+        _zMinusTwoReal = wholeTable._zMinusTwoReal;
+        _zMinusTwoImaginary = wholeTable._zMinusTwoImaginary;
+
+        _wholeTable = wholeTable;
+        _binOffset = fromIndex;
+        _numberOfBins = toIndex - fromIndex;
+    }
+
+    // Return a view of a range of bins of this table, whose bin 0 is bin
+    // fromIndex of this table; the view shares this table's terms, so it only
+    // costs one small object.
+    public ZDomainTable getBinRange( final int fromIndex, final int toIndex ) {
+        if ( ( fromIndex < 0 ) || ( toIndex > _numberOfBins ) || ( fromIndex > toIndex ) ) {
+            throw new IndexOutOfBoundsException( "Invalid bin range " + fromIndex //$NON-NLS-1$
+                    + " to " + toIndex ); //$NON-NLS-1$
+        }
+
+        if ( ( fromIndex == 0 ) && ( toIndex == _numberOfBins ) ) {
+            return this;
+        }
+
+        return new ZDomainTable( _wholeTable, _binOffset + fromIndex, _binOffset + toIndex );
+    }
+
+    // Return whether this table is a view of a range of bins of another table.
+    public boolean isBinRange() {
+        return _wholeTable != this;
+    }
+
+    public double getSamplingFrequencyHz() {
+        return _samplingFrequencyHz;
+    }
+
+    public int getNumberOfBins() {
+        return _numberOfBins;
+    }
+
+    public double getFrequencyHz( final int binIndex ) {
+        return _frequencies[ _binOffset + binIndex ];
+    }
+
+    // Return a copy of the frequency grid, as the table must stay immutable.
+    public double[] getFrequencies() {
+        return Arrays.copyOfRange( _frequencies, _binOffset, _binOffset + _numberOfBins );
+    }
+
+    public double getZMinusOneReal( final int binIndex ) {
+        return _zMinusOneReal[ _binOffset + binIndex ];
+    }
+
+    public double getZMinusOneImaginary( final int binIndex ) {
+        return _zMinusOneImaginary[ _binOffset + binIndex ];
+    }
+
+    public double getZMinusTwoReal( final int binIndex ) {
+        return _zMinusTwoReal[ _binOffset + binIndex ];
+    }
+
+    public double getZMinusTwoImaginary( final int binIndex ) {
+        return _zMinusTwoImaginary[ _binOffset + binIndex ];
+    }
+
+    // Return the equivalent table for another sampling frequency, which is
+    // this table itself if the sampling frequency already matches.
+    public ZDomainTable forSamplingFrequency( final double samplingFrequencyHz ) {
+        if ( samplingFrequencyHz == _samplingFrequencyHz ) {
+            return this;
+        }
+
+        final ZDomainTable resampledTable = _resampledTable;
+        if ( ( resampledTable != null )
+                && ( resampledTable._samplingFrequencyHz == samplingFrequencyHz ) ) {
+            return resampledTable;
+        }
+
+        // A range of bins is resampled through its whole table, so that the
+        // whole grid is only looked up by value once per sampling frequency.
+        final ZDomainTable newResampledTable = isBinRange()
+            ? _wholeTable.forSamplingFrequency( samplingFrequencyHz )
+                    .getBinRange( _binOffset, _binOffset + _numberOfBins )
+            : ZDomainTableCache.getZDomainTable( _frequencies, samplingFrequencyHz );
+        _resampledTable = newResampledTable;
+
+        return newResampledTable;
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.dsp;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A shared, bounded cache of {@link ZDomainTable} instances, keyed by sampling
+ * frequency and frequency grid.
+ * <p>
+ * The cache is thread-safe, and lookups take no lock, so threads that evaluate
+ * on the same grid don't serialize on it; only adding a table takes a lock,
+ * to evict the least recently used table once the cache holds more than
+ * {@link #MAXIMUM_NUMBER_OF_TABLES} entries. As the tables are immutable, they
+ * can be used concurrently by any number of threads once they have been
+ * obtained from the cache.
+ * <p>
+ * A lookup still hashes and compares the whole grid, so hot paths should
+ * resolve the table once per evaluation, or hold on to it through a
+ * {@link FrequencyGrid}, rather than look it up per filter.
+ */
+public final class ZDomainTableCache {
+
+    // The maximum number of tables to retain before evicting the least
+    // recently used one; enough for several grids at several common rates.
+    public static final int                      MAXIMUM_NUMBER_OF_TABLES = 16;
+
+    // The tables, with the time at which each was last used.
+    private static final Map< Key, CachedTable > TABLES                   =
+            new ConcurrentHashMap<>( 2 * MAXIMUM_NUMBER_OF_TABLES );
+
+    // The lock for adding and evicting tables, which lookups never take.
+    private static final Object                  EVICTION_LOCK            = new Object();
+
+    /**
+     * The default constructor is disabled, as this is a static cache class.
+     */
+    private ZDomainTableCache() {}
+
+    /**
+     * Returns the shared z-domain table for the given frequency grid and
+     * sampling frequency, computing and caching it on first use.
+     *
+     * @param frequencies
+     *            The frequency grid (in Hertz)
+     * @param samplingFrequencyHz
+     *            The sampling frequency (in Hertz)
+     * @return The immutable z-domain table for the grid and sampling frequency
+     */
+    public static ZDomainTable getZDomainTable( final double[] frequencies,
+                                                final double samplingFrequencyHz ) {
+        // The lookup key wraps the caller's array without copying it; only
+        // keys that get stored refer to the table's own private copy.
+        final Key lookupKey = new Key( frequencies, samplingFrequencyHz );
+
+        final CachedTable cachedTable = TABLES.get( lookupKey );
+        if ( cachedTable != null ) {
+            cachedTable._lastUsedNanoseconds = System.nanoTime();
+            return cachedTable._table;
+        }
+
+        // Compute the table outside of the lock, as it is the expensive part;
+        // if two threads race, the later table simply replaces the earlier one.
+        final ZDomainTable table = new ZDomainTable( frequencies, samplingFrequencyHz );
+        final Key storedKey = new Key( table.getFrequencies(), samplingFrequencyHz );
+
+        synchronized ( EVICTION_LOCK ) {
+            TABLES.put( storedKey, new CachedTable( table ) );
+            while ( TABLES.size() > MAXIMUM_NUMBER_OF_TABLES ) {
+                evictLeastRecentlyUsedTable();
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Removes all cached tables, such as after a global grid change.
+     */
+    public static void clear() {
+        synchronized ( EVICTION_LOCK ) {
+            TABLES.clear();
+        }
+    }
+
+    // Remove the table that was used the longest time ago; the cache is small
+    // enough for a linear scan, and this only runs when a table is added.
+    private static void evictLeastRecentlyUsedTable() {
+        Key eldestKey = null;
+        long eldestNanoseconds = 0L;
+        for ( final Map.Entry< Key, CachedTable > entry : TABLES.entrySet() ) {
+            final long lastUsedNanoseconds = entry.getValue()._lastUsedNanoseconds;
+            if ( ( eldestKey == null ) || ( ( lastUsedNanoseconds - eldestNanoseconds ) < 0L ) ) {
+                eldestKey = entry.getKey();
+                eldestNanoseconds = lastUsedNanoseconds;
+            }
+        }
+
+        TABLES.remove( eldestKey );
+    }
+
+    // A cached table, with the time at which it was last used; the time is
+    // only approximate under contention, which is enough for eviction.
+    private static final class CachedTable {
+
+        private final ZDomainTable _table;
+        private volatile long      _lastUsedNanoseconds;
+
+        CachedTable( final ZDomainTable table ) {
+            _table = table;
+            _lastUsedNanoseconds = System.nanoTime();
+        }
+    }
+
+    // The cache key, which compares the grid by value.
+    private static final class Key {
+
+        private final double[] _frequencies;
+        private final double   _samplingFrequencyHz;
+        private final int      _hashCode;
+
+        Key( final double[] frequencies, final double samplingFrequencyHz ) {
+            _frequencies = frequencies;
+            _samplingFrequencyHz = samplingFrequencyHz;
+            _hashCode = ( 31 * Arrays.hashCode( frequencies ) )
+                    + Double.hashCode( samplingFrequencyHz );
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof Key ) ) {
+                return false;
+            }
+
+            final Key otherKey = ( Key ) other;
+            return ( Double.compare( _samplingFrequencyHz, otherKey._samplingFrequencyHz ) == 0 )
+                    && Arrays.equals( _frequencies, otherKey._frequencies );
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+    }
+}
@@ -30,7 +30,14 @@
  */
 package com.mhschmieder.jsigproc.filter;
 
+import com.mhschmieder.jacoustics.FrequencySignalUtilities;
+import com.mhschmieder.jmath.MathConstants;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
 import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
 
 /**
  * The <code>AcousticalFilter</code> interface is an interface for setting and
@@ -40,4 +47,261 @@ public interface AcousticalFilter {
 
     // Return the filter value at a given frequency (in Hertz).
     Complex getH( final double f );
+
+    // Return the filter values at all given frequencies (in Hertz), as
+    // separate real and imaginary parts in the supplied output arrays.
+    // NOTE: This is the preferred entry point for full frequency grids, as
+    //  implementations avoid allocating Complex objects per frequency bin.
+    default void getH( final double[] frequencies,
+                       final double[] hReal,
+                       final double[] hImaginary ) {
+        Arrays.fill( hReal, 0, frequencies.length, 1.0d );
+        Arrays.fill( hImaginary, 0, frequencies.length, 0.0d );
+
+        multiplyH( frequencies, 0, frequencies.length, hReal, hImaginary );
+    }
+
+    // Multiply the filter values at the given range of frequency bins into the
+    // supplied real and imaginary parts, which serve as accumulators so that
+    // cascaded filters can be combined without intermediate arrays.
+    // NOTE: The default implementation falls back to the single-frequency
+    //  method; filters in tight loops should override it with primitive math.
+    default void multiplyH( final double[] frequencies,
+                            final int fromIndex,
+                            final int toIndex,
+                            final double[] hReal,
+                            final double[] hImaginary ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final Complex h = getH( frequencies[ binIndex ] );
+            ComplexArithmetic.multiplyInto( hReal,
+                                            hImaginary,
+                                            binIndex,
+                                            h.getReal(),
+                                            h.getImaginary() );
+        }
+    }
+
+    // Multiply the filter values at the given range of frequency bins of a
+    // shared z-domain table into the supplied real and imaginary parts.
+    // NOTE: Digital filters override this to reuse the precomputed z^-1 and
+    //  z^-2 terms, rather than recomputing trigonometry for every bin.
+    default void multiplyH( final ZDomainTable zDomainTable,
+                            final int fromIndex,
+                            final int toIndex,
+                            final double[] hReal,
+                            final double[] hImaginary ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final Complex h = getH( zDomainTable.getFrequencyHz( binIndex ) );
+            ComplexArithmetic.multiplyInto( hReal,
+                                            hImaginary,
+                                            binIndex,
+                                            h.getReal(),
+                                            h.getImaginary() );
+        }
+    }
+
+    // Return the filter values at all given frequencies (in Hertz), as
+    // separate single precision real and imaginary parts in the supplied
+    // output arrays, for bulk sweeps where half the memory traffic matters
+    // more than precision.
+    // NOTE: The values are computed in double precision and rounded once per
+    //  filter, so they are within 2^-23 relative error (about 1.0e-6 dB and
+    //  1.2e-7 radians) per filter of the double precision method.
+    default void getH( final double[] frequencies,
+                       final float[] hReal,
+                       final float[] hImaginary ) {
+        Arrays.fill( hReal, 0, frequencies.length, 1.0f );
+        Arrays.fill( hImaginary, 0, frequencies.length, 0.0f );
+
+        multiplyH( frequencies, 0, frequencies.length, hReal, hImaginary );
+    }
+
+    // Multiply the filter values at the given range of frequency bins into the
+    // supplied single precision real and imaginary accumulators.
+    // NOTE: The default implementation falls back to the single-frequency
+    //  method, so that it needs no temporary arrays; filters that are
+    //  evaluated in bulk override it to round straight into the accumulators.
+    default void multiplyH( final double[] frequencies,
+                            final int fromIndex,
+                            final int toIndex,
+                            final float[] hReal,
+                            final float[] hImaginary ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final Complex h = getH( frequencies[ binIndex ] );
+            ComplexArithmetic.multiplyInto( hReal,
+                                            hImaginary,
+                                            binIndex,
+                                            h.getReal(),
+                                            h.getImaginary() );
+        }
+    }
+
+    // Multiply the filter values at the given range of frequency bins of a
+    // shared z-domain table into the supplied single precision real and
+    // imaginary accumulators.
+    // NOTE: As above, the default implementation falls back to the
+    //  single-frequency method.
+    default void multiplyH( final ZDomainTable zDomainTable,
+                            final int fromIndex,
+                            final int toIndex,
+                            final float[] hReal,
+                            final float[] hImaginary ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final Complex h = getH( zDomainTable.getFrequencyHz( binIndex ) );
+            ComplexArithmetic.multiplyInto( hReal,
+                                            hImaginary,
+                                            binIndex,
+                                            h.getReal(),
+                                            h.getImaginary() );
+        }
+    }
+
+    // Return the group delay (in seconds) at a given frequency (in Hertz),
+    // which is the derivative of the phase with respect to angular frequency.
+    // NOTE: As the filter values are conjugated, a delay has positive phase,
+    //  so the group delay of a causal filter is normally positive.
+    default double getGroupDelaySeconds( final double f ) {
+        final double[] magnitude = new double[] { 1.0d };
+        final double[] phaseRadians = new double[ 1 ];
+        final double[] groupDelaySeconds = new double[ 1 ];
+        multiplyPolarH( new double[] { f }, 0, 1, magnitude, phaseRadians, groupDelaySeconds );
+
+        return groupDelaySeconds[ 0 ];
+    }
+
+    // Return the phase delay (in seconds) at a given frequency (in Hertz),
+    // which is the phase divided by the angular frequency.
+    default double getPhaseDelaySeconds( final double f ) {
+        // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
+        final double fAdjusted = FastMath.max( f, MathConstants.EPSILON_SMALL );
+
+        final double[] magnitude = new double[] { 1.0d };
+        final double[] phaseRadians = new double[ 1 ];
+        final double[] groupDelaySeconds = new double[ 1 ];
+        multiplyPolarH( new double[] { fAdjusted },
+                        0,
+                        1,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+
+        return phaseRadians[ 0 ]
+                / FrequencySignalUtilities.getAngularFrequencyRadians( fAdjusted );
+    }
+
+    // Return the magnitude, phase (in radians) and group delay (in seconds) at
+    // all given frequencies (in Hertz) in the supplied output arrays, so that
+    // delay alignment needs only one evaluation of the frequency grid.
+    default void getPolarH( final double[] frequencies,
+                            final double[] magnitude,
+                            final double[] phaseRadians,
+                            final double[] groupDelaySeconds ) {
+        Arrays.fill( magnitude, 0, frequencies.length, 1.0d );
+        Arrays.fill( phaseRadians, 0, frequencies.length, 0.0d );
+        Arrays.fill( groupDelaySeconds, 0, frequencies.length, 0.0d );
+
+        multiplyPolarH( frequencies,
+                        0,
+                        frequencies.length,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // Multiply the filter magnitudes at the given range of frequency bins into
+    // the supplied magnitude accumulator, and add the phases and group delays
+    // to the supplied phase and group delay accumulators, so that cascaded
+    // filters combine without intermediate arrays.
+    // NOTE: The default implementation falls back to the single-frequency
+    //  method, unwrapping the phase against the previous bin and taking the
+    //  group delay from the phase difference across a small relative step;
+    //  digital filters override it with exact analytic expressions.
+    default void multiplyPolarH( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] magnitude,
+                                 final double[] phaseRadians,
+                                 final double[] groupDelaySeconds ) {
+        double previousPhase = 0.0d;
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
+            final double fAdjusted = FastMath.max( frequencies[ binIndex ],
+                                                   MathConstants.EPSILON_SMALL );
+
+            final Complex h = getH( fAdjusted );
+            double phase = h.getArgument();
+            if ( binIndex > fromIndex ) {
+                phase += MathConstants.TWO_PI
+                        * FastMath.rint( ( previousPhase - phase ) / MathConstants.TWO_PI );
+            }
+            previousPhase = phase;
+
+            final double deltaF = 1.0e-6d * fAdjusted;
+            final double deltaPhase = getH( fAdjusted + deltaF )
+                    .multiply( getH( fAdjusted - deltaF ).conjugate() ).getArgument();
+
+            magnitude[ binIndex ] *= h.abs();
+            phaseRadians[ binIndex ] += phase;
+            groupDelaySeconds[ binIndex ] += deltaPhase
+                    / FrequencySignalUtilities.getAngularFrequencyRadians( 2.0d * deltaF );
+        }
+    }
+
+    // Multiply the filter magnitudes at the given range of bins of a shared
+    // z-domain table into the supplied magnitude accumulator, and add the
+    // phases and group delays to the supplied accumulators.
+    // NOTE: The default implementation falls back to the frequency method;
+    //  digital filters override it to reuse the precomputed z^-1 terms.
+    default void multiplyPolarH( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] magnitude,
+                                 final double[] phaseRadians,
+                                 final double[] groupDelaySeconds ) {
+        multiplyPolarH( zDomainTable.getFrequencies(),
+                        fromIndex,
+                        toIndex,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // Return the squared magnitudes of the filter values at all given
+    // frequencies (in Hertz) in the supplied output array, for the many
+    // consumers that only need the magnitude (such as in dB).
+    default void getMagnitudeSquared( final double[] frequencies,
+                                      final double[] magnitudeSquared ) {
+        Arrays.fill( magnitudeSquared, 0, frequencies.length, 1.0d );
+
+        multiplyMagnitudeSquared( frequencies, 0, frequencies.length, magnitudeSquared );
+    }
+
+    // Multiply the squared magnitudes of the filter values at the given range
+    // of frequency bins into the supplied accumulator.
+    // NOTE: The default implementation falls back to the single-frequency
+    //  method; digital filters override it with real arithmetic only.
+    default void multiplyMagnitudeSquared( final double[] frequencies,
+                                           final int fromIndex,
+                                           final int toIndex,
+                                           final double[] magnitudeSquared ) {
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final Complex h = getH( frequencies[ binIndex ] );
+            magnitudeSquared[ binIndex ] *= ComplexArithmetic.getNorm( h.getReal(),
+                                                                       h.getImaginary() );
+        }
+    }
+
+    // Multiply the squared magnitudes of the filter values at the given range
+    // of bins of a shared z-domain table into the supplied accumulator.
+    // NOTE: The default implementation falls back to the frequency method;
+    //  digital filters override it to reuse the precomputed z^-1 terms.
+    default void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                           final int fromIndex,
+                                           final int toIndex,
+                                           final double[] magnitudeSquared ) {
+        multiplyMagnitudeSquared( zDomainTable.getFrequencies(),
+                                  fromIndex,
+                                  toIndex,
+                                  magnitudeSquared );
+    }
 }
@@ -32,11 +32,15 @@ package com.mhschmieder.jsigproc.filter;
 
 import com.mhschmieder.jacoustics.FrequencySignalUtilities;
 import com.mhschmieder.jmath.MathConstants;
-import com.mhschmieder.jmath.MathUtilities;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
 import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.util.FastMath;
 
+import java.util.Arrays;
+
 // This class models a generic All Pass Filter (cf. Robert Bristow-Johnson's
 // BiquadFilterCoefficients.rtf for details on formulae and coefficients).
 public final class AllPassFilter extends DigitalFilter {
@@ -50,14 +54,17 @@ public final class AllPassFilter extends DigitalFilter {
     // Bandwidth, range 1.1 to 0.1 octave
     private static final double    O_DEFAULT        = 1.0d;
 
-    private boolean                _bypassed;
+    private volatile boolean       _bypassed;
     private double                 _f;
     private double                 _o;
 
     // Declare equation domain parameters (computed from f/o, not
     // user-specified).
-    private Complex                _w;
-    private Complex                _q;
+    // NOTE: These are immutable and replaced wholesale by the setters, and
+    //  each evaluation reads them only once, so they can be changed from a
+    //  control thread while another thread is evaluating responses.
+    private volatile Complex       _w;
+    private volatile Complex       _q;
 
     // This is the generic default constructor for a single filter; it sets all
     // instance variables to default values.
@@ -90,6 +97,8 @@ public final class AllPassFilter extends DigitalFilter {
     //  object created here.
     public AllPassFilter( final AllPassFilter allPassFilter ) {
         this( allPassFilter.isBypassed(), allPassFilter.getF(), allPassFilter.getO() );
+
+        setSamplingFrequencyHz( allPassFilter.getSamplingFrequencyHz() );
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -119,26 +128,26 @@ public final class AllPassFilter extends DigitalFilter {
         // The sampling frequency of the filter is independent of the other
         // sampling frequencies, as we are passing the analog frequency to the
         // filter method in which we want to get the complex response.
-        Complex h = Complex.ONE;
-
         // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
         final double fAdjusted = FastMath.max( f, MathConstants.EPSILON_SMALL );
 
-        final Complex z = DigitalFilterUtilities
-                .convertFrequencyToZDomain( fAdjusted, samplingFrequencyHz );
-        final Complex zSquared = MathUtilities.sqrComplex( z );
-
-        // Get the complex frequency variable in the s-plane.
-        final Complex s = FrequencySignalUtilities.convertFrequencyToSDomain( fAdjusted );
-
         // Theta is the angle to the pole (radians), in the z-plane.
         final double theta = DigitalFilterUtilities
                 .getPoleAngleRadians( fAdjusted, samplingFrequencyHz );
 
+        // Work with primitive complex pairs, so that Complex objects are only
+        // created at the API boundary.
+        final double zReal = FastMath.cos( theta );
+        final double zImaginary = FastMath.sin( theta );
+        final double zSquaredReal = ( zReal * zReal ) - ( zImaginary * zImaginary );
+        final double zSquaredImaginary = 2.0d * zReal * zImaginary;
+
         final double Q = _q.getReal();
         final double W = _w.getReal();
 
-        final double P = s.getImaginary() / FastMath.tan( 0.5d * theta );
+        // The imaginary part of s is the angular frequency.
+        final double P = FrequencySignalUtilities.getAngularFrequencyRadians( fAdjusted )
+                / FastMath.tan( 0.5d * theta );
 
         final double QW2 = Q * W * W;
         final double P2Q = P * P * Q;
@@ -151,21 +160,311 @@ public final class AllPassFilter extends DigitalFilter {
         final double CA = C / A;
         final double BA = B / A;
 
-        final Complex denominator = zSquared.add( z.multiply( CA ) ).add( BA );
-        final Complex numerator = zSquared.multiply( BA ).add( z.multiply( CA ) ).add( 1.0d );
+        final double[] h = new double[ 4 ];
+        ComplexArithmetic.evaluateQuadratic( BA,
+                                             CA,
+                                             1.0d,
+                                             zReal,
+                                             zImaginary,
+                                             zSquaredReal,
+                                             zSquaredImaginary,
+                                             h,
+                                             0 );
+        ComplexArithmetic.evaluateQuadratic( 1.0d,
+                                             CA,
+                                             BA,
+                                             zReal,
+                                             zImaginary,
+                                             zSquaredReal,
+                                             zSquaredImaginary,
+                                             h,
+                                             2 );
 
         // NOTE: Avoid divide by zero exceptions!
-        if ( Complex.ZERO.equals( denominator ) ) {
+        if ( ComplexArithmetic.getNorm( h[ 0 ], h[ 1 ] ) == 0.0d ) {
             return Complex.ONE;
         }
 
         // Result = numerator / denominator
-        h = numerator.divide( denominator );
+        ComplexArithmetic.divide( h[ 2 ], h[ 3 ], h[ 0 ], h[ 1 ], h, 0 );
 
         // Return the all pass filter value at the given frequency.
         // NOTE: For now, we are returning the conjugate instead. This takes
         //  care of sign problems in the delay time in some implementations.
-        return h.conjugate();
+        return new Complex( h[ ComplexArithmetic.REAL ], -h[ ComplexArithmetic.IMAGINARY ] );
+    }
+
+    // This instance method multiplies the All Pass Filter values at a range of
+    // given frequencies (in Hertz) into the supplied accumulators, using the
+    // shared z-domain table for the frequency grid and sampling frequency.
+    @Override
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    // This instance method multiplies the All Pass Filter values at a range of
+    // bins of a precomputed z-domain table into the supplied accumulators,
+    // using primitive arithmetic so that no objects are allocated per bin.
+    @Override
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // The response doesn't depend on the sampling frequency, as the
+        // pre-warping is exact at every bin.
+        final double Q = _q.getReal();
+        final double W = _w.getReal();
+
+        final double[] h = new double[ 2 ];
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            if ( getH( zDomainTable, binIndex, Q, W, h ) ) {
+                ComplexArithmetic.multiplyInto( hReal,
+                                                hImaginary,
+                                                binIndex,
+                                                h[ ComplexArithmetic.REAL ],
+                                                h[ ComplexArithmetic.IMAGINARY ] );
+            }
+        }
+    }
+
+    // This instance method multiplies the All Pass Filter values at a range of
+    // given frequencies (in Hertz) into the supplied single precision
+    // accumulators, for bulk sweeps where precision matters less than memory
+    // traffic.
+    @Override
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    // This instance method multiplies the All Pass Filter values at a range of
+    // bins of a precomputed z-domain table into the supplied single precision
+    // accumulators. The values are computed in double precision and rounded
+    // once, to within 2^-23 relative error of the double method.
+    @Override
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // The response doesn't depend on the sampling frequency, as the
+        // pre-warping is exact at every bin.
+        final double Q = _q.getReal();
+        final double W = _w.getReal();
+
+        final double[] h = new double[ 2 ];
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            if ( getH( zDomainTable, binIndex, Q, W, h ) ) {
+                ComplexArithmetic.multiplyInto( hReal,
+                                                hImaginary,
+                                                binIndex,
+                                                h[ ComplexArithmetic.REAL ],
+                                                h[ ComplexArithmetic.IMAGINARY ] );
+            }
+        }
+    }
+
+    // This instance method multiplies the All Pass Filter magnitudes at a
+    // range of given frequencies (in Hertz) into the supplied magnitude
+    // accumulator, and adds the phases and group delays to the supplied
+    // accumulators.
+    @Override
+    public void multiplyPolarH( final double[] frequencies,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        multiplyPolarH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                        fromIndex,
+                        toIndex,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // This instance method adds the All Pass Filter phases and group delays at
+    // a range of bins of a precomputed z-domain table to the supplied
+    // accumulators; the magnitude of an all pass filter is one, so the
+    // magnitude accumulator is left untouched. The phase is twice the angle
+    // of the analog denominator, and the group delay is its derivative with
+    // respect to w, in closed form.
+    @Override
+    public void multiplyPolarH( final ZDomainTable zDomainTable,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        final double Q = _q.getReal();
+        final double W = _w.getReal();
+        final double W2 = W * W;
+
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final double omega = getAngularFrequencyRadians( zDomainTable, binIndex );
+            final double omega2 = omega * omega;
+
+            final double denominatorReal = Q * ( W2 - omega2 );
+            final double denominatorImaginary = W * omega;
+
+            // NOTE: Avoid divide by zero exceptions!
+            final double denominatorNorm = ComplexArithmetic.getNorm( denominatorReal,
+                                                                      denominatorImaginary );
+            if ( denominatorNorm == 0.0d ) {
+                continue;
+            }
+
+            phaseRadians[ binIndex ] += 2.0d
+                    * FastMath.atan2( denominatorImaginary, denominatorReal );
+            groupDelaySeconds[ binIndex ] += ( 2.0d * Q * W * ( W2 + omega2 ) ) / denominatorNorm;
+        }
+    }
+
+    // This instance method returns the All Pass Filter phases (in radians) at
+    // all given frequencies (in Hertz) in the supplied output array, for phase
+    // alignment sweeps that have no use for the unit magnitude.
+    public void getPhaseRadians( final double[] frequencies, final double[] phaseRadians ) {
+        Arrays.fill( phaseRadians, 0, frequencies.length, 0.0d );
+
+        addPhaseRadians( frequencies, 0, frequencies.length, phaseRadians );
+    }
+
+    // This instance method adds the All Pass Filter phases (in radians) at a
+    // range of given frequencies (in Hertz) to the supplied accumulator.
+    public void addPhaseRadians( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] phaseRadians ) {
+        addPhaseRadians( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                         fromIndex,
+                         toIndex,
+                         phaseRadians );
+    }
+
+    // This instance method adds the All Pass Filter phases (in radians) at a
+    // range of bins of a precomputed z-domain table to the supplied
+    // accumulator, with one arctangent per bin and no complex arithmetic.
+    public void addPhaseRadians( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] phaseRadians ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        final double Q = _q.getReal();
+        final double W = _w.getReal();
+
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            phaseRadians[ binIndex ] += getPhaseRadians( zDomainTable, binIndex, Q, W );
+        }
+    }
+
+    // This instance method leaves the supplied squared magnitude accumulator
+    // untouched, as the magnitude of an all pass filter is one everywhere.
+    @Override
+    public void multiplyMagnitudeSquared( final double[] frequencies,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {}
+
+    // This instance method leaves the supplied squared magnitude accumulator
+    // untouched, as the magnitude of an all pass filter is one everywhere.
+    @Override
+    public void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {}
+
+    // This method computes the All Pass Filter value at one bin of a z-domain
+    // table into the supplied array, returning false if the denominator
+    // vanishes there so that the bin should be left untouched.
+    //
+    // As the bilinear transform is re-warped at every bin, the response is
+    // exactly that of the analog prototype at s = jw, whatever the sampling
+    // frequency. Its numerator Qs^2 - Ws + QW^2 is the conjugate of the
+    // denominator D = Qs^2 + Ws + QW^2, so the conjugated response D / D* is
+    // just D^2 / |D|^2, with no complex division or z terms needed.
+    private static boolean getH( final ZDomainTable table,
+                                 final int binIndex,
+                                 final double Q,
+                                 final double W,
+                                 final double[] h ) {
+        final double omega = getAngularFrequencyRadians( table, binIndex );
+        final double denominatorReal = Q * ( ( W * W ) - ( omega * omega ) );
+        final double denominatorImaginary = W * omega;
+
+        // NOTE: Avoid divide by zero exceptions!
+        final double denominatorNorm = ComplexArithmetic.getNorm( denominatorReal,
+                                                                  denominatorImaginary );
+        if ( denominatorNorm == 0.0d ) {
+            return false;
+        }
+
+        // Result = conjugate( numerator / denominator ) = D^2 / |D|^2
+        h[ ComplexArithmetic.REAL ] = ( ( denominatorReal * denominatorReal )
+                - ( denominatorImaginary * denominatorImaginary ) ) / denominatorNorm;
+        h[ ComplexArithmetic.IMAGINARY ] = ( 2.0d * denominatorReal * denominatorImaginary )
+                / denominatorNorm;
+        return true;
+    }
+
+    // This method returns the phase (in radians) of the conjugated All Pass
+    // Filter value at one bin of a z-domain table, which is twice the angle
+    // of the analog denominator; as the imaginary part of the denominator is
+    // positive, the phase rises continuously from 0 to 2 pi without wrapping.
+    private static double getPhaseRadians( final ZDomainTable table,
+                                           final int binIndex,
+                                           final double Q,
+                                           final double W ) {
+        final double omega = getAngularFrequencyRadians( table, binIndex );
+        return 2.0d * FastMath.atan2( W * omega, Q * ( ( W * W ) - ( omega * omega ) ) );
+    }
+
+    // This method returns the angular frequency at one bin of a z-domain table.
+    static double getAngularFrequencyRadians( final ZDomainTable table, final int binIndex ) {
+        // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
+        final double fAdjusted = FastMath.max( table.getFrequencyHz( binIndex ),
+                                               MathConstants.EPSILON_SMALL );
+        return FrequencySignalUtilities.getAngularFrequencyRadians( fAdjusted );
+    }
+
+    // These methods return the analog equation domain parameters, for the
+    // fused evaluation of a whole bank of All Pass Filters.
+    double getQ() {
+        return _q.getReal();
+    }
+
+    double getW() {
+        return _w.getReal();
     }
 
     public double getO() {
@@ -217,6 +516,8 @@ public final class AllPassFilter extends DigitalFilter {
 
     public void setBypassed( final boolean allPassBypassed ) {
         _bypassed = allPassBypassed;
+
+        incrementModificationCount();
     }
 
     public void setF( final double f ) {
@@ -227,6 +528,8 @@ public final class AllPassFilter extends DigitalFilter {
         //  convertFrequencyToSDomain()
         _f = f;
         _w = new Complex( FrequencySignalUtilities.getAngularFrequencyRadians( f ), 0.0d );
+
+        incrementModificationCount();
     }
 
     public void setO( final double o ) {
@@ -234,5 +537,7 @@ public final class AllPassFilter extends DigitalFilter {
         // domain parameter "Q" (for tight loop efficiency).
         _o = o;
         _q = new Complex( o, 0.0d );
+
+        incrementModificationCount();
     }
 }
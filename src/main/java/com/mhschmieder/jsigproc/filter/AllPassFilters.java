@@ -31,18 +31,45 @@
 package com.mhschmieder.jsigproc.filter;
 
 import com.mhschmieder.jcommons.lang.NumberUtilities;
+import com.mhschmieder.jmath.MathConstants;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
+import com.mhschmieder.jsigproc.dsp.DspConstants;
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.util.FastMath;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class AllPassFilters implements AcousticalFilter {
 
     // All Pass Filters are bypassed by default as they are never flat.
     protected static final boolean ALL_PASS_FILTERS_BYPASSED_DEFAULT = true;
 
+    // The size beyond which the running product of the band denominators is
+    // scaled back down, which only matters to its angle, so that it can't
+    // overflow however many bands are cascaded.
+    private static final double    DENOMINATOR_PRODUCT_LIMIT         = 1.0e150d;
+
     private boolean              _allPassFiltersBypassed;
     private int                  _numberOfFilters;
     private AllPassFilter[]      _allPassFilters;
 
+    // The sampling frequency shared by all of the filters in this bank.
+    private double               _samplingFrequencyHz;
+
+    // The last composite responses over whole frequency grids, reused for as
+    // long as none of the bands have been modified, so that polling an idle
+    // bank for redraws costs no filter evaluation; null unless this bank has
+    // been set to memoize its responses.
+    private volatile FilterBankResponseCache _responseCache;
+
+    // Bumped by the bank-level setters, and by the counts of any bands that
+    // get replaced, so that the bank's modification count never goes back.
+    private final AtomicLong     _modificationCount;
+
     // This is the default constructor; it sets all instance variables to
     // default values based on the supplied center frequencies per filter.
     public AllPassFilters( final int numberOfFilters, final String[] centerFrequencies ) {
@@ -56,16 +83,32 @@ public class AllPassFilters implements AcousticalFilter {
         this( allPassFiltersBypassed, numberOfFilters, allPassFilters, null );
     }
 
-    // This is the superset constructor, to allow a common initialization path.
+    // NOTE: The center frequencies are parsed once here, for compatibility;
+    //  prefer the factory that takes a shared frequency grid.
     public AllPassFilters( final boolean allPassFiltersBypassed,
                            final int numberOfFilters,
                            final AllPassFilter[] allPassFilters,
                            final String[] centerFrequencies ) {
+        this( parseCenterFrequencies( centerFrequencies ),
+              allPassFiltersBypassed,
+              numberOfFilters,
+              allPassFilters );
+    }
+
+    // This is the superset constructor, to allow a common initialization path.
+    // NOTE: The grid comes first so that no public overload that takes the
+    //  text table is made ambiguous for callers that pass a null literal.
+    protected AllPassFilters( final FrequencyGrid centerFrequencyGrid,
+                              final boolean allPassFiltersBypassed,
+                              final int numberOfFilters,
+                              final AllPassFilter[] allPassFilters ) {
         _allPassFiltersBypassed = allPassFiltersBypassed;
         _numberOfFilters = numberOfFilters;
 
         _allPassFilters = new AllPassFilter[ _numberOfFilters ];
 
+        _modificationCount = new AtomicLong( 0L );
+
         // Set the array to be copies of the source array, if present.
         if ( allPassFilters != null ) {
             final int numberOfFiltersToCopy = FastMath.min( allPassFilters.length, _numberOfFilters );
@@ -73,15 +116,46 @@ public class AllPassFilters implements AcousticalFilter {
                 _allPassFilters[ filterIndex ] = new AllPassFilter( allPassFilters[ filterIndex ] );
             }
         }
-        else if ( centerFrequencies != null ) {
-            final int numberOfFiltersToSet = FastMath.min( centerFrequencies.length, _numberOfFilters );
+        else if ( centerFrequencyGrid != null ) {
+            final int numberOfFiltersToSet =
+                    FastMath.min( centerFrequencyGrid.getNumberOfBins(), _numberOfFilters );
             for ( int filterIndex = 0; filterIndex < numberOfFiltersToSet; filterIndex++ ) {
-                _allPassFilters[ filterIndex ] = new AllPassFilter( NumberUtilities
-                        .parseDouble( centerFrequencies[ filterIndex ] ) );
+                final double centerFrequencyHz = centerFrequencyGrid.getFrequencyHz( filterIndex );
+                _allPassFilters[ filterIndex ] = new AllPassFilter( centerFrequencyHz );
+            }
+        }
+
+        // All of the filters in a bank share its sampling frequency.
+        _samplingFrequencyHz = DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ;
+        for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
+            if ( _allPassFilters[ filterIndex ] != null ) {
+                _allPassFilters[ filterIndex ].setSamplingFrequencyHz( _samplingFrequencyHz );
             }
         }
     }
 
+    // This is the default factory for a bank whose bands start at the center
+    // frequencies of a shared grid, which spares parsing a text table.
+    public static AllPassFilters withCenterFrequencyGrid( final int numberOfFilters,
+                                                          final FrequencyGrid centerFrequencyGrid ) {
+        return new AllPassFilters( centerFrequencyGrid,
+                                   ALL_PASS_FILTERS_BYPASSED_DEFAULT,
+                                   numberOfFilters,
+                                   null );
+    }
+
+    // This is the fully qualified factory for a bank whose bands start at the
+    // center frequencies of a shared grid, unless source filters are supplied.
+    public static AllPassFilters withCenterFrequencyGrid( final boolean allPassFiltersBypassed,
+                                                          final int numberOfFilters,
+                                                          final AllPassFilter[] allPassFilters,
+                                                          final FrequencyGrid centerFrequencyGrid ) {
+        return new AllPassFilters( centerFrequencyGrid,
+                                   allPassFiltersBypassed,
+                                   numberOfFilters,
+                                   allPassFilters );
+    }
+
     // NOTE: This is the copy constructor, and is offered in place of clone()
     //  to guarantee that the source object is never modified by the new target
     //  object created here.
@@ -90,6 +164,9 @@ public class AllPassFilters implements AcousticalFilter {
               allPassFilters.getNumberOfFilters(),
               allPassFilters.getAllPassFilters(),
               null );
+
+        setSamplingFrequencyHz( allPassFilters.getSamplingFrequencyHz() );
+        setResponseMemoized( allPassFilters.isResponseMemoized() );
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -128,10 +205,369 @@ public class AllPassFilters implements AcousticalFilter {
         return h;
     }
 
+    // Multiply the all pass filter values at a range of given frequencies (in
+    // Hertz) into the supplied accumulators, without per-bin allocation.
+    @Override
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        if ( _allPassFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    // Multiply the all pass filter values at a range of bins of a precomputed
+    // z-domain table into the supplied accumulators.
+    @Override
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        if ( _allPassFiltersBypassed ) {
+            return;
+        }
+
+        // An unchanged bank is served from its memoized response, if it keeps
+        // one and the whole grid was evaluated before.
+        final FilterBankResponseCache responseCache = _responseCache;
+        if ( ( responseCache != null ) && responseCache.multiplyH( zDomainTable,
+                                                                   fromIndex,
+                                                                   toIndex,
+                                                                   _allPassFilters,
+                                                                   _numberOfFilters,
+                                                                   hReal,
+                                                                   hImaginary ) ) {
+            return;
+        }
+
+        // The enabled bands are fused, so that their conjugated responses
+        // D / D* are multiplied as the single ratio of the products of their
+        // analog denominators, with one division per bin for the whole bank.
+        final double[] q = new double[ _numberOfFilters ];
+        final double[] w = new double[ _numberOfFilters ];
+        final int numberOfActiveFilters = getActiveFilterParameters( q, w );
+        if ( numberOfActiveFilters == 0 ) {
+            return;
+        }
+
+        final double[] h = new double[ 2 ];
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            if ( getH( q, w, numberOfActiveFilters, zDomainTable, binIndex, h ) ) {
+                ComplexArithmetic.multiplyInto( hReal,
+                                                hImaginary,
+                                                binIndex,
+                                                h[ ComplexArithmetic.REAL ],
+                                                h[ ComplexArithmetic.IMAGINARY ] );
+            }
+        }
+    }
+
+    // Multiply the all pass filter values at a range of given frequencies (in
+    // Hertz) into the supplied single precision accumulators.
+    @Override
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        if ( _allPassFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    // Multiply the all pass filter values at a range of bins of a precomputed
+    // z-domain table into the supplied single precision accumulators. The
+    // enabled bands are fused as in the double precision method, and rounded
+    // once per bin for the whole bank.
+    @Override
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        if ( _allPassFiltersBypassed ) {
+            return;
+        }
+
+        final double[] q = new double[ _numberOfFilters ];
+        final double[] w = new double[ _numberOfFilters ];
+        final int numberOfActiveFilters = getActiveFilterParameters( q, w );
+        if ( numberOfActiveFilters == 0 ) {
+            return;
+        }
+
+        final double[] h = new double[ 2 ];
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            if ( getH( q, w, numberOfActiveFilters, zDomainTable, binIndex, h ) ) {
+                ComplexArithmetic.multiplyInto( hReal,
+                                                hImaginary,
+                                                binIndex,
+                                                h[ ComplexArithmetic.REAL ],
+                                                h[ ComplexArithmetic.IMAGINARY ] );
+            }
+        }
+    }
+
+    // Evaluate the fused response of the enabled bands at one bin of a
+    // z-domain table into the supplied array, as the ratio D^2 / |D|^2 for the
+    // product D of their analog denominators, returning false where it is
+    // undefined so that the bin is left alone.
+    private static boolean getH( final double[] q,
+                                 final double[] w,
+                                 final int numberOfActiveFilters,
+                                 final ZDomainTable zDomainTable,
+                                 final int binIndex,
+                                 final double[] h ) {
+        final double omega = AllPassFilter.getAngularFrequencyRadians( zDomainTable, binIndex );
+        getDenominatorProduct( q, w, numberOfActiveFilters, omega, h );
+        final double productReal = h[ ComplexArithmetic.REAL ];
+        final double productImaginary = h[ ComplexArithmetic.IMAGINARY ];
+
+        // NOTE: Avoid divide by zero exceptions!
+        final double productNorm = ComplexArithmetic.getNorm( productReal, productImaginary );
+        if ( productNorm == 0.0d ) {
+            return false;
+        }
+
+        h[ ComplexArithmetic.REAL ] = ( ( productReal * productReal )
+                - ( productImaginary * productImaginary ) ) / productNorm;
+        h[ ComplexArithmetic.IMAGINARY ] = ( 2.0d * productReal * productImaginary ) / productNorm;
+        return true;
+    }
+
+    // Return the all pass filter phases (in radians) at all given frequencies
+    // (in Hertz) in the supplied output array, for phase alignment sweeps that
+    // have no use for the unit magnitude.
+    public final void getPhaseRadians( final double[] frequencies, final double[] phaseRadians ) {
+        Arrays.fill( phaseRadians, 0, frequencies.length, 0.0d );
+
+        addPhaseRadians( frequencies, 0, frequencies.length, phaseRadians );
+    }
+
+    // Add the all pass filter phases (in radians) at a range of given
+    // frequencies (in Hertz) to the supplied accumulator.
+    public final void addPhaseRadians( final double[] frequencies,
+                                       final int fromIndex,
+                                       final int toIndex,
+                                       final double[] phaseRadians ) {
+        if ( _allPassFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        addPhaseRadians( zDomainTable, fromIndex, toIndex, phaseRadians );
+    }
+
+    // Add the all pass filter phases (in radians) at a range of bins of a
+    // precomputed z-domain table to the supplied accumulator.
+    //
+    // The phase of each band is twice the angle of its analog denominator,
+    // which lies in the upper half plane, so the angles are summed by
+    // multiplying the denominators together and counting the times the
+    // product crosses the negative real axis. This takes one arctangent per
+    // bin for the whole bank, and the sum is unwrapped like each band's phase.
+    public final void addPhaseRadians( final ZDomainTable zDomainTable,
+                                       final int fromIndex,
+                                       final int toIndex,
+                                       final double[] phaseRadians ) {
+        if ( _allPassFiltersBypassed ) {
+            return;
+        }
+
+        final double[] q = new double[ _numberOfFilters ];
+        final double[] w = new double[ _numberOfFilters ];
+        final int numberOfActiveFilters = getActiveFilterParameters( q, w );
+        if ( numberOfActiveFilters == 0 ) {
+            return;
+        }
+
+        final double[] product = new double[ 2 ];
+        for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+            final double omega = AllPassFilter.getAngularFrequencyRadians( zDomainTable, binIndex );
+            final int numberOfTurns = getDenominatorProduct( q,
+                                                             w,
+                                                             numberOfActiveFilters,
+                                                             omega,
+                                                             product );
+            final double productAngle = FastMath.atan2( product[ ComplexArithmetic.IMAGINARY ],
+                                                        product[ ComplexArithmetic.REAL ] );
+            phaseRadians[ binIndex ] += 2.0d
+                    * ( productAngle + ( MathConstants.TWO_PI * numberOfTurns ) );
+        }
+    }
+
+    // Collect the analog equation domain parameters of the enabled bands into
+    // the supplied arrays, returning the number of enabled bands.
+    private int getActiveFilterParameters( final double[] q, final double[] w ) {
+        int numberOfActiveFilters = 0;
+        for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
+            final AllPassFilter allPassFilter = _allPassFilters[ filterIndex ];
+            if ( !allPassFilter.isBypassed() ) {
+                q[ numberOfActiveFilters ] = allPassFilter.getQ();
+                w[ numberOfActiveFilters ] = allPassFilter.getW();
+                numberOfActiveFilters++;
+            }
+        }
+
+        return numberOfActiveFilters;
+    }
+
+    // Multiply the analog denominators Q (W^2 - w^2) + j W w of the given
+    // bands together at one angular frequency, into the supplied array, and
+    // return the number of times the running product crossed the negative
+    // real axis. As each factor turns the product by less than half a turn,
+    // it has crossed exactly when its imaginary part turns negative.
+    private static int getDenominatorProduct( final double[] q,
+                                              final double[] w,
+                                              final int numberOfActiveFilters,
+                                              final double omega,
+                                              final double[] product ) {
+        final double omega2 = omega * omega;
+
+        double productReal = 1.0d;
+        double productImaginary = 0.0d;
+        int numberOfTurns = 0;
+        for ( int filterIndex = 0; filterIndex < numberOfActiveFilters; filterIndex++ ) {
+            final double W = w[ filterIndex ];
+            final double denominatorReal = q[ filterIndex ] * ( ( W * W ) - omega2 );
+            final double denominatorImaginary = W * omega;
+
+            final double nextProductReal = ( productReal * denominatorReal )
+                    - ( productImaginary * denominatorImaginary );
+            final double nextProductImaginary = ( productReal * denominatorImaginary )
+                    + ( productImaginary * denominatorReal );
+            if ( ( productImaginary >= 0.0d ) && ( nextProductImaginary < 0.0d ) ) {
+                numberOfTurns++;
+            }
+            productReal = nextProductReal;
+            productImaginary = nextProductImaginary;
+
+            if ( ( FastMath.abs( productReal ) > DENOMINATOR_PRODUCT_LIMIT )
+                    || ( FastMath.abs( productImaginary ) > DENOMINATOR_PRODUCT_LIMIT ) ) {
+                productReal /= DENOMINATOR_PRODUCT_LIMIT;
+                productImaginary /= DENOMINATOR_PRODUCT_LIMIT;
+            }
+        }
+
+        product[ ComplexArithmetic.REAL ] = productReal;
+        product[ ComplexArithmetic.IMAGINARY ] = productImaginary;
+        return numberOfTurns;
+    }
+
+    // Add the all pass filter phases and group delays at a range of given
+    // frequencies (in Hertz) to the supplied accumulators.
+    @Override
+    public void multiplyPolarH( final double[] frequencies,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        if ( _allPassFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyPolarH( zDomainTable,
+                        fromIndex,
+                        toIndex,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // Add the all pass filter phases and group delays at a range of bins of a
+    // precomputed z-domain table to the supplied accumulators.
+    @Override
+    public void multiplyPolarH( final ZDomainTable zDomainTable,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        if ( _allPassFiltersBypassed ) {
+            return;
+        }
+
+        for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
+            _allPassFilters[ filterIndex ].multiplyPolarH( zDomainTable,
+                                                           fromIndex,
+                                                           toIndex,
+                                                           magnitude,
+                                                           phaseRadians,
+                                                           groupDelaySeconds );
+        }
+    }
+
+    // Leave the supplied squared magnitude accumulator untouched, as all pass
+    // filters have unit magnitude whatever their settings.
+    @Override
+    public void multiplyMagnitudeSquared( final double[] frequencies,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {}
+
+    // Leave the supplied squared magnitude accumulator untouched, as all pass
+    // filters have unit magnitude whatever their settings.
+    @Override
+    public void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {}
+
+    // Get the number of times the response-affecting state of this bank or of
+    // any of its bands has been modified; pollers need only redraw when this
+    // differs from the count they last saw.
+    public final long getModificationCount() {
+        long modificationCount = _modificationCount.get();
+        for ( final AllPassFilter allPassFilter : _allPassFilters ) {
+            if ( allPassFilter != null ) {
+                modificationCount += allPassFilter.getModificationCount();
+            }
+        }
+
+        return modificationCount;
+    }
+
     public final int getNumberOfFilters() {
         return _numberOfFilters;
     }
 
+    public final double getSamplingFrequencyHz() {
+        return _samplingFrequencyHz;
+    }
+
+    // Set the sampling frequency of all of the filters in this bank, whether or
+    // not they are currently in use, so that they stay in step as they're
+    // enabled.
+    public final void setSamplingFrequencyHz( final double samplingFrequencyHz ) {
+        _samplingFrequencyHz = samplingFrequencyHz;
+        _modificationCount.incrementAndGet();
+
+        for ( final AllPassFilter allPassFilter : _allPassFilters ) {
+            if ( allPassFilter != null ) {
+                allPassFilter.setSamplingFrequencyHz( samplingFrequencyHz );
+            }
+        }
+    }
+
     public final double getO( final int filterIndex ) {
         return _allPassFilters[ filterIndex ].getO();
     }
@@ -227,14 +663,18 @@ public class AllPassFilters implements AcousticalFilter {
     }
 
     public final void setAllPassFilter( final int filterIndex, final AllPassFilter allPassFilter ) {
+        retireAllPassFilter( filterIndex );
         _allPassFilters[ filterIndex ] = new AllPassFilter( allPassFilter );
+        _allPassFilters[ filterIndex ].setSamplingFrequencyHz( _samplingFrequencyHz );
     }
 
     public final void setAllPassFilter( final int filterIndex,
                                         final boolean allPassBypassed,
                                         final double f,
                                         final double o ) {
+        retireAllPassFilter( filterIndex );
         _allPassFilters[ filterIndex ] = new AllPassFilter( allPassBypassed, f, o );
+        _allPassFilters[ filterIndex ].setSamplingFrequencyHz( _samplingFrequencyHz );
     }
 
     public final void setAllPassFilterBypassed( final int filterIndex,
@@ -246,6 +686,7 @@ public class AllPassFilters implements AcousticalFilter {
     protected final void setAllPassFilters( final AllPassFilters allPassFilters ) {
         _allPassFiltersBypassed = allPassFilters.isAllPassFiltersBypassed();
         _numberOfFilters = allPassFilters.getNumberOfFilters();
+        _modificationCount.incrementAndGet();
 
         // Set the array to be copies of the source array.
         for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
@@ -255,16 +696,67 @@ public class AllPassFilters implements AcousticalFilter {
 
     public void setAllPassFiltersBypassed( final boolean allPassFiltersBypassed ) {
         _allPassFiltersBypassed = allPassFiltersBypassed;
+        _modificationCount.incrementAndGet();
+    }
+
+    public final boolean isResponseMemoized() {
+        return _responseCache != null;
     }
 
-    // Fully qualified pseudo-constructor.
+    // Set whether this bank memoizes its composite response over the last few
+    // whole frequency grids it was evaluated on. This is off by default, as
+    // each memo keeps the response of every active band as well as the
+    // composite; enable it only for banks that a user interface polls for
+    // redraws, where it saves re-evaluating an idle bank on every frame.
+    public final void setResponseMemoized( final boolean responseMemoized ) {
+        if ( responseMemoized == isResponseMemoized() ) {
+            return;
+        }
+
+        _responseCache = responseMemoized ? new FilterBankResponseCache() : null;
+    }
+
+    // Convert a legacy table of center frequencies to a shared frequency grid.
+    private static FrequencyGrid parseCenterFrequencies( final String[] centerFrequencies ) {
+        if ( centerFrequencies == null ) {
+            return null;
+        }
+
+        final double[] frequencies = new double[ centerFrequencies.length ];
+        for ( int filterIndex = 0; filterIndex < centerFrequencies.length; filterIndex++ ) {
+            frequencies[ filterIndex ] = NumberUtilities.parseDouble( centerFrequencies[ filterIndex ] );
+        }
+
+        return FrequencyGrid.of( frequencies );
+    }
+
+    // Carry the count of a band that is about to be replaced over to the bank,
+    // as the new band's count starts again from zero.
+    private void retireAllPassFilter( final int filterIndex ) {
+        final AllPassFilter allPassFilter = _allPassFilters[ filterIndex ];
+        if ( allPassFilter != null ) {
+            _modificationCount.addAndGet( allPassFilter.getModificationCount() + 1L );
+        }
+    }
+
+    // NOTE: The center frequencies are parsed on every call; prefer the
+    //  pseudo-constructor that takes a shared frequency grid.
     public final void setDefaults( final int numberOfFilters, final String[] centerFrequency ) {
+        setDefaultsFromGrid( numberOfFilters, parseCenterFrequencies( centerFrequency ) );
+    }
+
+    // Fully qualified pseudo-constructor, from a shared center frequency grid.
+    public final void setDefaultsFromGrid( final int numberOfFilters,
+                                           final FrequencyGrid centerFrequencyGrid ) {
         _allPassFiltersBypassed = ALL_PASS_FILTERS_BYPASSED_DEFAULT;
         _numberOfFilters = numberOfFilters;
+        _modificationCount.incrementAndGet();
 
         for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
-            _allPassFilters[ filterIndex ] = new AllPassFilter( NumberUtilities
-                    .parseDouble( centerFrequency[ filterIndex ] ) );
+            retireAllPassFilter( filterIndex );
+            final double centerFrequencyHz = centerFrequencyGrid.getFrequencyHz( filterIndex );
+            _allPassFilters[ filterIndex ] = new AllPassFilter( centerFrequencyHz );
+            _allPassFilters[ filterIndex ].setSamplingFrequencyHz( _samplingFrequencyHz );
         }
     }
 
@@ -274,6 +766,7 @@ public class AllPassFilters implements AcousticalFilter {
 
     public final void setNumberOfFilters( final int numberOfFilters ) {
         _numberOfFilters = numberOfFilters;
+        _modificationCount.incrementAndGet();
     }
 
     public final void setO( final int filterIndex, final double o ) {
@@ -30,12 +30,29 @@
  */
 package com.mhschmieder.jsigproc.filter;
 
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
 import com.mhschmieder.jsigproc.dsp.DspConstants;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public abstract class DigitalFilter implements AcousticalFilter {
-    
+
+    // The number of sampling frequencies whose coefficients are memoized, which
+    // is enough to flip between all of the common rates without recomputing.
+    public static final int          NUMBER_OF_CACHED_SAMPLING_FREQUENCIES = 4;
+
     // The sampling frequency to use for pre-warping in filter algorithms.
-    protected double samplingFrequencyHz;
+    protected double                 samplingFrequencyHz;
+
+    // Memoized coefficient snapshots per sampling frequency, for the current
+    // filter parameters, in most recently used order.
+    private final double[]           _cachedSamplingFrequenciesHz;
+    private final BiquadCoefficients[] _cachedCoefficients;
+    private int                      _numberOfCachedSamplingFrequencies;
+
+    // Bumped by every setter that can alter the response, so that callers can
+    // tell cheaply whether a previously computed response is still current.
+    private final AtomicLong         _modificationCount;
 
     public DigitalFilter() {
         this( DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ );
@@ -43,13 +60,96 @@ public abstract class DigitalFilter implements AcousticalFilter {
 
     public DigitalFilter( final double pSamplingFrequencyHz ) {
         samplingFrequencyHz = pSamplingFrequencyHz;
+
+        _cachedSamplingFrequenciesHz = new double[ NUMBER_OF_CACHED_SAMPLING_FREQUENCIES ];
+        _cachedCoefficients = new BiquadCoefficients[ NUMBER_OF_CACHED_SAMPLING_FREQUENCIES ];
+        _numberOfCachedSamplingFrequencies = 0;
+
+        _modificationCount = new AtomicLong( 0L );
     }
 
     public double getSamplingFrequencyHz() {
         return samplingFrequencyHz;
     }
-    
+
+    // Set the sampling frequency, and bring all derived coefficients up to date
+    // so that the filter needn't be rebuilt.
     public void setSamplingFrequencyHz( final double pSamplingFrequencyHz ) {
+        if ( pSamplingFrequencyHz == samplingFrequencyHz ) {
+            return;
+        }
+
         samplingFrequencyHz = pSamplingFrequencyHz;
+        updateSamplingFrequency();
+        incrementModificationCount();
+    }
+
+    // Get the number of times the response-affecting state of this filter has
+    // been modified; any change to the count means the response may differ.
+    public final long getModificationCount() {
+        return _modificationCount.get();
+    }
+
+    // Record a change to any state that can alter the response.
+    protected final void incrementModificationCount() {
+        _modificationCount.incrementAndGet();
+    }
+
+    // Update whatever derives from the sampling frequency, after it changes.
+    // Filters whose coefficients don't depend on it needn't override this.
+    protected void updateSamplingFrequency() {}
+
+    // Get the memoized coefficients for the current sampling frequency, or
+    // null if they must be computed.
+    protected final synchronized BiquadCoefficients getCachedCoefficients() {
+        for ( int cacheIndex = 0; cacheIndex < _numberOfCachedSamplingFrequencies; cacheIndex++ ) {
+            if ( _cachedSamplingFrequenciesHz[ cacheIndex ] == samplingFrequencyHz ) {
+                final BiquadCoefficients coefficients = _cachedCoefficients[ cacheIndex ];
+                moveToFront( cacheIndex, samplingFrequencyHz, coefficients );
+                return coefficients;
+            }
+        }
+
+        return null;
+    }
+
+    // Memoize the coefficients for the current sampling frequency, evicting the
+    // least recently used sampling frequency if the cache is full.
+    protected final synchronized void cacheCoefficients( final BiquadCoefficients coefficients ) {
+        int cacheIndex = 0;
+        while ( ( cacheIndex < _numberOfCachedSamplingFrequencies )
+                && ( _cachedSamplingFrequenciesHz[ cacheIndex ] != samplingFrequencyHz ) ) {
+            cacheIndex++;
+        }
+
+        if ( cacheIndex == _numberOfCachedSamplingFrequencies ) {
+            if ( _numberOfCachedSamplingFrequencies < NUMBER_OF_CACHED_SAMPLING_FREQUENCIES ) {
+                _numberOfCachedSamplingFrequencies++;
+            }
+            else {
+                cacheIndex--;
+            }
+        }
+
+        moveToFront( cacheIndex, samplingFrequencyHz, coefficients );
+    }
+
+    // Forget the memoized coefficients, as the filter parameters have changed.
+    protected final synchronized void clearCachedCoefficients() {
+        for ( int cacheIndex = 0; cacheIndex < _numberOfCachedSamplingFrequencies; cacheIndex++ ) {
+            _cachedCoefficients[ cacheIndex ] = null;
+        }
+        _numberOfCachedSamplingFrequencies = 0;
+    }
+
+    // Shift the more recently used entries down over the given entry, and put
+    // the given sampling frequency and coefficients at the front.
+    private void moveToFront( final int cacheIndex,
+                              final double pSamplingFrequencyHz,
+                              final BiquadCoefficients coefficients ) {
+        System.arraycopy( _cachedSamplingFrequenciesHz, 0, _cachedSamplingFrequenciesHz, 1, cacheIndex );
+        System.arraycopy( _cachedCoefficients, 0, _cachedCoefficients, 1, cacheIndex );
+        _cachedSamplingFrequenciesHz[ 0 ] = pSamplingFrequencyHz;
+        _cachedCoefficients[ 0 ] = coefficients;
     }
 }
@@ -0,0 +1,405 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.filter;
+
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+// This class memoizes the composite response of a bank of filters over the
+// frequency grids it was last evaluated on, along with each band's own
+// response, so that redrawing an unchanged bank costs no filter evaluation
+// and changing one band only re-evaluates that band. The composite is then
+// updated by dividing out the band's old response and multiplying in its new
+// one, rather than by multiplying all of the bands together again.
+// NOTE: As each memo keeps a response per band as well as the composite, the
+//  banks only keep a cache when set to memoize their responses, which is
+//  meant for banks that a user interface polls for redraws.
+// NOTE: Each memo is immutable once published, so the cache may be read from
+//  any thread; a band that changes while a memo is being built is simply
+//  found stale on the next request, as its count is sampled beforehand.
+final class FilterBankResponseCache {
+
+    // The number of frequency grids whose responses are memoized, which is
+    // enough for the usual magnitude, phase and overview plots of one bank.
+    public static final int         NUMBER_OF_CACHED_GRIDS = 4;
+
+    // The number of successive incremental updates after which the composite
+    // is rebuilt from the band responses, so that rounding errors from the
+    // divisions cannot accumulate while a band is dragged around at length.
+    public static final int         MAXIMUM_NUMBER_OF_INCREMENTAL_UPDATES = 64;
+
+    // The smallest squared magnitude of an old band response that is divided
+    // out of the composite; bins where a band was any closer to a zero are
+    // rebuilt from the band responses instead, as the quotient is unreliable.
+    public static final double      MINIMUM_DIVISOR_NORM = 1.0e-12d;
+
+    // The cost of dividing a band out of one bin, in units of the complex
+    // multiplications that a rebuild costs per band; measured at about eight,
+    // so the divisions only pay off for banks with many active bands.
+    private static final int        DIVISION_COST = 8;
+
+    // The memoized responses, in most recently used order.
+    private volatile BankResponse[] _bankResponses;
+
+    FilterBankResponseCache() {
+        _bankResponses = new BankResponse[ 0 ];
+    }
+
+    // Multiply the composite response of the given bands at a range of bins of
+    // a z-domain table into the supplied accumulators, from the memo if it is
+    // current, and return whether it was. The memo is only rebuilt for
+    // requests that span the whole table, as a partial range (such as one fork
+    // of a parallel evaluation, or a view of a range of bins) is better served
+    // by the bank evaluating just that range directly.
+    boolean multiplyH( final ZDomainTable zDomainTable,
+                    final int fromIndex,
+                    final int toIndex,
+                    final DigitalFilter[] filters,
+                    final int numberOfFilters,
+                    final double[] hReal,
+                    final double[] hImaginary ) {
+        BankResponse previousResponse = null;
+        for ( final BankResponse bankResponse : _bankResponses ) {
+            if ( bankResponse.getZDomainTable() == zDomainTable ) {
+                previousResponse = bankResponse;
+                break;
+            }
+        }
+
+        if ( ( previousResponse != null )
+                && previousResponse.isCurrent( filters, numberOfFilters ) ) {
+            previousResponse.multiplyH( fromIndex, toIndex, hReal, hImaginary );
+            return true;
+        }
+
+        if ( zDomainTable.isBinRange() || ( fromIndex != 0 )
+                || ( toIndex != zDomainTable.getNumberOfBins() ) ) {
+            return false;
+        }
+
+        final BankResponse bankResponse = new BankResponse( zDomainTable,
+                                                            filters,
+                                                            numberOfFilters,
+                                                            previousResponse );
+        publish( bankResponse );
+
+        bankResponse.multiplyH( fromIndex, toIndex, hReal, hImaginary );
+        return true;
+    }
+
+    // Publish a new memo at the front, replacing the one for the same grid or
+    // else dropping the least recently used one if the cache is full.
+    private synchronized void publish( final BankResponse bankResponse ) {
+        final BankResponse[] bankResponses = _bankResponses;
+        final BankResponse[] newResponses = new BankResponse[ FastMath
+                .min( bankResponses.length + 1, NUMBER_OF_CACHED_GRIDS ) ];
+        newResponses[ 0 ] = bankResponse;
+
+        int numberOfResponses = 1;
+        for ( final BankResponse oldResponse : bankResponses ) {
+            if ( numberOfResponses >= newResponses.length ) {
+                break;
+            }
+            if ( oldResponse.getZDomainTable() != bankResponse.getZDomainTable() ) {
+                newResponses[ numberOfResponses++ ] = oldResponse;
+            }
+        }
+
+        _bankResponses = Arrays.copyOf( newResponses, numberOfResponses );
+    }
+
+    // An immutable record of the composite response of a bank over one grid,
+    // and of the band responses and band versions it was built from.
+    private static final class BankResponse {
+        private final ZDomainTable    _zDomainTable;
+        private final DigitalFilter[] _filters;
+        private final long[]          _modificationCounts;
+
+        // Band responses are null where a band is exactly flat, such as when
+        // it is bypassed, so that it costs nothing in the composite.
+        private final double[][]      _bandReal;
+        private final double[][]      _bandImaginary;
+
+        private final double[]        _hReal;
+        private final double[]        _hImaginary;
+
+        // The number of incremental updates since the composite was last
+        // rebuilt from the band responses.
+        private final int             _numberOfIncrementalUpdates;
+
+        BankResponse( final ZDomainTable zDomainTable,
+                      final DigitalFilter[] filters,
+                      final int numberOfFilters,
+                      final BankResponse previousResponse ) {
+            _zDomainTable = zDomainTable;
+            _filters = Arrays.copyOf( filters, numberOfFilters );
+            _modificationCounts = new long[ numberOfFilters ];
+            _bandReal = new double[ numberOfFilters ][];
+            _bandImaginary = new double[ numberOfFilters ][];
+
+            final int numberOfBins = zDomainTable.getNumberOfBins();
+            _hReal = new double[ numberOfBins ];
+            _hImaginary = new double[ numberOfBins ];
+
+            for ( int filterIndex = 0; filterIndex < numberOfFilters; filterIndex++ ) {
+                final DigitalFilter filter = _filters[ filterIndex ];
+
+                // Sample the count before evaluating, so that a concurrent
+                // change can only make this memo look older than it is.
+                final long modificationCount = filter.getModificationCount();
+                _modificationCounts[ filterIndex ] = modificationCount;
+
+                // Reuse the band's previous response if it hasn't changed.
+                final int previousIndex = ( previousResponse != null )
+                    ? previousResponse.indexOf( filter, modificationCount )
+                    : -1;
+                if ( previousIndex >= 0 ) {
+                    _bandReal[ filterIndex ] = previousResponse._bandReal[ previousIndex ];
+                    _bandImaginary[ filterIndex ] =
+                                                  previousResponse._bandImaginary[ previousIndex ];
+                }
+                else {
+                    final double[] bandReal = new double[ numberOfBins ];
+                    final double[] bandImaginary = new double[ numberOfBins ];
+                    Arrays.fill( bandReal, 1.0d );
+                    filter.multiplyH( zDomainTable, 0, numberOfBins, bandReal, bandImaginary );
+
+                    if ( !isFlat( bandReal, bandImaginary ) ) {
+                        _bandReal[ filterIndex ] = bandReal;
+                        _bandImaginary[ filterIndex ] = bandImaginary;
+                    }
+                }
+            }
+
+            final int[] changedFilterIndices = getChangedFilterIndices( previousResponse );
+            if ( changedFilterIndices != null ) {
+                updateComposite( previousResponse, changedFilterIndices );
+                _numberOfIncrementalUpdates = previousResponse._numberOfIncrementalUpdates + 1;
+            }
+            else {
+                rebuildComposite();
+                _numberOfIncrementalUpdates = 0;
+            }
+        }
+
+        // Get the indices of the bands whose responses differ from the
+        // previous memo, or null if updating the previous composite wouldn't
+        // be cheaper or safer than rebuilding it. Each changed band costs a
+        // division per bin, whereas a rebuild costs a multiplication per band
+        // that isn't flat.
+        private int[] getChangedFilterIndices( final BankResponse previousResponse ) {
+            if ( ( previousResponse == null )
+                    || ( previousResponse._filters.length != _filters.length )
+                    || ( previousResponse._numberOfIncrementalUpdates
+                            >= MAXIMUM_NUMBER_OF_INCREMENTAL_UPDATES ) ) {
+                return null;
+            }
+
+            final int[] changedFilterIndices = new int[ _filters.length ];
+            int numberOfChangedFilters = 0;
+            int numberOfActiveFilters = 0;
+            for ( int filterIndex = 0; filterIndex < _filters.length; filterIndex++ ) {
+                if ( _filters[ filterIndex ] != previousResponse._filters[ filterIndex ] ) {
+                    return null;
+                }
+                if ( _bandReal[ filterIndex ] != previousResponse._bandReal[ filterIndex ] ) {
+                    changedFilterIndices[ numberOfChangedFilters++ ] = filterIndex;
+                }
+                if ( _bandReal[ filterIndex ] != null ) {
+                    numberOfActiveFilters++;
+                }
+            }
+
+            return ( ( DIVISION_COST * numberOfChangedFilters ) < numberOfActiveFilters )
+                ? Arrays.copyOf( changedFilterIndices, numberOfChangedFilters )
+                : null;
+        }
+
+        // Update the previous composite by dividing out the old responses of
+        // the changed bands and multiplying in their new ones, as one ratio
+        // per band so that each bin costs only one real division.
+        private void updateComposite( final BankResponse previousResponse,
+                                      final int[] changedFilterIndices ) {
+            final int numberOfBins = _hReal.length;
+            System.arraycopy( previousResponse._hReal, 0, _hReal, 0, numberOfBins );
+            System.arraycopy( previousResponse._hImaginary, 0, _hImaginary, 0, numberOfBins );
+
+            boolean[] rebuildBins = null;
+            for ( final int filterIndex : changedFilterIndices ) {
+                final double[] oldBandReal = previousResponse._bandReal[ filterIndex ];
+                final double[] oldBandImaginary = previousResponse._bandImaginary[ filterIndex ];
+                final double[] newBandReal = _bandReal[ filterIndex ];
+                final double[] newBandImaginary = _bandImaginary[ filterIndex ];
+
+                for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                    double ratioReal = ( newBandReal != null ) ? newBandReal[ binIndex ] : 1.0d;
+                    double ratioImaginary = ( newBandReal != null )
+                        ? newBandImaginary[ binIndex ]
+                        : 0.0d;
+
+                    if ( oldBandReal != null ) {
+                        final double oldReal = oldBandReal[ binIndex ];
+                        final double oldImaginary = oldBandImaginary[ binIndex ];
+                        final double oldNorm = ComplexArithmetic.getNorm( oldReal, oldImaginary );
+                        if ( oldNorm < MINIMUM_DIVISOR_NORM ) {
+                            if ( rebuildBins == null ) {
+                                rebuildBins = new boolean[ numberOfBins ];
+                            }
+                            rebuildBins[ binIndex ] = true;
+                            continue;
+                        }
+
+                        // new / old = new * conjugate( old ) / |old|^2
+                        final double real = ( ( ratioReal * oldReal )
+                                + ( ratioImaginary * oldImaginary ) ) / oldNorm;
+                        ratioImaginary = ( ( ratioImaginary * oldReal )
+                                - ( ratioReal * oldImaginary ) ) / oldNorm;
+                        ratioReal = real;
+                    }
+
+                    ComplexArithmetic.multiplyInto( _hReal,
+                                                    _hImaginary,
+                                                    binIndex,
+                                                    ratioReal,
+                                                    ratioImaginary );
+                }
+            }
+
+            if ( rebuildBins != null ) {
+                for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                    if ( rebuildBins[ binIndex ] ) {
+                        _hReal[ binIndex ] = 1.0d;
+                        _hImaginary[ binIndex ] = 0.0d;
+                        rebuildComposite( binIndex );
+                    }
+                }
+            }
+        }
+
+        // Multiply all of the band responses into the composite, in one
+        // streaming pass over the bins per band.
+        private void rebuildComposite() {
+            Arrays.fill( _hReal, 1.0d );
+            Arrays.fill( _hImaginary, 0.0d );
+
+            for ( int filterIndex = 0; filterIndex < _filters.length; filterIndex++ ) {
+                final double[] bandReal = _bandReal[ filterIndex ];
+                final double[] bandImaginary = _bandImaginary[ filterIndex ];
+                if ( bandReal == null ) {
+                    continue;
+                }
+
+                for ( int binIndex = 0; binIndex < _hReal.length; binIndex++ ) {
+                    ComplexArithmetic.multiplyInto( _hReal,
+                                                    _hImaginary,
+                                                    binIndex,
+                                                    bandReal[ binIndex ],
+                                                    bandImaginary[ binIndex ] );
+                }
+            }
+        }
+
+        // Multiply all of the band responses into one bin of the composite,
+        // for the few bins that an incremental update couldn't divide out.
+        private void rebuildComposite( final int binIndex ) {
+            for ( int filterIndex = 0; filterIndex < _filters.length; filterIndex++ ) {
+                if ( _bandReal[ filterIndex ] != null ) {
+                    ComplexArithmetic.multiplyInto( _hReal,
+                                                    _hImaginary,
+                                                    binIndex,
+                                                    _bandReal[ filterIndex ][ binIndex ],
+                                                    _bandImaginary[ filterIndex ][ binIndex ] );
+                }
+            }
+        }
+
+        ZDomainTable getZDomainTable() {
+            return _zDomainTable;
+        }
+
+        // Check that the bands are still the same filters, and that none of
+        // them has been modified since this memo was built.
+        boolean isCurrent( final DigitalFilter[] filters, final int numberOfFilters ) {
+            if ( numberOfFilters != _filters.length ) {
+                return false;
+            }
+
+            for ( int filterIndex = 0; filterIndex < numberOfFilters; filterIndex++ ) {
+                final DigitalFilter filter = filters[ filterIndex ];
+                if ( ( filter != _filters[ filterIndex ] ) || ( filter
+                        .getModificationCount() != _modificationCounts[ filterIndex ] ) ) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        // Find the band holding the given filter at the given version, as the
+        // bands may have been reordered or replaced since.
+        private int indexOf( final DigitalFilter filter, final long modificationCount ) {
+            for ( int filterIndex = 0; filterIndex < _filters.length; filterIndex++ ) {
+                if ( ( _filters[ filterIndex ] == filter )
+                        && ( _modificationCounts[ filterIndex ] == modificationCount ) ) {
+                    return filterIndex;
+                }
+            }
+
+            return -1;
+        }
+
+        void multiplyH( final int fromIndex,
+                        final int toIndex,
+                        final double[] hReal,
+                        final double[] hImaginary ) {
+            for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+                ComplexArithmetic.multiplyInto( hReal,
+                                                hImaginary,
+                                                binIndex,
+                                                _hReal[ binIndex ],
+                                                _hImaginary[ binIndex ] );
+            }
+        }
+
+        private static boolean isFlat( final double[] hReal, final double[] hImaginary ) {
+            for ( int binIndex = 0; binIndex < hReal.length; binIndex++ ) {
+                if ( ( hReal[ binIndex ] != 1.0d ) || ( hImaginary[ binIndex ] != 0.0d ) ) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -30,21 +30,38 @@
  */
 package com.mhschmieder.jsigproc.filter;
 
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import org.apache.commons.math3.util.FastMath;
+
 public final class GeneralAllPassFilters extends AllPassFilters {
 
-    public static final int      NUMBER_OF_FILTERS  = 3;
+    public static final int           NUMBER_OF_FILTERS     = 3;
+
+    // Declare the full grid of center frequencies for General All Pass
+    // Filters, shared by every bank so that nothing is parsed per instance.
+    public static final FrequencyGrid CENTER_FREQUENCY_GRID = FrequencyGrid.of( 32.0d,
+                                                                                64.0d,
+                                                                                128.0d,
+                                                                                256.0d );
 
-    // Declare the full list of center frequencies for General All Pass Filters.
-    public static final String[] CENTER_FREQUENCIES = {
-                                                        "32",               //$NON-NLS-1$
-                                                        "64",               //$NON-NLS-1$
-                                                        "128",              //$NON-NLS-1$
-                                                        "256" };            //$NON-NLS-1$
+    // Declare the full list of center frequencies for General All Pass
+    // Filters, as text, for any callers that still use the text table; it is
+    // derived from the grid so that the two can never disagree.
+    public static final String[]      CENTER_FREQUENCIES;
+
+    static {
+        final int numberOfCenterFrequencies = CENTER_FREQUENCY_GRID.getNumberOfBins();
+        CENTER_FREQUENCIES = new String[ numberOfCenterFrequencies ];
+        for ( int filterIndex = 0; filterIndex < numberOfCenterFrequencies; filterIndex++ ) {
+            CENTER_FREQUENCIES[ filterIndex ] = Long.toString( FastMath
+                    .round( CENTER_FREQUENCY_GRID.getFrequencyHz( filterIndex ) ) );
+        }
+    }
 
     // This is the default constructor; it sets all instance variables to
     // default values.
     public GeneralAllPassFilters() {
-        super( NUMBER_OF_FILTERS, CENTER_FREQUENCIES );
+        super( CENTER_FREQUENCY_GRID, ALL_PASS_FILTERS_BYPASSED_DEFAULT, NUMBER_OF_FILTERS, null );
     }
 
     // This is the default constructor; it sets all instance variables to
@@ -66,7 +83,7 @@ public final class GeneralAllPassFilters extends AllPassFilters {
 
     // Default pseudo-constructor
     public void reset() {
-        setDefaults( NUMBER_OF_FILTERS, CENTER_FREQUENCIES );
+        setDefaultsFromGrid( NUMBER_OF_FILTERS, CENTER_FREQUENCY_GRID );
     }
 
     // Pseudo-copy constructor.
@@ -30,25 +30,32 @@
  */
 package com.mhschmieder.jsigproc.filter;
 
-import com.mhschmieder.jcommons.lang.NumberUtilities;
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import org.apache.commons.math3.util.FastMath;
 
 public final class GeneralParametricFilters extends ParametricFilters {
 
-    public static final int                               NUMBER_OF_FILTERS  = 10;
+    public static final int           NUMBER_OF_FILTERS     = 10;
+
+    // Declare the full grid of center frequencies for General Parametric
+    // Filters, shared by every bank so that nothing is parsed per instance.
+    public static final FrequencyGrid CENTER_FREQUENCY_GRID =
+            FrequencyGrid.of( 32.0d, 63.0d, 125.0d, 250.0d, 500.0d,
+                              1000.0d, 2000.0d, 4000.0d, 8000.0d, 16000.0d );
 
     // Declare the full list of center frequencies for General Parametric
-    // Filters.
-    @SuppressWarnings("nls") public static final String[] CENTER_FREQUENCIES = {
-                                                                                 "32",
-                                                                                 "63",
-                                                                                 "125",
-                                                                                 "250",
-                                                                                 "500",
-                                                                                 "1000",
-                                                                                 "2000",
-                                                                                 "4000",
-                                                                                 "8000",
-                                                                                 "16000" };
+    // Filters, as text, for any callers that still use the text table; it is
+    // derived from the grid so that the two can never disagree.
+    public static final String[]      CENTER_FREQUENCIES;
+
+    static {
+        final int numberOfCenterFrequencies = CENTER_FREQUENCY_GRID.getNumberOfBins();
+        CENTER_FREQUENCIES = new String[ numberOfCenterFrequencies ];
+        for ( int filterIndex = 0; filterIndex < numberOfCenterFrequencies; filterIndex++ ) {
+            CENTER_FREQUENCIES[ filterIndex ] = Long.toString( FastMath
+                    .round( CENTER_FREQUENCY_GRID.getFrequencyHz( filterIndex ) ) );
+        }
+    }
 
     // This is the default constructor; it sets all instance variables to
     // default values.
@@ -59,7 +66,7 @@ public final class GeneralParametricFilters extends ParametricFilters {
     // This is the default constructor; it sets all instance variables to
     // default values, but sets a supplied bypassed status in advance.
     public GeneralParametricFilters( final boolean generalParametricFiltersBypassed ) {
-        this( generalParametricFiltersBypassed, null, CENTER_FREQUENCIES );
+        this( CENTER_FREQUENCY_GRID, generalParametricFiltersBypassed, null );
     }
 
     // This is the fully qualified constructor.
@@ -68,7 +75,8 @@ public final class GeneralParametricFilters extends ParametricFilters {
         this( generalParametricFiltersBypassed, parametricFilters, null );
     }
 
-    // This is the superset constructor, to allow a common initialization path.
+    // NOTE: The center frequencies are parsed once, for compatibility; the
+    //  default constructors share the precomputed center frequency grid.
     public GeneralParametricFilters( final boolean generalParametricFiltersBypassed,
                                      final ParametricFilter[] parametricFilters,
                                      final String[] centerFrequencies ) {
@@ -78,15 +86,30 @@ public final class GeneralParametricFilters extends ParametricFilters {
                centerFrequencies );
     }
 
+    // This is the superset constructor, to allow a common initialization path.
+    // NOTE: The grid comes first so that the public overload that takes the
+    //  text table stays unambiguous for callers that pass a null literal.
+    private GeneralParametricFilters( final FrequencyGrid centerFrequencyGrid,
+                                      final boolean generalParametricFiltersBypassed,
+                                      final ParametricFilter[] parametricFilters ) {
+        super( centerFrequencyGrid,
+               generalParametricFiltersBypassed,
+               NUMBER_OF_FILTERS,
+               parametricFilters );
+    }
+
     // This is the copy constructor.
     public GeneralParametricFilters( final GeneralParametricFilters generalParametricFilters ) {
         this( generalParametricFilters.isParametricFiltersBypassed(),
               generalParametricFilters.getParametricFilters() );
+
+        setSamplingFrequencyHz( generalParametricFilters.getSamplingFrequencyHz() );
+        setResponseMemoized( generalParametricFilters.isResponseMemoized() );
     }
 
     // Default pseudo-constructor.
     public void reset() {
-        setDefaults( NUMBER_OF_FILTERS, CENTER_FREQUENCIES );
+        setDefaultsFromGrid( NUMBER_OF_FILTERS, CENTER_FREQUENCY_GRID );
     }
 
     /**
@@ -95,8 +118,10 @@ public final class GeneralParametricFilters extends ParametricFilters {
      */
     public void resetUpperParametricFilters() {
         for ( int filterIndex = 5; filterIndex < NUMBER_OF_FILTERS; filterIndex++ ) {
-            _parametricFilters[ filterIndex ] = new ParametricFilter( NumberUtilities
-                    .parseDouble( CENTER_FREQUENCIES[ filterIndex ] ) );
+            retireParametricFilter( filterIndex );
+            final double centerFrequencyHz = CENTER_FREQUENCY_GRID.getFrequencyHz( filterIndex );
+            _parametricFilters[ filterIndex ] = new ParametricFilter( centerFrequencyHz );
+            _parametricFilters[ filterIndex ].setSamplingFrequencyHz( getSamplingFrequencyHz() );
         }
     }
 
@@ -31,8 +31,14 @@
 package com.mhschmieder.jsigproc.filter;
 
 import com.mhschmieder.jmath.MathConstants;
-import com.mhschmieder.jmath.MathUtilities;
+import com.mhschmieder.jsigproc.dsp.AnalogPrototypeDesigner;
+import com.mhschmieder.jsigproc.dsp.AnalogPrototypeFamily;
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
 import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.util.FastMath;
 
@@ -67,40 +73,55 @@ public class HighLowPassFilter extends DigitalFilter {
     protected static final double             ELLIPTICAL_HIGH_PASS_BB           = 0.893d;
     protected static final double             ELLIPTICAL_HIGH_PASS_CC           = 0.9d;
 
-    // Butterworth fourth through eighth order filter pole constants.
-    // NOTE: These are pre-computed and cached, as it is expensive to
-    //  redundantly re-derive these constants inside tight computational loops
-    //  that get refreshed frequently during GUI syncing operations as well.
+    // Butterworth fourth through eighth order filter pole constants, from the
+    // hand-tabulated sections that the pole placement designer replaced.
+    // NOTE: These are no longer used here, and are kept for one release only
+    //  for subclasses that referenced them; the sixth order values do not
+    //  place the corner at -3 dB, so use AnalogPrototypeDesigner instead.
+    @Deprecated
     protected static final double             BUTTERWORTH_4_E                   = 2.0d
             * FastMath.cos( MathConstants.THREE_PI / 8.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_4_K                   =
                                                               2.0d * FastMath.cos( FastMath.PI / 8.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_5_E                   =
                                                               2.0d * FastMath.cos( FastMath.PI / 5.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_5_K                   = 2.0d
             * FastMath.cos( MathConstants.TWO_PI / 5.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_6_E                   = 2.0d
             * FastMath.cos( MathConstants.FIVE_PI / 12d );
+    @Deprecated
     protected static final double             BUTTERWORTH_6_K                   = 2.0d
             * FastMath.cos( MathConstants.FIVE_PI / 12d );
+    @Deprecated
     protected static final double             BUTTERWORTH_6_Q                   = 2.0d
             * FastMath.cos( MathConstants.THREE_PI / 12d );
+    @Deprecated
     protected static final double             BUTTERWORTH_7_E                   = 2.0d
             * FastMath.cos( MathConstants.THREE_PI / 7.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_7_K                   = 2.0d
             * FastMath.cos( MathConstants.TWO_PI / 7.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_7_Q                   =
                                                               2.0d * FastMath.cos( FastMath.PI / 7.0d );
+    @Deprecated
     protected static final double             BUTTERWORTH_8_E                   = 2.0d
             * FastMath.cos( MathConstants.SEVEN_PI / 16d );
+    @Deprecated
     protected static final double             BUTTERWORTH_8_K                   = 2.0d
             * FastMath.cos( MathConstants.FIVE_PI / 16d );
+    @Deprecated
     protected static final double             BUTTERWORTH_8_Q                   = 2.0d
             * FastMath.cos( MathConstants.THREE_PI / 16d );
+    @Deprecated
     protected static final double             BUTTERWORTH_8_W                   =
                                                               2.0d * FastMath.cos( FastMath.PI / 16d );
 
-    private boolean                           _bypassed;
+    private volatile boolean                  _bypassed;
     private double                            _fc;
     private ElectronicFilterType              _electronicFilterType;
     private HighLowPassFilterType             _highLowPassFilterType;
@@ -108,8 +129,16 @@ public class HighLowPassFilter extends DigitalFilter {
     // Declare the angle to the pole (radians), in the z-plane.
     private double                            _w;
 
-    // Four sets of pre-cached biquad coefficients (digital domain).
-    private final double[][]                  _coeffs;
+    // The analog prototype to design from in place of the one implied by the
+    // filter type, for the families and orders that have no filter type of
+    // their own; the filter type still selects High vs. Low Pass. The family
+    // is null when the filter type's own design applies.
+    private AnalogPrototypeFamily             _analogPrototypeFamily;
+    private int                               _analogPrototypeOrder;
+
+    // Four sets of pre-cached biquad coefficients (digital domain), published
+    // as an immutable snapshot so that readers never see a torn update.
+    private volatile BiquadCoefficients       _biquadCoefficients;
 
     // This is the generic default constructor for a single filter; it sets all
     // instance variables to default values.
@@ -146,9 +175,6 @@ public class HighLowPassFilter extends DigitalFilter {
         // angle to the pole (radians), in the z-plane.
         _w = DigitalFilterUtilities.getPoleAngleRadians( fc, samplingFrequencyHz );
 
-        // Allocate the static array for digital domain coefficients.
-        _coeffs = new double[ NUMBER_OF_BIQUAD_COEFFICIENTS ][ NUMBER_OF_BIQUAD_SETS ];
-
         // Update the equation parameters any time the base values change.
         calculateEqCoefficients();
     }
@@ -160,6 +186,11 @@ public class HighLowPassFilter extends DigitalFilter {
         this( highLowPassFilter.isBypassed(),
               highLowPassFilter.getFc(),
               highLowPassFilter.getHighLowPassFilterType() );
+
+        setAnalogPrototype( highLowPassFilter.getAnalogPrototypeFamily(),
+                            highLowPassFilter.getAnalogPrototypeOrder(),
+                            true );
+        setSamplingFrequencyHz( highLowPassFilter.getSamplingFrequencyHz() );
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -170,44 +201,30 @@ public class HighLowPassFilter extends DigitalFilter {
     }
 
     public final Complex getBiQuadResult( final Complex zMinusOne, final Complex zMinusTwo ) {
-        // Apply the first set of biquad coefficients.
-        Complex numeratorFactor1 = new Complex( _coeffs[ 0 ][ 0 ] );
-        Complex numeratorFactor2 = zMinusOne.multiply( _coeffs[ 1 ][ 0 ] );
-        Complex numeratorFactor3 = zMinusTwo.multiply( _coeffs[ 2 ][ 0 ] );
-        Complex numerator = numeratorFactor1.add( numeratorFactor2 ).add( numeratorFactor3 );
-
-        Complex denominatorFactor1 = new Complex( _coeffs[ 3 ][ 0 ] );
-        Complex denominatorFactor2 = zMinusOne.multiply( _coeffs[ 4 ][ 0 ] );
-        Complex denominatorFactor3 = zMinusTwo.multiply( _coeffs[ 5 ][ 0 ] );
-        Complex denominator =
-                            denominatorFactor1.add( denominatorFactor2 ).add( denominatorFactor3 );
-
-        // NOTE: Avoid divide by zero exceptions!
-        if ( Complex.ZERO.equals( denominator ) ) {
-            return Complex.ONE;
-        }
-
-        // Result = numerator / denominator
-        Complex biquadResult = numerator.divide( denominator );
-
-        // Combine the remaining three sets of biquad coefficients.
-        for ( int biquadSetIndex = 1; biquadSetIndex < NUMBER_OF_BIQUAD_SETS; biquadSetIndex++ ) {
-            numeratorFactor1 = new Complex( _coeffs[ 0 ][ biquadSetIndex ] );
-            numeratorFactor2 = zMinusOne.multiply( _coeffs[ 1 ][ biquadSetIndex ] );
-            numeratorFactor3 = zMinusTwo.multiply( _coeffs[ 2 ][ biquadSetIndex ] );
-            numerator = numeratorFactor1.add( numeratorFactor2 ).add( numeratorFactor3 );
-
-            denominatorFactor1 = new Complex( _coeffs[ 3 ][ biquadSetIndex ] );
-            denominatorFactor2 = zMinusOne.multiply( _coeffs[ 4 ][ biquadSetIndex ] );
-            denominatorFactor3 = zMinusTwo.multiply( _coeffs[ 5 ][ biquadSetIndex ] );
-            denominator = denominatorFactor1.add( denominatorFactor2 ).add( denominatorFactor3 );
-
-            final Complex result = numerator.divide( denominator );
+        // Combine all of the sets of biquad coefficients, using primitive
+        // complex pairs so that only the result is created as an object.
+        final double[] biquadResult = new double[ 2 ];
+        _biquadCoefficients.getH( zMinusOne.getReal(),
+                                  zMinusOne.getImaginary(),
+                                  zMinusTwo.getReal(),
+                                  zMinusTwo.getImaginary(),
+                                  biquadResult,
+                                  0 );
+
+        return new Complex( biquadResult[ ComplexArithmetic.REAL ],
+                            biquadResult[ ComplexArithmetic.IMAGINARY ] );
+    }
 
-            biquadResult = biquadResult.multiply( result );
-        }
+    // This method returns the analog prototype family that overrides the
+    // filter type's design, or null if the filter type's design applies.
+    public final AnalogPrototypeFamily getAnalogPrototypeFamily() {
+        return _analogPrototypeFamily;
+    }
 
-        return biquadResult;
+    // This method returns the order of the overriding analog prototype, or
+    // zero if the filter type's design applies.
+    public final int getAnalogPrototypeOrder() {
+        return _analogPrototypeOrder;
     }
 
     public final ElectronicFilterType getElectronicFilterType() {
@@ -242,18 +259,210 @@ public class HighLowPassFilter extends DigitalFilter {
         // The sampling frequency of the filter is independent of the other
         // sampling frequencies, as we are passing the analog frequency to the
         // filter method in which we want to get the complex response.
-        final Complex z = DigitalFilterUtilities
-                .convertFrequencyToZDomain( fAdjusted, samplingFrequencyHz );
-        final Complex zMinusOne = z.reciprocal();
-        final Complex zMinusTwo = MathUtilities.sqrComplex( zMinusOne );
+        final double[] zPowers = new double[ 4 ];
+        DigitalFilterUtilities
+                .convertFrequencyToZDomainPowers( fAdjusted, samplingFrequencyHz, zPowers, 0 );
 
         // The biquad calculation code is ported and adapted from textbook examples.
-        final Complex h = getBiQuadResult( zMinusOne, zMinusTwo );
+        final double[] h = new double[ 2 ];
+        _biquadCoefficients.getH( zPowers[ 0 ], zPowers[ 1 ], zPowers[ 2 ], zPowers[ 3 ], h, 0 );
 
         // Return the High/Low Pass filter value at the given frequency.
         // NOTE: For now, we are returning the conjugate instead. This takes
         //  care of sign problems in the delay time on the server.
-        return h.conjugate();
+        return new Complex( h[ ComplexArithmetic.REAL ], -h[ ComplexArithmetic.IMAGINARY ] );
+    }
+
+    // This method multiplies the High Pass or Low Pass Filter values at a
+    // range of given frequencies (in Hertz) into the supplied accumulators,
+    // using the shared z-domain table for the grid and sampling frequency.
+    @Override
+    public final void multiplyH( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] hReal,
+                                 final double[] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    // This method multiplies the High Pass or Low Pass Filter values at a
+    // range of bins of a precomputed z-domain table into the supplied
+    // accumulators, using primitive arithmetic so that no objects are
+    // allocated per bin.
+    @Override
+    public final void multiplyH( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] hReal,
+                                 final double[] hImaginary ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        _biquadCoefficients.multiplyH( zDomainTable.forSamplingFrequency( samplingFrequencyHz ),
+                                       fromIndex,
+                                       toIndex,
+                                       hReal,
+                                       hImaginary );
+    }
+
+    // This method multiplies the High Pass or Low Pass Filter values at a range
+    // of given frequencies (in Hertz) into the supplied single precision
+    // accumulators, for bulk sweeps where precision matters less than memory
+    // traffic.
+    @Override
+    public final void multiplyH( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final float[] hReal,
+                                 final float[] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    // This method multiplies the High Pass or Low Pass Filter values at a range
+    // of bins of a precomputed z-domain table into the supplied single
+    // precision accumulators. The values are computed in double precision and
+    // rounded once, to within 2^-23 relative error of the double method.
+    @Override
+    public final void multiplyH( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final float[] hReal,
+                                 final float[] hImaginary ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        _biquadCoefficients.multiplyH( zDomainTable.forSamplingFrequency( samplingFrequencyHz ),
+                                       fromIndex,
+                                       toIndex,
+                                       hReal,
+                                       hImaginary );
+    }
+
+    // This method multiplies the High Pass or Low Pass Filter magnitudes at a
+    // range of given frequencies (in Hertz) into the supplied magnitude
+    // accumulator, and adds the unwrapped phases and analytic group delays to
+    // the supplied accumulators, in one pass over the shared z-domain table.
+    @Override
+    public final void multiplyPolarH( final double[] frequencies,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final double[] magnitude,
+                                      final double[] phaseRadians,
+                                      final double[] groupDelaySeconds ) {
+        multiplyPolarH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                        fromIndex,
+                        toIndex,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // This method multiplies the High Pass or Low Pass Filter magnitudes at a
+    // range of bins of a precomputed z-domain table into the supplied magnitude
+    // accumulator, and adds the phases and group delays of all of the filter's
+    // sections, which follow analytically from the cached coefficients.
+    @Override
+    public final void multiplyPolarH( final ZDomainTable zDomainTable,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final double[] magnitude,
+                                      final double[] phaseRadians,
+                                      final double[] groupDelaySeconds ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        final ZDomainTable table = zDomainTable.forSamplingFrequency( samplingFrequencyHz );
+        _biquadCoefficients.multiplyPolarH( table,
+                                            fromIndex,
+                                            toIndex,
+                                            magnitude,
+                                            phaseRadians,
+                                            groupDelaySeconds );
+    }
+
+    // This method multiplies the squared magnitudes of the High Pass or Low
+    // Pass Filter values at a range of given frequencies (in Hertz) into the
+    // supplied accumulator, using the shared z-domain table for the grid.
+    @Override
+    public final void multiplyMagnitudeSquared( final double[] frequencies,
+                                                final int fromIndex,
+                                                final int toIndex,
+                                                final double[] magnitudeSquared ) {
+        multiplyMagnitudeSquared( ZDomainTableCache.getZDomainTable( frequencies,
+                                                                     samplingFrequencyHz ),
+                                  fromIndex,
+                                  toIndex,
+                                  magnitudeSquared );
+    }
+
+    // This method multiplies the squared magnitudes of the High Pass or Low
+    // Pass Filter values at a range of bins of a precomputed z-domain table
+    // into the supplied accumulator, in real arithmetic only, from constants
+    // that are precomputed for each section along with the coefficients.
+    @Override
+    public final void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                                final int fromIndex,
+                                                final int toIndex,
+                                                final double[] magnitudeSquared ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        final ZDomainTable table = zDomainTable.forSamplingFrequency( samplingFrequencyHz );
+        _biquadCoefficients.multiplyMagnitudeSquared( table, fromIndex, toIndex, magnitudeSquared );
+    }
+
+    // This method returns the current immutable coefficient snapshot.
+    public final BiquadCoefficients getBiquadCoefficients() {
+        return _biquadCoefficients;
+    }
+
+    // This method returns the number of biquad sections that are actually
+    // evaluated, which is less than the four sets for most filter types.
+    public final int getNumberOfActiveSections() {
+        return _biquadCoefficients.getNumberOfSections();
+    }
+
+    // This method creates a new time-domain biquad cascade for one channel,
+    // loaded with this filter's current coefficients.
+    public final BiquadCascade createBiquadCascade() {
+        final BiquadCascade biquadCascade = new BiquadCascade( NUMBER_OF_BIQUAD_SETS );
+        loadBiquadCascade( biquadCascade );
+        return biquadCascade;
+    }
+
+    // This method loads this filter's current coefficients into an existing
+    // time-domain biquad cascade, keeping its state so that parameter changes
+    // during playback don't reset the signal path. These are the exact same
+    // coefficients used for the frequency response, so measured and predicted
+    // results come from a single source of truth. This may be called from any
+    // thread, as the cascade picks up the snapshot at its next block.
+    public final void loadBiquadCascade( final BiquadCascade biquadCascade,
+                                         final boolean interpolate ) {
+        biquadCascade.setCoefficients( _bypassed
+            ? BiquadCoefficients.IDENTITY
+            : _biquadCoefficients, interpolate );
+    }
+
+    // This method loads this filter's current coefficients into an existing
+    // time-domain biquad cascade, without interpolation.
+    public final void loadBiquadCascade( final BiquadCascade biquadCascade ) {
+        loadBiquadCascade( biquadCascade, false );
     }
 
     public final HighLowPassFilterType getHighLowPassFilterType() {
@@ -282,23 +491,66 @@ public class HighLowPassFilter extends DigitalFilter {
     public boolean isNonDefaultEqMode() {
         return ( isBypassed() != BYPASSED_DEFAULT ) || ( getFc() != FC_HIGH_LOW_PASS_DEFAULT )
                 || ( getElectronicFilterType() != ElectronicFilterType.HIGH_LOW_PASS )
-                || ( getHighLowPassFilterType() != FILTER_TYPE_HIGH_LOW_PASS_DEFAULT );
+                || ( getHighLowPassFilterType() != FILTER_TYPE_HIGH_LOW_PASS_DEFAULT )
+                || ( getAnalogPrototypeFamily() != null );
     }
 
     // Default pseudo-constructor
     public void reset() {
+        setAnalogPrototype( null, 0, false );
         setHighLowPassFilter( BYPASSED_DEFAULT,
                               FC_HIGH_LOW_PASS_DEFAULT,
                               ElectronicFilterType.HIGH_LOW_PASS,
                               FILTER_TYPE_HIGH_LOW_PASS_DEFAULT );
     }
 
+    // This method designs the filter from an analog prototype of any family
+    // and order that the biquad sets can hold, such as Bessel or Chebyshev,
+    // rather than from the filter type; a null family restores the filter
+    // type's own design. The filter type still selects High vs. Low Pass.
+    public final void setAnalogPrototype( final AnalogPrototypeFamily analogPrototypeFamily,
+                                          final int analogPrototypeOrder,
+                                          final boolean updateEquationParameters ) {
+        if ( analogPrototypeFamily != null ) {
+            if ( ( analogPrototypeOrder < 1 )
+                    || ( analogPrototypeOrder > ( 2 * NUMBER_OF_BIQUAD_SETS ) ) ) {
+                throw new IllegalArgumentException( "Filter order out of range: " //$NON-NLS-1$
+                        + analogPrototypeOrder );
+            }
+            if ( ( analogPrototypeFamily == AnalogPrototypeFamily.LINKWITZ_RILEY )
+                    && ( ( analogPrototypeOrder % 2 ) != 0 ) ) {
+                throw new IllegalArgumentException( "Linkwitz-Riley order must be even: " //$NON-NLS-1$
+                        + analogPrototypeOrder );
+            }
+        }
+
+        _analogPrototypeFamily = analogPrototypeFamily;
+        _analogPrototypeOrder = ( analogPrototypeFamily != null ) ? analogPrototypeOrder : 0;
+
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
+
+        // Update the equation parameters any time the base values change.
+        if ( updateEquationParameters ) {
+            calculateEqCoefficients();
+        }
+    }
+
     public final void setBypassed( final boolean highLowPassBypassed ) {
         _bypassed = highLowPassBypassed;
+
+        incrementModificationCount();
     }
 
     public final void setElectronicFilterType( final ElectronicFilterType electronicFilterType ) {
         _electronicFilterType = electronicFilterType;
+
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
     }
 
     public final void setFc( final double fc, final boolean updateEquationParameters ) {
@@ -309,6 +561,11 @@ public class HighLowPassFilter extends DigitalFilter {
         // angle to the pole (radians), in the z-plane.
         _w = DigitalFilterUtilities.getPoleAngleRadians( fc, samplingFrequencyHz );
 
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
+
         // Update the equation parameters any time the base values change.
         if ( updateEquationParameters ) {
             calculateEqCoefficients();
@@ -331,6 +588,9 @@ public class HighLowPassFilter extends DigitalFilter {
 
     // Pseudo-copy constructor.
     public final void setHighLowPassFilter( final HighLowPassFilter highLowPassFilter ) {
+        setAnalogPrototype( highLowPassFilter.getAnalogPrototypeFamily(),
+                            highLowPassFilter.getAnalogPrototypeOrder(),
+                            false );
         setHighLowPassFilter( highLowPassFilter.isBypassed(),
                               highLowPassFilter.getFc(),
                               highLowPassFilter.getElectronicFilterType(),
@@ -341,6 +601,11 @@ public class HighLowPassFilter extends DigitalFilter {
                                                 final boolean updateEquationParameters ) {
         _highLowPassFilterType = highLowPassFilterType;
 
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
+
         // Update the equation parameters any time the base values change.
         if ( updateEquationParameters ) {
             calculateEqCoefficients();
@@ -349,6 +614,60 @@ public class HighLowPassFilter extends DigitalFilter {
 
     // TODO: Enforce this method on all filters via an interface.
     public final void calculateEqCoefficients() {
+        // The filter parameters have changed, so the coefficients memoized for
+        // other sampling frequencies no longer apply.
+        clearCachedCoefficients();
+
+        final BiquadCoefficients biquadCoefficients = computeBiquadCoefficients();
+        cacheCoefficients( biquadCoefficients );
+        _biquadCoefficients = biquadCoefficients;
+
+        // Count the newly published coefficients as a modification too, as
+        // the setters may have deferred them.
+        incrementModificationCount();
+    }
+
+    // Recompute the pole angle and the coefficients for the new sampling
+    // frequency, unless they were already computed for it with the current
+    // filter parameters.
+    @Override
+    protected final void updateSamplingFrequency() {
+        _w = DigitalFilterUtilities.getPoleAngleRadians( _fc, samplingFrequencyHz );
+
+        BiquadCoefficients biquadCoefficients = getCachedCoefficients();
+        if ( biquadCoefficients == null ) {
+            biquadCoefficients = computeBiquadCoefficients();
+            cacheCoefficients( biquadCoefficients );
+        }
+        _biquadCoefficients = biquadCoefficients;
+    }
+
+    private BiquadCoefficients computeBiquadCoefficients() {
+        // The Butterworth and Linkwitz-Riley types, and any overriding analog
+        // prototype, are designed by pole placement, which emits only as many
+        // sections as the order needs.
+        final boolean analogPrototypeOverridden = _analogPrototypeFamily != null;
+        final AnalogPrototypeFamily analogPrototypeFamily = analogPrototypeOverridden
+            ? _analogPrototypeFamily
+            : _highLowPassFilterType.getAnalogPrototypeFamily();
+        if ( analogPrototypeFamily != null ) {
+            final int order = analogPrototypeOverridden
+                ? _analogPrototypeOrder
+                : _highLowPassFilterType.getOrder();
+            final double[][] analogSections = _highLowPassFilterType.isHighPass()
+                ? AnalogPrototypeDesigner.getHighPassSections( analogPrototypeFamily,
+                                                               order,
+                                                               AnalogPrototypeDesigner.CHEBYSHEV_RIPPLE_DB_DEFAULT )
+                : AnalogPrototypeDesigner.getLowPassSections( analogPrototypeFamily,
+                                                              order,
+                                                              AnalogPrototypeDesigner.CHEBYSHEV_RIPPLE_DB_DEFAULT );
+            return AnalogPrototypeDesigner.getBiquadCoefficients( analogSections, _w );
+        }
+
+        // Digital domain coefficients, per biquad set, computed locally so that
+        // the published snapshot is never seen half-updated.
+        final double[][] coeffs = new double[ NUMBER_OF_BIQUAD_COEFFICIENTS ][ NUMBER_OF_BIQUAD_SETS ];
+
         // Analog domain coefficients, per dual-pole biquad section.
         double a = 0.0d;
         double b = 0.0d;
@@ -444,306 +763,6 @@ public class HighLowPassFilter extends DigitalFilter {
             w = 0.0d;
             x = 1.0d;
 
-            break;
-        case BUTTERWORTH_1_HIGH_PASS:
-            a = 0.0d;
-            b = 1.0d;
-            c = 0.0d;
-            d = 0.0d;
-            e = 1.0d;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 0.0d;
-            k = 0.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_2_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = MathConstants.SQRT_TWO;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 0.0d;
-            k = 0.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_3_HIGH_PASS:
-            a = 0.0d;
-            b = 1.0d;
-            c = 0.0d;
-            d = 0.0d;
-            e = 1.0d;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = 1.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_4_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_4_E;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_4_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_5_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_5_E;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_5_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 1.0d;
-            o = 0.0d;
-            p = 0.0d;
-            q = 1.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_6_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_6_E;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_6_K;
-            l = 1.0d;
-
-            m = 1.0d;
-            n = 0.0d;
-            o = 0.0d;
-            p = 1.0d;
-            q = BUTTERWORTH_6_Q;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_7_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_7_E;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_7_K;
-            l = 1.0d;
-
-            m = 1.0d;
-            n = 0.0d;
-            o = 0.0d;
-            p = 1.0d;
-            q = BUTTERWORTH_7_Q;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 1.0d;
-            u = 0.0d;
-            v = 0.0d;
-            w = 1.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_8_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_8_E;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_8_K;
-            l = 1.0d;
-
-            m = 1.0d;
-            n = 0.0d;
-            o = 0.0d;
-            p = 1.0d;
-            q = BUTTERWORTH_8_Q;
-            r = 1.0d;
-
-            s = 1.0d;
-            t = 0.0d;
-            u = 0.0d;
-            v = 1.0d;
-            w = BUTTERWORTH_8_W;
-            x = 1.0d;
-
-            break;
-        case LINKWITZ_RILEY_2_HIGH_PASS:
-            a = 0.0d;
-            b = 1.0d;
-            c = 0.0d;
-            d = 0.0d;
-            e = 1.0d;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 1.0d;
-            i = 0.0d;
-            j = 0.0d;
-            k = 1.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case LINKWITZ_RILEY_4_HIGH_PASS:
-            a = 1.0d;
-            b = 0.0d;
-            c = 0.0d;
-            d = 1.0d;
-            e = MathConstants.SQRT_TWO;
-            f = 1.0d;
-
-            g = 1.0d;
-            h = 0.0d;
-            i = 0.0d;
-            j = 1.0d;
-            k = MathConstants.SQRT_TWO;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
             break;
         case LOW_PASS:
             // Compute the clamped equation domain parameter "W2", which is the
@@ -780,306 +799,6 @@ public class HighLowPassFilter extends DigitalFilter {
             w = 0.0d;
             x = 1.0d;
 
-            break;
-        case BUTTERWORTH_1_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 0.0d;
-            e = 1.0d;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 0.0d;
-            k = 0.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_2_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = MathConstants.SQRT_TWO;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 0.0d;
-            k = 0.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_3_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 0.0d;
-            e = 1.0d;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = 1.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_4_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_4_E;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_4_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_5_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_5_E;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_5_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 1.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_6_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_6_E;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_6_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 1.0d;
-            q = BUTTERWORTH_6_Q;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_7_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_7_E;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_7_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 1.0d;
-            q = BUTTERWORTH_7_Q;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 1.0d;
-            x = 1.0d;
-
-            break;
-        case BUTTERWORTH_8_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = BUTTERWORTH_8_E;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = BUTTERWORTH_8_K;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 1.0d;
-            q = BUTTERWORTH_8_Q;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 1.0d;
-            w = BUTTERWORTH_8_W;
-            x = 1.0d;
-
-            break;
-        case LINKWITZ_RILEY_2_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 0.0d;
-            e = 1.0d;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 0.0d;
-            k = 1.0d;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
-            break;
-        case LINKWITZ_RILEY_4_LOW_PASS:
-            a = 0.0d;
-            b = 0.0d;
-            c = 1.0d;
-            d = 1.0d;
-            e = MathConstants.SQRT_TWO;
-            f = 1.0d;
-
-            g = 0.0d;
-            h = 0.0d;
-            i = 1.0d;
-            j = 1.0d;
-            k = MathConstants.SQRT_TWO;
-            l = 1.0d;
-
-            m = 0.0d;
-            n = 0.0d;
-            o = 1.0d;
-            p = 0.0d;
-            q = 0.0d;
-            r = 1.0d;
-
-            s = 0.0d;
-            t = 0.0d;
-            u = 1.0d;
-            v = 0.0d;
-            w = 0.0d;
-            x = 1.0d;
-
             break;
         default:
             break;
@@ -1100,50 +819,51 @@ public class HighLowPassFilter extends DigitalFilter {
         // First set of pre-cached biquad coefficients.
         // NOTE: The modern convention is now b/a, as in Matlab and The
         // Audio EQ Cookbook.
-        _coeffs[ 0 ][ 0 ] = ( a * onePlusEqCos ) + ( b * eqSin ) + ( c * oneMinusEqCos );
-        _coeffs[ 1 ][ 0 ] = ( -2d * a * onePlusEqCos ) + ( 2.0d * c * oneMinusEqCos );
-        _coeffs[ 2 ][ 0 ] = ( ( a * onePlusEqCos ) - ( b * eqSin ) ) + ( c * oneMinusEqCos );
-        _coeffs[ 3 ][ 0 ] = ( d * onePlusEqCos ) + ( e * eqSin ) + ( f * oneMinusEqCos );
-        _coeffs[ 4 ][ 0 ] = ( -2d * d * onePlusEqCos ) + ( 2.0d * f * oneMinusEqCos );
-        _coeffs[ 5 ][ 0 ] = ( ( d * onePlusEqCos ) - ( e * eqSin ) ) + ( f * oneMinusEqCos );
+        coeffs[ 0 ][ 0 ] = ( a * onePlusEqCos ) + ( b * eqSin ) + ( c * oneMinusEqCos );
+        coeffs[ 1 ][ 0 ] = ( -2d * a * onePlusEqCos ) + ( 2.0d * c * oneMinusEqCos );
+        coeffs[ 2 ][ 0 ] = ( ( a * onePlusEqCos ) - ( b * eqSin ) ) + ( c * oneMinusEqCos );
+        coeffs[ 3 ][ 0 ] = ( d * onePlusEqCos ) + ( e * eqSin ) + ( f * oneMinusEqCos );
+        coeffs[ 4 ][ 0 ] = ( -2d * d * onePlusEqCos ) + ( 2.0d * f * oneMinusEqCos );
+        coeffs[ 5 ][ 0 ] = ( ( d * onePlusEqCos ) - ( e * eqSin ) ) + ( f * oneMinusEqCos );
 
         // Second set of pre-cached biquad coefficients.
         // NOTE: The modern convention is now b/a, as in Matlab and The
         // Audio EQ Cookbook.
-        _coeffs[ 0 ][ 1 ] = ( g * onePlusEqCos ) + ( h * eqSin ) + ( i * oneMinusEqCos );
-        _coeffs[ 1 ][ 1 ] = ( -2d * g * onePlusEqCos ) + ( 2.0d * i * oneMinusEqCos );
-        _coeffs[ 2 ][ 1 ] = ( ( g * onePlusEqCos ) - ( h * eqSin ) ) + ( i * oneMinusEqCos );
-        _coeffs[ 3 ][ 1 ] = ( j * onePlusEqCos ) + ( k * eqSin ) + ( l * oneMinusEqCos );
-        _coeffs[ 4 ][ 1 ] = ( -2d * j * onePlusEqCos ) + ( 2.0d * l * oneMinusEqCos );
-        _coeffs[ 5 ][ 1 ] = ( ( j * onePlusEqCos ) - ( k * eqSin ) ) + ( l * oneMinusEqCos );
+        coeffs[ 0 ][ 1 ] = ( g * onePlusEqCos ) + ( h * eqSin ) + ( i * oneMinusEqCos );
+        coeffs[ 1 ][ 1 ] = ( -2d * g * onePlusEqCos ) + ( 2.0d * i * oneMinusEqCos );
+        coeffs[ 2 ][ 1 ] = ( ( g * onePlusEqCos ) - ( h * eqSin ) ) + ( i * oneMinusEqCos );
+        coeffs[ 3 ][ 1 ] = ( j * onePlusEqCos ) + ( k * eqSin ) + ( l * oneMinusEqCos );
+        coeffs[ 4 ][ 1 ] = ( -2d * j * onePlusEqCos ) + ( 2.0d * l * oneMinusEqCos );
+        coeffs[ 5 ][ 1 ] = ( ( j * onePlusEqCos ) - ( k * eqSin ) ) + ( l * oneMinusEqCos );
 
         // Third set of pre-cached biquad coefficients.
         // NOTE: The modern convention is now b/a, as in Matlab and The
         // Audio EQ Cookbook.
-        _coeffs[ 0 ][ 2 ] = ( m * onePlusEqCos ) + ( n * eqSin ) + ( o * oneMinusEqCos );
-        _coeffs[ 1 ][ 2 ] = ( -2d * m * onePlusEqCos ) + ( 2.0d * o * oneMinusEqCos );
-        _coeffs[ 2 ][ 2 ] = ( ( m * onePlusEqCos ) - ( n * eqSin ) ) + ( o * oneMinusEqCos );
-        _coeffs[ 3 ][ 2 ] = ( p * onePlusEqCos ) + ( q * eqSin ) + ( r * oneMinusEqCos );
-        _coeffs[ 4 ][ 2 ] = ( -2d * p * onePlusEqCos ) + ( 2.0d * r * oneMinusEqCos );
-        _coeffs[ 5 ][ 2 ] = ( ( p * onePlusEqCos ) - ( q * eqSin ) ) + ( r * oneMinusEqCos );
+        coeffs[ 0 ][ 2 ] = ( m * onePlusEqCos ) + ( n * eqSin ) + ( o * oneMinusEqCos );
+        coeffs[ 1 ][ 2 ] = ( -2d * m * onePlusEqCos ) + ( 2.0d * o * oneMinusEqCos );
+        coeffs[ 2 ][ 2 ] = ( ( m * onePlusEqCos ) - ( n * eqSin ) ) + ( o * oneMinusEqCos );
+        coeffs[ 3 ][ 2 ] = ( p * onePlusEqCos ) + ( q * eqSin ) + ( r * oneMinusEqCos );
+        coeffs[ 4 ][ 2 ] = ( -2d * p * onePlusEqCos ) + ( 2.0d * r * oneMinusEqCos );
+        coeffs[ 5 ][ 2 ] = ( ( p * onePlusEqCos ) - ( q * eqSin ) ) + ( r * oneMinusEqCos );
 
         // Fourth set of pre-cached biquad coefficients.
         // NOTE: The modern convention is now b/a, as in Matlab and The
         // Audio EQ Cookbook.
-        _coeffs[ 0 ][ 3 ] = ( s * onePlusEqCos ) + ( t * eqSin ) + ( u * oneMinusEqCos );
-        _coeffs[ 1 ][ 3 ] = ( -2d * s * onePlusEqCos ) + ( 2.0d * u * oneMinusEqCos );
-        _coeffs[ 2 ][ 3 ] = ( ( s * onePlusEqCos ) - ( t * eqSin ) ) + ( u * oneMinusEqCos );
-        _coeffs[ 3 ][ 3 ] = ( v * onePlusEqCos ) + ( w * eqSin ) + ( x * oneMinusEqCos );
-        _coeffs[ 4 ][ 3 ] = ( -2d * v * onePlusEqCos ) + ( 2.0d * x * oneMinusEqCos );
-        _coeffs[ 5 ][ 3 ] = ( ( v * onePlusEqCos ) - ( w * eqSin ) ) + ( x * oneMinusEqCos );
-
-        // Finally, normalize the biquads by a0, due to limited dynamic range.
-        for ( int biquadSetIndex = 0; biquadSetIndex < NUMBER_OF_BIQUAD_SETS; biquadSetIndex++ ) {
-            final double a0 = _coeffs[ 3 ][ biquadSetIndex ];
-            for ( int biquadCoefficientIndex =
-                                             0; biquadCoefficientIndex < NUMBER_OF_BIQUAD_COEFFICIENTS; biquadCoefficientIndex++ ) {
-                _coeffs[ biquadCoefficientIndex ][ biquadSetIndex ] /= a0;
-            }
-        }
+        coeffs[ 0 ][ 3 ] = ( s * onePlusEqCos ) + ( t * eqSin ) + ( u * oneMinusEqCos );
+        coeffs[ 1 ][ 3 ] = ( -2d * s * onePlusEqCos ) + ( 2.0d * u * oneMinusEqCos );
+        coeffs[ 2 ][ 3 ] = ( ( s * onePlusEqCos ) - ( t * eqSin ) ) + ( u * oneMinusEqCos );
+        coeffs[ 3 ][ 3 ] = ( v * onePlusEqCos ) + ( w * eqSin ) + ( x * oneMinusEqCos );
+        coeffs[ 4 ][ 3 ] = ( -2d * v * onePlusEqCos ) + ( 2.0d * x * oneMinusEqCos );
+        coeffs[ 5 ][ 3 ] = ( ( v * onePlusEqCos ) - ( w * eqSin ) ) + ( x * oneMinusEqCos );
+
+        // Finally, make the new snapshot, which normalizes the biquads by a0
+        // due to limited dynamic range, and drop the identity sets that pad
+        // out the legacy types so that they are never evaluated.
+        return new BiquadCoefficients( coeffs[ 0 ],
+                                       coeffs[ 1 ],
+                                       coeffs[ 2 ],
+                                       coeffs[ 3 ],
+                                       coeffs[ 4 ],
+                                       coeffs[ 5 ] ).withoutIdentitySections();
     }
 }
@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.jsigproc.filter;
 
+import com.mhschmieder.jsigproc.dsp.AnalogPrototypeFamily;
 import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
 
 import java.util.Locale;
@@ -143,6 +144,97 @@ public enum HighLowPassFilterType {
         }
     }
 
+    // Get the analog prototype family that this filter type is designed from,
+    // or null for the legacy types that have hand-tabulated coefficients.
+    public final AnalogPrototypeFamily getAnalogPrototypeFamily() {
+        switch ( this ) {
+        case BUTTERWORTH_1_HIGH_PASS:
+        case BUTTERWORTH_2_HIGH_PASS:
+        case BUTTERWORTH_3_HIGH_PASS:
+        case BUTTERWORTH_4_HIGH_PASS:
+        case BUTTERWORTH_5_HIGH_PASS:
+        case BUTTERWORTH_6_HIGH_PASS:
+        case BUTTERWORTH_7_HIGH_PASS:
+        case BUTTERWORTH_8_HIGH_PASS:
+        case BUTTERWORTH_1_LOW_PASS:
+        case BUTTERWORTH_2_LOW_PASS:
+        case BUTTERWORTH_3_LOW_PASS:
+        case BUTTERWORTH_4_LOW_PASS:
+        case BUTTERWORTH_5_LOW_PASS:
+        case BUTTERWORTH_6_LOW_PASS:
+        case BUTTERWORTH_7_LOW_PASS:
+        case BUTTERWORTH_8_LOW_PASS:
+            return AnalogPrototypeFamily.BUTTERWORTH;
+        case LINKWITZ_RILEY_2_HIGH_PASS:
+        case LINKWITZ_RILEY_4_HIGH_PASS:
+        case LINKWITZ_RILEY_2_LOW_PASS:
+        case LINKWITZ_RILEY_4_LOW_PASS:
+            return AnalogPrototypeFamily.LINKWITZ_RILEY;
+        default:
+            return null;
+        }
+    }
+
+    // Get the filter order, which is the slope in multiples of 6 dB/octave.
+    public final int getOrder() {
+        switch ( this ) {
+        case BUTTERWORTH_1_HIGH_PASS:
+        case BUTTERWORTH_1_LOW_PASS:
+            return 1;
+        case SECOND_ORDER_HIGH_PASS:
+        case ELLIPTICAL_HIGH_PASS:
+        case LOW_PASS:
+        case BUTTERWORTH_2_HIGH_PASS:
+        case BUTTERWORTH_2_LOW_PASS:
+        case LINKWITZ_RILEY_2_HIGH_PASS:
+        case LINKWITZ_RILEY_2_LOW_PASS:
+            return 2;
+        case BUTTERWORTH_3_HIGH_PASS:
+        case BUTTERWORTH_3_LOW_PASS:
+            return 3;
+        case BUTTERWORTH_4_HIGH_PASS:
+        case BUTTERWORTH_4_LOW_PASS:
+        case LINKWITZ_RILEY_4_HIGH_PASS:
+        case LINKWITZ_RILEY_4_LOW_PASS:
+            return 4;
+        case BUTTERWORTH_5_HIGH_PASS:
+        case BUTTERWORTH_5_LOW_PASS:
+            return 5;
+        case BUTTERWORTH_6_HIGH_PASS:
+        case BUTTERWORTH_6_LOW_PASS:
+            return 6;
+        case BUTTERWORTH_7_HIGH_PASS:
+        case BUTTERWORTH_7_LOW_PASS:
+            return 7;
+        case BUTTERWORTH_8_HIGH_PASS:
+        case BUTTERWORTH_8_LOW_PASS:
+            return 8;
+        default:
+            final String errMessage = "Unexpected "
+                    + this.getClass().getSimpleName() + " " + this;
+            throw new IllegalArgumentException( errMessage );
+        }
+    }
+
+    public final boolean isHighPass() {
+        switch ( this ) {
+        case LOW_PASS:
+        case BUTTERWORTH_1_LOW_PASS:
+        case BUTTERWORTH_2_LOW_PASS:
+        case BUTTERWORTH_3_LOW_PASS:
+        case BUTTERWORTH_4_LOW_PASS:
+        case BUTTERWORTH_5_LOW_PASS:
+        case BUTTERWORTH_6_LOW_PASS:
+        case BUTTERWORTH_7_LOW_PASS:
+        case BUTTERWORTH_8_LOW_PASS:
+        case LINKWITZ_RILEY_2_LOW_PASS:
+        case LINKWITZ_RILEY_4_LOW_PASS:
+            return false;
+        default:
+            return true;
+        }
+    }
+
     public final String toPresentationString() {
         switch ( this ) {
         case SECOND_ORDER_HIGH_PASS:
@@ -74,6 +74,10 @@ public final class HighPassFilter extends HighLowPassFilter {
         this( highPassFilter.isBypassed(),
               highPassFilter.getFc(),
               highPassFilter.getHighLowPassFilterType() );
+
+        setAnalogPrototype( highPassFilter.getAnalogPrototypeFamily(),
+                            highPassFilter.getAnalogPrototypeOrder(),
+                            true );
     }
 
     // This method detects whether any of the filter parameters have been
@@ -82,12 +86,14 @@ public final class HighPassFilter extends HighLowPassFilter {
     public boolean isNonDefaultEqMode() {
         return ( isBypassed() != BYPASSED_DEFAULT ) || ( getFc() != FC_HIGH_PASS_DEFAULT )
                 || ( getElectronicFilterType() != ElectronicFilterType.HIGH_PASS )
-                || ( getHighLowPassFilterType() != FILTER_TYPE_HIGH_PASS_DEFAULT );
+                || ( getHighLowPassFilterType() != FILTER_TYPE_HIGH_PASS_DEFAULT )
+                || ( getAnalogPrototypeFamily() != null );
     }
 
     // Default pseudo-constructor
     @Override
     public void reset() {
+        setAnalogPrototype( null, 0, false );
         setHighLowPassFilter( BYPASSED_DEFAULT,
                               FC_HIGH_PASS_DEFAULT,
                               ElectronicFilterType.HIGH_PASS,
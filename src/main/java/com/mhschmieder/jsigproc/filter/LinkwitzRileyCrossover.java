@@ -0,0 +1,743 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.filter;
+
+import com.mhschmieder.jmath.MathConstants;
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
+import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.DspConstants;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+/**
+ * An N-way Linkwitz-Riley crossover network, of 2nd or 4th order, which splits
+ * a signal into two to four bands whose sum has a flat magnitude response.
+ * <p>
+ * The low pass, high pass and all pass filters at each crossover frequency all
+ * share the same poles, so their denominator is evaluated only once per bin
+ * and per crossover, and all bands are evaluated in a single pass over the
+ * frequency grid with one shared z-domain table. The bands form a tree: band
+ * k is the high pass of every crossover below it, the low pass of its own
+ * upper crossover, and the all pass of every crossover above that, which
+ * keeps all bands in phase with each other so that they sum to an all pass
+ * response.
+ * <p>
+ * The 2nd and 4th order sections match those of the
+ * {@link HighLowPassFilterType#LINKWITZ_RILEY_2_LOW_PASS} and
+ * {@link HighLowPassFilterType#LINKWITZ_RILEY_4_LOW_PASS} family of filter
+ * types, except that the 2nd order high pass is inverted in polarity, as is
+ * required for its bands to sum flat.
+ * <p>
+ * Coefficients are published as an immutable snapshot through a single
+ * volatile reference, so the crossover may be re-tuned from any thread while
+ * it is being evaluated or while {@link BandSplitter} instances process
+ * audio through it.
+ */
+public final class LinkwitzRileyCrossover {
+
+    /**
+     * The minimum number of bands, which is a single crossover.
+     */
+    public static final int                MINIMUM_NUMBER_OF_BANDS = 2;
+
+    /**
+     * The maximum number of bands.
+     */
+    public static final int                MAXIMUM_NUMBER_OF_BANDS = 4;
+
+    // The order of the crossover slopes, which is either 2 or 4.
+    private final int                      _order;
+
+    private final int                      _numberOfBands;
+    private final double[]                 _crossoverFrequenciesHz;
+    private double                         _samplingFrequencyHz;
+
+    private volatile CrossoverCoefficients _crossoverCoefficients;
+
+    // This is the default constructor, at the default sampling frequency.
+    public LinkwitzRileyCrossover( final int order, final double[] crossoverFrequenciesHz ) {
+        this( order, crossoverFrequenciesHz, DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ );
+    }
+
+    // This is the fully qualified constructor. The number of bands is one more
+    // than the number of crossover frequencies, which must be ascending.
+    public LinkwitzRileyCrossover( final int order,
+                                   final double[] crossoverFrequenciesHz,
+                                   final double samplingFrequencyHz ) {
+        if ( ( order != 2 ) && ( order != 4 ) ) {
+            throw new IllegalArgumentException( "Linkwitz-Riley order must be 2 or 4: " + order ); //$NON-NLS-1$
+        }
+
+        final int numberOfBands = crossoverFrequenciesHz.length + 1;
+        if ( ( numberOfBands < MINIMUM_NUMBER_OF_BANDS )
+                || ( numberOfBands > MAXIMUM_NUMBER_OF_BANDS ) ) {
+            throw new IllegalArgumentException( "Unsupported number of bands: " + numberOfBands ); //$NON-NLS-1$
+        }
+
+        _order = order;
+        _numberOfBands = numberOfBands;
+        _crossoverFrequenciesHz = Arrays.copyOf( crossoverFrequenciesHz,
+                                                 crossoverFrequenciesHz.length );
+        _samplingFrequencyHz = samplingFrequencyHz;
+
+        calculateEqCoefficients();
+    }
+
+    public int getOrder() {
+        return _order;
+    }
+
+    public int getNumberOfBands() {
+        return _numberOfBands;
+    }
+
+    public int getNumberOfCrossovers() {
+        return _numberOfBands - 1;
+    }
+
+    public synchronized double getCrossoverFrequencyHz( final int crossoverIndex ) {
+        return _crossoverFrequenciesHz[ crossoverIndex ];
+    }
+
+    public synchronized double[] getCrossoverFrequenciesHz() {
+        return Arrays.copyOf( _crossoverFrequenciesHz, _crossoverFrequenciesHz.length );
+    }
+
+    // Set one crossover frequency, which must stay between its neighbors.
+    public synchronized void setCrossoverFrequencyHz( final int crossoverIndex,
+                                                      final double crossoverFrequencyHz ) {
+        final double previousFrequencyHz = _crossoverFrequenciesHz[ crossoverIndex ];
+        _crossoverFrequenciesHz[ crossoverIndex ] = crossoverFrequencyHz;
+
+        try {
+            calculateEqCoefficients();
+        }
+        catch ( final IllegalArgumentException iae ) {
+            _crossoverFrequenciesHz[ crossoverIndex ] = previousFrequencyHz;
+            throw iae;
+        }
+    }
+
+    // Set all of the crossover frequencies at once, such as when searching for
+    // the best alignment, so that the coefficients are computed only once.
+    public synchronized void setCrossoverFrequenciesHz( final double[] crossoverFrequenciesHz ) {
+        if ( crossoverFrequenciesHz.length != _crossoverFrequenciesHz.length ) {
+            throw new IllegalArgumentException( "Expected " + _crossoverFrequenciesHz.length //$NON-NLS-1$
+                    + " crossover frequencies" ); //$NON-NLS-1$
+        }
+
+        final double[] previousFrequenciesHz = getCrossoverFrequenciesHz();
+        System.arraycopy( crossoverFrequenciesHz,
+                          0,
+                          _crossoverFrequenciesHz,
+                          0,
+                          _crossoverFrequenciesHz.length );
+
+        try {
+            calculateEqCoefficients();
+        }
+        catch ( final IllegalArgumentException iae ) {
+            System.arraycopy( previousFrequenciesHz,
+                              0,
+                              _crossoverFrequenciesHz,
+                              0,
+                              _crossoverFrequenciesHz.length );
+            throw iae;
+        }
+    }
+
+    public double getSamplingFrequencyHz() {
+        return _crossoverCoefficients._samplingFrequencyHz;
+    }
+
+    public synchronized void setSamplingFrequencyHz( final double samplingFrequencyHz ) {
+        if ( samplingFrequencyHz == _samplingFrequencyHz ) {
+            return;
+        }
+
+        final double previousSamplingFrequencyHz = _samplingFrequencyHz;
+        _samplingFrequencyHz = samplingFrequencyHz;
+
+        try {
+            calculateEqCoefficients();
+        }
+        catch ( final IllegalArgumentException iae ) {
+            _samplingFrequencyHz = previousSamplingFrequencyHz;
+            throw iae;
+        }
+    }
+
+    // Return the low pass filter at one crossover, as a biquad cascade.
+    public BiquadCoefficients getLowPassCoefficients( final int crossoverIndex ) {
+        return _crossoverCoefficients._lowPass[ crossoverIndex ];
+    }
+
+    // Return the high pass filter at one crossover, as a biquad cascade.
+    public BiquadCoefficients getHighPassCoefficients( final int crossoverIndex ) {
+        return _crossoverCoefficients._highPass[ crossoverIndex ];
+    }
+
+    // Return the all pass filter at one crossover, which is the sum of its low
+    // pass and high pass filters, as a biquad cascade.
+    public BiquadCoefficients getAllPassCoefficients( final int crossoverIndex ) {
+        return _crossoverCoefficients._allPass[ crossoverIndex ];
+    }
+
+    // Return the whole filter path for one band, as a biquad cascade, such as
+    // for processing it on its own.
+    public BiquadCoefficients getBandCoefficients( final int bandIndex ) {
+        return _crossoverCoefficients._band[ bandIndex ];
+    }
+
+    /**
+     * Returns the response of one band at a given frequency.
+     * <p>
+     * As with the single-frequency filter methods, the conjugate of the
+     * response is returned, to match the library's delay sign convention.
+     *
+     * @param bandIndex
+     *            The index of the band, from lowest to highest
+     * @param f
+     *            The frequency, in Hertz
+     * @return The Complex amplitude/phase value of the band at the frequency
+     */
+    public Complex getH( final int bandIndex, final double f ) {
+        final CrossoverCoefficients crossoverCoefficients = _crossoverCoefficients;
+
+        // A one-bin table takes care of avoiding the NaNs at f == 0.
+        final ZDomainTable zDomainTable = new ZDomainTable( new double[] { f },
+                                                            crossoverCoefficients._samplingFrequencyHz );
+
+        final double[][] hReal = new double[ _numberOfBands ][ 1 ];
+        final double[][] hImaginary = new double[ _numberOfBands ][ 1 ];
+        for ( int index = 0; index < _numberOfBands; index++ ) {
+            hReal[ index ][ 0 ] = 1.0d;
+        }
+        crossoverCoefficients.multiplyH( zDomainTable, 0, 1, hReal, hImaginary );
+
+        return new Complex( hReal[ bandIndex ][ 0 ], hImaginary[ bandIndex ][ 0 ] );
+    }
+
+    /**
+     * Multiplies the responses of all bands at a range of given frequencies
+     * into the supplied per-band accumulators, in a single pass.
+     *
+     * @param frequencies
+     *            The frequency grid, in Hertz
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param hReal
+     *            The accumulators for the real parts, per band
+     * @param hImaginary
+     *            The accumulators for the imaginary parts, per band
+     */
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[][] hReal,
+                           final double[][] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, getSamplingFrequencyHz() ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    /**
+     * Multiplies the responses of all bands at a range of bins of a
+     * precomputed z-domain table into the supplied per-band accumulators, in
+     * a single pass. The poles of each crossover are evaluated only once per
+     * bin, and are shared by all of the bands.
+     * <p>
+     * As with the single-frequency filter methods, the conjugate of the
+     * response is returned, to match the library's delay sign convention.
+     *
+     * @param zDomainTable
+     *            The precomputed z-domain table for the frequency grid
+     * @param fromIndex
+     *            The first bin to evaluate (inclusive)
+     * @param toIndex
+     *            The last bin to evaluate (exclusive)
+     * @param hReal
+     *            The accumulators for the real parts, per band
+     * @param hImaginary
+     *            The accumulators for the imaginary parts, per band
+     */
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[][] hReal,
+                           final double[][] hImaginary ) {
+        final CrossoverCoefficients crossoverCoefficients = _crossoverCoefficients;
+        crossoverCoefficients.multiplyH( zDomainTable
+                .forSamplingFrequency( crossoverCoefficients._samplingFrequencyHz ),
+                                         fromIndex,
+                                         toIndex,
+                                         hReal,
+                                         hImaginary );
+    }
+
+    // Create a new band splitter, for processing one channel of audio through
+    // this crossover.
+    public BandSplitter createBandSplitter() {
+        return new BandSplitter( this );
+    }
+
+    // Compute the coefficients for the current crossover frequencies and
+    // sampling frequency, and publish them as a new snapshot.
+    private void calculateEqCoefficients() {
+        final double nyquistFrequencyHz = 0.5d * _samplingFrequencyHz;
+        for ( int crossoverIndex = 0; crossoverIndex < _crossoverFrequenciesHz.length; crossoverIndex++ ) {
+            final double crossoverFrequencyHz = _crossoverFrequenciesHz[ crossoverIndex ];
+            if ( ( crossoverFrequencyHz <= 0.0d ) || ( crossoverFrequencyHz >= nyquistFrequencyHz ) ) {
+                throw new IllegalArgumentException( "Crossover frequency out of range: " //$NON-NLS-1$
+                        + crossoverFrequencyHz );
+            }
+            if ( ( crossoverIndex > 0 )
+                    && ( crossoverFrequencyHz <= _crossoverFrequenciesHz[ crossoverIndex - 1 ] ) ) {
+                throw new IllegalArgumentException( "Crossover frequencies must be ascending" ); //$NON-NLS-1$
+            }
+        }
+
+        _crossoverCoefficients = new CrossoverCoefficients( _order,
+                                                            _crossoverFrequenciesHz,
+                                                            _samplingFrequencyHz );
+    }
+
+    // An immutable snapshot of the coefficients of all of the crossovers, in
+    // both primitive form for frequency response evaluation and biquad form
+    // for processing.
+    private static final class CrossoverCoefficients {
+
+        private final double               _samplingFrequencyHz;
+        private final boolean              _squared;
+
+        // Normalized quadratics in z^-1, per crossover: the shared poles, and
+        // the low pass, high pass and all pass zeros over those poles.
+        private final double[][]           _denominator;
+        private final double[][]           _lowPassNumerator;
+        private final double[][]           _highPassNumerator;
+        private final double[][]           _allPassNumerator;
+
+        private final BiquadCoefficients[] _lowPass;
+        private final BiquadCoefficients[] _highPass;
+        private final BiquadCoefficients[] _allPass;
+        private final BiquadCoefficients[] _band;
+
+        // The all pass filters of all the crossovers above each crossover,
+        // fused here so that band splitters needn't allocate when re-tuned.
+        private final BiquadCoefficients[] _allPassAbove;
+
+        CrossoverCoefficients( final int order,
+                               final double[] crossoverFrequenciesHz,
+                               final double samplingFrequencyHz ) {
+            final int numberOfCrossovers = crossoverFrequenciesHz.length;
+
+            _samplingFrequencyHz = samplingFrequencyHz;
+
+            // A 4th order crossover is a pair of identical 2nd order
+            // Butterworth sections on either side, whose sum is a 2nd order
+            // all pass over the same poles. A 2nd order crossover is a pair of
+            // identical 1st order Butterworth sections, which we combine into
+            // one biquad, and its sum is a 1st order all pass, which we raise
+            // to a biquad over the same poles.
+            _squared = ( order == 4 );
+            final double[] analogDenominator = _squared
+                ? new double[] { 1.0d, MathConstants.SQRT_TWO, 1.0d }
+                : new double[] { 1.0d, 2.0d, 1.0d };
+            final double[] analogLowPass = new double[] { 0.0d, 0.0d, 1.0d };
+            final double[] analogHighPass = _squared
+                ? new double[] { 1.0d, 0.0d, 0.0d }
+                : new double[] { -1.0d, 0.0d, 0.0d };
+            final double[] analogAllPass = _squared
+                ? new double[] { 1.0d, -MathConstants.SQRT_TWO, 1.0d }
+                : new double[] { -1.0d, 0.0d, 1.0d };
+
+            _denominator = new double[ numberOfCrossovers ][];
+            _lowPassNumerator = new double[ numberOfCrossovers ][];
+            _highPassNumerator = new double[ numberOfCrossovers ][];
+            _allPassNumerator = new double[ numberOfCrossovers ][];
+            _lowPass = new BiquadCoefficients[ numberOfCrossovers ];
+            _highPass = new BiquadCoefficients[ numberOfCrossovers ];
+            _allPass = new BiquadCoefficients[ numberOfCrossovers ];
+
+            for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                // Pre-warp the bilinear transform to the crossover frequency.
+                final double eqOmega = DigitalFilterUtilities
+                        .getPoleAngleRadians( crossoverFrequenciesHz[ crossoverIndex ],
+                                              samplingFrequencyHz );
+                final double eqSin = FastMath.sin( eqOmega );
+                final double eqCos = FastMath.cos( eqOmega );
+                final double oneMinusEqCos = 1.0d - eqCos;
+                final double onePlusEqCos = 1.0d + eqCos;
+
+                final double[] denominator = getDigitalQuadratic( eqSin,
+                                                                  oneMinusEqCos,
+                                                                  onePlusEqCos,
+                                                                  analogDenominator,
+                                                                  1.0d );
+                final double a0 = denominator[ 0 ];
+                denominator[ 0 ] = 1.0d;
+                denominator[ 1 ] /= a0;
+                denominator[ 2 ] /= a0;
+
+                _denominator[ crossoverIndex ] = denominator;
+                _lowPassNumerator[ crossoverIndex ] =
+                        getDigitalQuadratic( eqSin, oneMinusEqCos, onePlusEqCos, analogLowPass, a0 );
+                _highPassNumerator[ crossoverIndex ] =
+                        getDigitalQuadratic( eqSin, oneMinusEqCos, onePlusEqCos, analogHighPass, a0 );
+                _allPassNumerator[ crossoverIndex ] =
+                        getDigitalQuadratic( eqSin, oneMinusEqCos, onePlusEqCos, analogAllPass, a0 );
+
+                _lowPass[ crossoverIndex ] = getCascade( _lowPassNumerator[ crossoverIndex ],
+                                                         denominator,
+                                                         _squared ? 2 : 1 );
+                _highPass[ crossoverIndex ] = getCascade( _highPassNumerator[ crossoverIndex ],
+                                                          denominator,
+                                                          _squared ? 2 : 1 );
+                _allPass[ crossoverIndex ] = getCascade( _allPassNumerator[ crossoverIndex ],
+                                                         denominator,
+                                                         1 );
+            }
+
+            // Each band is the high pass of every crossover below it, the low
+            // pass of the crossover above it, and the all pass of the rest.
+            final int numberOfBands = numberOfCrossovers + 1;
+            _band = new BiquadCoefficients[ numberOfBands ];
+            for ( int bandIndex = 0; bandIndex < numberOfBands; bandIndex++ ) {
+                final BiquadCoefficients[] stages = new BiquadCoefficients[ numberOfCrossovers ];
+                for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                    stages[ crossoverIndex ] = ( crossoverIndex < bandIndex )
+                        ? _highPass[ crossoverIndex ]
+                        : ( crossoverIndex == bandIndex )
+                            ? _lowPass[ crossoverIndex ]
+                            : _allPass[ crossoverIndex ];
+                }
+                _band[ bandIndex ] = BiquadCoefficients.concatenate( stages );
+            }
+
+            _allPassAbove = new BiquadCoefficients[ numberOfCrossovers ];
+            for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                _allPassAbove[ crossoverIndex ] = BiquadCoefficients
+                        .concatenate( Arrays.copyOfRange( _allPass,
+                                                          crossoverIndex + 1,
+                                                          numberOfCrossovers ) );
+            }
+        }
+
+        // Bilinear transform an analog quadratic (A s^2 + B s + C), returning
+        // its coefficients for z^0, z^-1 and z^-2 divided by the given a0.
+        private static double[] getDigitalQuadratic( final double eqSin,
+                                                     final double oneMinusEqCos,
+                                                     final double onePlusEqCos,
+                                                     final double[] analogCoefficients,
+                                                     final double a0 ) {
+            // The utility method returns the coefficients from z^-2 to z^0.
+            final double[] reversed = DigitalFilterUtilities
+                    .getDigitalBiquadPoleCoefficients( eqSin,
+                                                       oneMinusEqCos,
+                                                       onePlusEqCos,
+                                                       analogCoefficients );
+
+            return new double[] { reversed[ 2 ] / a0, reversed[ 1 ] / a0, reversed[ 0 ] / a0 };
+        }
+
+        private static BiquadCoefficients getCascade( final double[] numerator,
+                                                      final double[] denominator,
+                                                      final int numberOfSections ) {
+            final BiquadCoefficients section = BiquadCoefficients.fromSection( numerator[ 0 ],
+                                                                               numerator[ 1 ],
+                                                                               numerator[ 2 ],
+                                                                               denominator[ 0 ],
+                                                                               denominator[ 1 ],
+                                                                               denominator[ 2 ] );
+
+            return ( numberOfSections == 1 )
+                ? section
+                : BiquadCoefficients.concatenate( section, section );
+        }
+
+        // Multiply the conjugate of the response of every band into the
+        // per-band accumulators, one crossover at a time. The poles of each
+        // crossover are shared by its low pass, high pass and all pass
+        // filters, so there is only one division per crossover and per bin,
+        // and each filter is then multiplied into every band that it feeds.
+        void multiplyH( final ZDomainTable zDomainTable,
+                        final int fromIndex,
+                        final int toIndex,
+                        final double[][] hReal,
+                        final double[][] hImaginary ) {
+            final int numberOfCrossovers = _denominator.length;
+            final int numberOfBands = numberOfCrossovers + 1;
+            final double[] h = new double[ 2 ];
+
+            for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                final double[] denominator = _denominator[ crossoverIndex ];
+                final double[] lowPassNumerator = _lowPassNumerator[ crossoverIndex ];
+                final double[] highPassNumerator = _highPassNumerator[ crossoverIndex ];
+                final double[] allPassNumerator = _allPassNumerator[ crossoverIndex ];
+
+                for ( int binIndex = fromIndex; binIndex < toIndex; binIndex++ ) {
+                    final double zMinusOneReal = zDomainTable.getZMinusOneReal( binIndex );
+                    final double zMinusOneImaginary = zDomainTable.getZMinusOneImaginary( binIndex );
+                    final double zMinusTwoReal = zDomainTable.getZMinusTwoReal( binIndex );
+                    final double zMinusTwoImaginary = zDomainTable.getZMinusTwoImaginary( binIndex );
+
+                    ComplexArithmetic.evaluateQuadratic( denominator[ 0 ],
+                                                         denominator[ 1 ],
+                                                         denominator[ 2 ],
+                                                         zMinusOneReal,
+                                                         zMinusOneImaginary,
+                                                         zMinusTwoReal,
+                                                         zMinusTwoImaginary,
+                                                         h,
+                                                         0 );
+
+                    // NOTE: Avoid divide by zero exceptions!
+                    if ( ComplexArithmetic.getNorm( h[ ComplexArithmetic.REAL ],
+                                                    h[ ComplexArithmetic.IMAGINARY ] ) == 0.0d ) {
+                        continue;
+                    }
+
+                    // The reciprocal is conjugated up front, so that the
+                    // products below come out as conjugates as well.
+                    ComplexArithmetic.reciprocal( h[ ComplexArithmetic.REAL ],
+                                                  h[ ComplexArithmetic.IMAGINARY ],
+                                                  h,
+                                                  0 );
+                    final double poleReal = h[ ComplexArithmetic.REAL ];
+                    final double poleImaginary = -h[ ComplexArithmetic.IMAGINARY ];
+
+                    evaluateOverPoles( lowPassNumerator,
+                                       zMinusOneReal,
+                                       -zMinusOneImaginary,
+                                       zMinusTwoReal,
+                                       -zMinusTwoImaginary,
+                                       poleReal,
+                                       poleImaginary,
+                                       _squared,
+                                       h );
+                    ComplexArithmetic.multiplyInto( hReal[ crossoverIndex ],
+                                                    hImaginary[ crossoverIndex ],
+                                                    binIndex,
+                                                    h[ ComplexArithmetic.REAL ],
+                                                    h[ ComplexArithmetic.IMAGINARY ] );
+
+                    evaluateOverPoles( highPassNumerator,
+                                       zMinusOneReal,
+                                       -zMinusOneImaginary,
+                                       zMinusTwoReal,
+                                       -zMinusTwoImaginary,
+                                       poleReal,
+                                       poleImaginary,
+                                       _squared,
+                                       h );
+                    for ( int bandIndex = crossoverIndex + 1; bandIndex < numberOfBands; bandIndex++ ) {
+                        ComplexArithmetic.multiplyInto( hReal[ bandIndex ],
+                                                        hImaginary[ bandIndex ],
+                                                        binIndex,
+                                                        h[ ComplexArithmetic.REAL ],
+                                                        h[ ComplexArithmetic.IMAGINARY ] );
+                    }
+
+                    if ( crossoverIndex > 0 ) {
+                        evaluateOverPoles( allPassNumerator,
+                                           zMinusOneReal,
+                                           -zMinusOneImaginary,
+                                           zMinusTwoReal,
+                                           -zMinusTwoImaginary,
+                                           poleReal,
+                                           poleImaginary,
+                                           false,
+                                           h );
+                        for ( int bandIndex = 0; bandIndex < crossoverIndex; bandIndex++ ) {
+                            ComplexArithmetic.multiplyInto( hReal[ bandIndex ],
+                                                            hImaginary[ bandIndex ],
+                                                            binIndex,
+                                                            h[ ComplexArithmetic.REAL ],
+                                                            h[ ComplexArithmetic.IMAGINARY ] );
+                        }
+                    }
+                }
+            }
+        }
+
+        // Evaluate a numerator and multiply it by the reciprocal of the shared
+        // denominator, squaring the result for the 4th order low and high
+        // pass filters.
+        private static void evaluateOverPoles( final double[] numerator,
+                                               final double zMinusOneReal,
+                                               final double zMinusOneImaginary,
+                                               final double zMinusTwoReal,
+                                               final double zMinusTwoImaginary,
+                                               final double poleReal,
+                                               final double poleImaginary,
+                                               final boolean squared,
+                                               final double[] h ) {
+            ComplexArithmetic.evaluateQuadratic( numerator[ 0 ],
+                                                 numerator[ 1 ],
+                                                 numerator[ 2 ],
+                                                 zMinusOneReal,
+                                                 zMinusOneImaginary,
+                                                 zMinusTwoReal,
+                                                 zMinusTwoImaginary,
+                                                 h,
+                                                 0 );
+            ComplexArithmetic.multiply( h[ ComplexArithmetic.REAL ],
+                                        h[ ComplexArithmetic.IMAGINARY ],
+                                        poleReal,
+                                        poleImaginary,
+                                        h,
+                                        0 );
+
+            if ( squared ) {
+                final double real = h[ ComplexArithmetic.REAL ];
+                final double imaginary = h[ ComplexArithmetic.IMAGINARY ];
+                ComplexArithmetic.multiply( real, imaginary, real, imaginary, h, 0 );
+            }
+        }
+    }
+
+    /**
+     * Splits one channel of audio into the bands of a crossover, in the time
+     * domain, with the high pass filters shared along the tree of bands.
+     * <p>
+     * A band splitter holds the filter state for one channel, and must be
+     * confined to one thread. It picks up any re-tuning of its crossover at
+     * the start of each block, without locking.
+     */
+    public static final class BandSplitter {
+
+        private final LinkwitzRileyCrossover _crossover;
+        private CrossoverCoefficients        _crossoverCoefficients;
+
+        // The cascades for each crossover, where the all pass cascade for a
+        // crossover holds the all pass filters of all the crossovers above it.
+        private final BiquadCascade[]        _lowPass;
+        private final BiquadCascade[]        _highPass;
+        private final BiquadCascade[]        _allPass;
+
+        BandSplitter( final LinkwitzRileyCrossover crossover ) {
+            _crossover = crossover;
+
+            final int numberOfCrossovers = crossover.getNumberOfCrossovers();
+            _lowPass = new BiquadCascade[ numberOfCrossovers ];
+            _highPass = new BiquadCascade[ numberOfCrossovers ];
+            _allPass = new BiquadCascade[ numberOfCrossovers ];
+            for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                _lowPass[ crossoverIndex ] = new BiquadCascade( 2 );
+                _highPass[ crossoverIndex ] = new BiquadCascade( 2 );
+                _allPass[ crossoverIndex ] =
+                        new BiquadCascade( numberOfCrossovers - crossoverIndex - 1 );
+            }
+        }
+
+        public LinkwitzRileyCrossover getCrossover() {
+            return _crossover;
+        }
+
+        // Clear the filter state, such as when starting a new, unrelated
+        // signal.
+        public void reset() {
+            for ( int crossoverIndex = 0; crossoverIndex < _lowPass.length; crossoverIndex++ ) {
+                _lowPass[ crossoverIndex ].reset();
+                _highPass[ crossoverIndex ].reset();
+                _allPass[ crossoverIndex ].reset();
+            }
+        }
+
+        /**
+         * Splits a block of samples into all of the bands, in a single pass
+         * down the tree of crossovers.
+         * <p>
+         * The input array may be one of the band output arrays.
+         *
+         * @param in
+         *            The input samples
+         * @param bandOut
+         *            The output samples, per band from lowest to highest
+         * @param offset
+         *            The index of the first sample to process, in all arrays
+         * @param length
+         *            The number of samples to process
+         */
+        public void process( final float[] in,
+                             final float[][] bandOut,
+                             final int offset,
+                             final int length ) {
+            updateCoefficients();
+
+            final int numberOfCrossovers = _lowPass.length;
+
+            // The remainder of the signal above each crossover is carried in
+            // the highest band, which is where it ends up.
+            final float[] remainder = bandOut[ numberOfCrossovers ];
+            if ( in != remainder ) {
+                System.arraycopy( in, offset, remainder, offset, length );
+            }
+
+            for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                final float[] band = bandOut[ crossoverIndex ];
+                _lowPass[ crossoverIndex ].process( remainder, band, offset, length );
+                _allPass[ crossoverIndex ].process( band, band, offset, length );
+                _highPass[ crossoverIndex ].process( remainder, remainder, offset, length );
+            }
+        }
+
+        // Load the latest snapshot of the crossover into the cascades, if it
+        // has changed since the last block.
+        private void updateCoefficients() {
+            final CrossoverCoefficients crossoverCoefficients = _crossover._crossoverCoefficients;
+            if ( crossoverCoefficients == _crossoverCoefficients ) {
+                return;
+            }
+            _crossoverCoefficients = crossoverCoefficients;
+
+            final int numberOfCrossovers = _lowPass.length;
+            for ( int crossoverIndex = 0; crossoverIndex < numberOfCrossovers; crossoverIndex++ ) {
+                _lowPass[ crossoverIndex ]
+                        .setCoefficients( crossoverCoefficients._lowPass[ crossoverIndex ] );
+                _highPass[ crossoverIndex ]
+                        .setCoefficients( crossoverCoefficients._highPass[ crossoverIndex ] );
+                _allPass[ crossoverIndex ]
+                        .setCoefficients( crossoverCoefficients._allPassAbove[ crossoverIndex ] );
+            }
+        }
+    }
+}
@@ -74,6 +74,10 @@ public final class LowPassFilter extends HighLowPassFilter {
         this( lowPassFilter.isBypassed(),
               lowPassFilter.getFc(),
               lowPassFilter.getHighLowPassFilterType() );
+
+        setAnalogPrototype( lowPassFilter.getAnalogPrototypeFamily(),
+                            lowPassFilter.getAnalogPrototypeOrder(),
+                            true );
     }
 
     // This method detects whether any of the filter parameters have been
@@ -82,12 +86,14 @@ public final class LowPassFilter extends HighLowPassFilter {
     public boolean isNonDefaultEqMode() {
         return ( isBypassed() != BYPASSED_DEFAULT ) || ( getFc() != FC_LOW_PASS_DEFAULT )
                 || ( getElectronicFilterType() != ElectronicFilterType.LOW_PASS )
-                || ( getHighLowPassFilterType() != FILTER_TYPE_LOW_PASS_DEFAULT );
+                || ( getHighLowPassFilterType() != FILTER_TYPE_LOW_PASS_DEFAULT )
+                || ( getAnalogPrototypeFamily() != null );
     }
 
     // Default pseudo-constructor
     @Override
     public void reset() {
+        setAnalogPrototype( null, 0, false );
         setHighLowPassFilter( BYPASSED_DEFAULT,
                               FC_LOW_PASS_DEFAULT,
                               ElectronicFilterType.LOW_PASS,
@@ -32,8 +32,12 @@ package com.mhschmieder.jsigproc.filter;
 
 import com.mhschmieder.jacoustics.FrequencySignalUtilities;
 import com.mhschmieder.jmath.MathConstants;
-import com.mhschmieder.jmath.MathUtilities;
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
 import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.util.FastMath;
 
@@ -58,7 +62,7 @@ public final class ParametricFilter extends DigitalFilter {
     // Cut/boost (gain), range -15dB to +15dB
     private static final double  C_DEFAULT        = 0.0d;
 
-    private boolean              _bypassed;
+    private volatile boolean     _bypassed;
     private double               _f;
     private double               _o;
     private double               _c;
@@ -74,13 +78,11 @@ public final class ParametricFilter extends DigitalFilter {
     // Declare flag for whether or not to flip the frequency response result.
     private boolean              _invertH         = false;
 
-    // Pre-cached parametric coefficients.
-    private Complex              _a0              = Complex.ONE;
-    private Complex              _a1              = Complex.ONE;
-    private Complex              _a2              = Complex.ONE;
-    private Complex              _b0              = Complex.ONE;
-    private Complex              _b1              = Complex.ONE;
-    private Complex              _b2              = Complex.ONE;
+    // Pre-cached parametric coefficients, published as an immutable snapshot.
+    // NOTE: Parameter changes on one thread replace the whole snapshot with a
+    //  single volatile write, so evaluation and audio threads always see one
+    //  consistent generation of coefficients without taking any locks.
+    private volatile BiquadCoefficients _biquadCoefficients = BiquadCoefficients.IDENTITY;
 
     // This is the preferred default constructor for a single filter; it sets
     // all instance variables to default values.
@@ -128,6 +130,8 @@ public final class ParametricFilter extends DigitalFilter {
               parametricFilter.getF(),
               parametricFilter.getO(),
               parametricFilter.getC() );
+
+        setSamplingFrequencyHz( parametricFilter.getSamplingFrequencyHz() );
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -161,37 +165,207 @@ public final class ParametricFilter extends DigitalFilter {
         // The sampling frequency of the filter is independent of the other
         // sampling frequencies, as we are passing the analog frequency to the
         // filter method in which we want to get the complex response.
-        Complex h = Complex.ONE;
-
+        //
         // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
         final double fAdjusted = FastMath.max( f, MathConstants.EPSILON_SMALL );
 
-        final Complex z = DigitalFilterUtilities
-                .convertFrequencyToZDomain( fAdjusted, samplingFrequencyHz );
-        final Complex zSquared = MathUtilities.sqrComplex( z );
-
-        final Complex d0 = _a0;
-        final Complex d1 = _a1.divide( z );
-        final Complex d2 = _a2.divide( zSquared );
-        final Complex denominator = d0.add( d1 ).add( d2 );
-
-        final Complex n0 = _b0;
-        final Complex n1 = _b1.divide( z );
-        final Complex n2 = _b2.divide( zSquared );
-        final Complex numerator = n0.add( n1 ).add( n2 );
-
-        // NOTE: Avoid divide by zero exceptions!
-        if ( Complex.ZERO.equals( denominator ) ) {
-            return Complex.ONE;
-        }
+        // Work with primitive complex pairs, so that Complex objects are only
+        // created at the API boundary.
+        final double[] zPowers = new double[ 4 ];
+        DigitalFilterUtilities
+                .convertFrequencyToZDomainPowers( fAdjusted, samplingFrequencyHz, zPowers, 0 );
 
         // Result = numerator / denominator
-        h = numerator.divide( denominator );
+        final double[] h = new double[ 2 ];
+        _biquadCoefficients.getH( zPowers[ 0 ], zPowers[ 1 ], zPowers[ 2 ], zPowers[ 3 ], h, 0 );
 
         // Return the parametric filter value at the given frequency.
         // NOTE: For now, we are returning the conjugate instead. This takes
         //  care of sign problems in the delay time in some implementations.
-        return h.conjugate();
+        return new Complex( h[ ComplexArithmetic.REAL ], -h[ ComplexArithmetic.IMAGINARY ] );
+    }
+
+    // This instance method multiplies the Parametric Filter values at a range
+    // of given frequencies (in Hertz) into the supplied accumulators, using
+    // the shared z-domain table for the frequency grid and sampling frequency.
+    @Override
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    // This instance method multiplies the Parametric Filter values at a range
+    // of bins of a precomputed z-domain table into the supplied accumulators,
+    // using primitive arithmetic so that no objects are allocated per bin.
+    @Override
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double[] hReal,
+                           final double[] hImaginary ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        _biquadCoefficients.multiplyH( zDomainTable.forSamplingFrequency( samplingFrequencyHz ),
+                                       fromIndex,
+                                       toIndex,
+                                       hReal,
+                                       hImaginary );
+    }
+
+    // This instance method multiplies the Parametric Filter values at a range
+    // of given frequencies (in Hertz) into the supplied single precision
+    // accumulators, for bulk sweeps where precision matters less than memory
+    // traffic.
+    @Override
+    public void multiplyH( final double[] frequencies,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        multiplyH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                   fromIndex,
+                   toIndex,
+                   hReal,
+                   hImaginary );
+    }
+
+    // This instance method multiplies the Parametric Filter values at a range
+    // of bins of a precomputed z-domain table into the supplied single
+    // precision accumulators. The values are computed in double precision and
+    // rounded once, to within 2^-23 relative error of the double method.
+    @Override
+    public void multiplyH( final ZDomainTable zDomainTable,
+                           final int fromIndex,
+                           final int toIndex,
+                           final float[] hReal,
+                           final float[] hImaginary ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        _biquadCoefficients.multiplyH( zDomainTable.forSamplingFrequency( samplingFrequencyHz ),
+                                       fromIndex,
+                                       toIndex,
+                                       hReal,
+                                       hImaginary );
+    }
+
+    // This instance method multiplies the Parametric Filter magnitudes at a
+    // range of given frequencies (in Hertz) into the supplied magnitude
+    // accumulator, and adds the phases and group delays to the supplied
+    // accumulators.
+    @Override
+    public void multiplyPolarH( final double[] frequencies,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        multiplyPolarH( ZDomainTableCache.getZDomainTable( frequencies, samplingFrequencyHz ),
+                        fromIndex,
+                        toIndex,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // This instance method multiplies the Parametric Filter magnitudes at a
+    // range of bins of a precomputed z-domain table into the supplied
+    // magnitude accumulator, and adds the phases and group delays. As the
+    // filter is a single biquad, its group delay follows directly from the
+    // coefficients, with no need to difference neighboring bins.
+    @Override
+    public void multiplyPolarH( final ZDomainTable zDomainTable,
+                                final int fromIndex,
+                                final int toIndex,
+                                final double[] magnitude,
+                                final double[] phaseRadians,
+                                final double[] groupDelaySeconds ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        final ZDomainTable table = zDomainTable.forSamplingFrequency( samplingFrequencyHz );
+        _biquadCoefficients.multiplyPolarH( table,
+                                            fromIndex,
+                                            toIndex,
+                                            magnitude,
+                                            phaseRadians,
+                                            groupDelaySeconds );
+    }
+
+    // This instance method multiplies the squared magnitudes of the
+    // Parametric Filter values at a range of given frequencies (in Hertz)
+    // into the supplied accumulator.
+    @Override
+    public void multiplyMagnitudeSquared( final double[] frequencies,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {
+        multiplyMagnitudeSquared( ZDomainTableCache.getZDomainTable( frequencies,
+                                                                     samplingFrequencyHz ),
+                                  fromIndex,
+                                  toIndex,
+                                  magnitudeSquared );
+    }
+
+    // This instance method multiplies the squared magnitudes of the
+    // Parametric Filter values at a range of bins of a precomputed z-domain
+    // table into the supplied accumulator, using only real arithmetic rather
+    // than a complex division per bin.
+    @Override
+    public void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          final double[] magnitudeSquared ) {
+        if ( _bypassed ) {
+            return;
+        }
+
+        // Make sure the pre-warping matches this filter's sampling frequency.
+        final ZDomainTable table = zDomainTable.forSamplingFrequency( samplingFrequencyHz );
+        _biquadCoefficients.multiplyMagnitudeSquared( table, fromIndex, toIndex, magnitudeSquared );
+    }
+
+    // This instance method returns the current immutable coefficient snapshot.
+    public BiquadCoefficients getBiquadCoefficients() {
+        return _biquadCoefficients;
+    }
+
+    // This instance method creates a new time-domain biquad cascade for one
+    // channel, loaded with this filter's current coefficients.
+    public BiquadCascade createBiquadCascade() {
+        final BiquadCascade biquadCascade = new BiquadCascade( 1 );
+        loadBiquadCascade( biquadCascade );
+        return biquadCascade;
+    }
+
+    // This instance method loads this filter's current coefficients into an
+    // existing time-domain biquad cascade, keeping its state so that parameter
+    // changes during playback don't reset the signal path. This may be called
+    // from any thread, as the cascade picks up the snapshot per block.
+    public void loadBiquadCascade( final BiquadCascade biquadCascade, final boolean interpolate ) {
+        biquadCascade.setCoefficients( _bypassed
+            ? BiquadCoefficients.IDENTITY
+            : _biquadCoefficients, interpolate );
+    }
+
+    // This instance method loads this filter's current coefficients into an
+    // existing time-domain biquad cascade, without interpolation.
+    public void loadBiquadCascade( final BiquadCascade biquadCascade ) {
+        loadBiquadCascade( biquadCascade, false );
     }
 
     public double getO() {
@@ -250,6 +424,8 @@ public final class ParametricFilter extends DigitalFilter {
 
     public void setBypassed( final boolean bypassed ) {
         _bypassed = bypassed;
+
+        incrementModificationCount();
     }
 
     public void setC( final double c, final boolean updateEquationParameters ) {
@@ -261,6 +437,11 @@ public final class ParametricFilter extends DigitalFilter {
         _g = new Complex( FrequencySignalUtilities.getVoltageRatio( FastMath.abs( c ) ), 0.0d );
         _invertH = ( c < 0.0d );
 
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
+
         // Update the equation parameters any time the base values change.
         if ( updateEquationParameters ) {
             calculateEqCoefficients();
@@ -276,6 +457,11 @@ public final class ParametricFilter extends DigitalFilter {
         _f = f;
         _w = new Complex( FrequencySignalUtilities.getAngularFrequencyRadians( f ), 0.0d );
 
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
+
         // Update the equation parameters any time the base values change.
         if ( updateEquationParameters ) {
             calculateEqCoefficients();
@@ -288,6 +474,11 @@ public final class ParametricFilter extends DigitalFilter {
         _o = o;
         _q = new Complex( FrequencySignalUtilities.convertBandwidthToQ( o ), 0.0d );
 
+        incrementModificationCount();
+
+        // Forget any coefficients memoized for the old filter parameters.
+        clearCachedCoefficients();
+
         // Update the equation parameters any time the base values change.
         if ( updateEquationParameters ) {
             calculateEqCoefficients();
@@ -318,6 +509,32 @@ public final class ParametricFilter extends DigitalFilter {
 
     // TODO: Enforce this method on all filters via an interface.
     public void calculateEqCoefficients() {
+        // The filter parameters have changed, so the coefficients memoized for
+        // other sampling frequencies no longer apply.
+        clearCachedCoefficients();
+
+        final BiquadCoefficients biquadCoefficients = computeBiquadCoefficients();
+        cacheCoefficients( biquadCoefficients );
+        _biquadCoefficients = biquadCoefficients;
+
+        // Count the newly published coefficients as a modification too, as
+        // the setters may have deferred them.
+        incrementModificationCount();
+    }
+
+    // Recompute the coefficients for the new sampling frequency, unless they
+    // were already computed for it with the current filter parameters.
+    @Override
+    protected void updateSamplingFrequency() {
+        BiquadCoefficients biquadCoefficients = getCachedCoefficients();
+        if ( biquadCoefficients == null ) {
+            biquadCoefficients = computeBiquadCoefficients();
+            cacheCoefficients( biquadCoefficients );
+        }
+        _biquadCoefficients = biquadCoefficients;
+    }
+
+    private BiquadCoefficients computeBiquadCoefficients() {
         // Theta is the angle to the pole frequency (radians), in the z-plane.
         final double theta = DigitalFilterUtilities
                 .getPoleAngleRadians( _f, samplingFrequencyHz );
@@ -341,24 +558,23 @@ public final class ParametricFilter extends DigitalFilter {
         final double A1 = B1; // C
         final double A2 = ( P2Q - PW ) + QW2; // E
 
-        // Use cross-constructors from double to Complex as downstream
-        // algorithms need Complex numbers but we are essentially in real number
-        // space here.
+        // We are essentially in real number space here, so the coefficients
+        // are computed as primitives and then published as a new snapshot in
+        // a single write, so that readers never see a torn coefficient set.
         if ( !_invertH ) {
-            _b0 = new Complex( B0 / A0 );
-            _b1 = new Complex( B1 / A0 );
-            _b2 = new Complex( B2 / A0 );
-            _a0 = new Complex( 1.0d ); // A0/A0;
-            _a1 = new Complex( B1 / A0 );
-            _a2 = new Complex( A2 / A0 );
-        }
-        else {
-            _b0 = new Complex( A0 / B0 );
-            _b1 = new Complex( A1 / B0 );
-            _b2 = new Complex( A2 / B0 );
-            _a0 = new Complex( 1.0d ); // B0/B0;
-            _a1 = new Complex( B1 / B0 );
-            _a2 = new Complex( B2 / B0 );
+            return BiquadCoefficients.fromSection( B0 / A0,
+                                                   B1 / A0,
+                                                   B2 / A0,
+                                                   1.0d, // A0/A0
+                                                   B1 / A0,
+                                                   A2 / A0 );
         }
+
+        return BiquadCoefficients.fromSection( A0 / B0,
+                                               A1 / B0,
+                                               A2 / B0,
+                                               1.0d, // B0/B0
+                                               B1 / B0,
+                                               B2 / B0 );
     }
 }
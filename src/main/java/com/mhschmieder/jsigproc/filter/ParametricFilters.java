@@ -31,17 +31,46 @@
 package com.mhschmieder.jsigproc.filter;
 
 import com.mhschmieder.jcommons.lang.NumberUtilities;
+import com.mhschmieder.jmath.MathConstants;
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import com.mhschmieder.jsigproc.dsp.ComplexArithmetic;
+import com.mhschmieder.jsigproc.dsp.DigitalFilterUtilities;
+import com.mhschmieder.jsigproc.dsp.DspConstants;
+import com.mhschmieder.jsigproc.dsp.FrequencyGrid;
+import com.mhschmieder.jsigproc.dsp.ZDomainTable;
+import com.mhschmieder.jsigproc.dsp.ZDomainTableCache;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.util.FastMath;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class ParametricFilters implements AcousticalFilter {
 
     // Parametric Filters are enabled by default, as they are initially flat.
     protected static final boolean PARAMETRIC_FILTERS_BYPASSED_DEFAULT = false;
 
-    private boolean              _parametricFiltersBypassed;
+    private volatile boolean     _parametricFiltersBypassed;
     private int                  _numberOfFilters;
-    protected ParametricFilter[]   _parametricFilters;
+    protected ParametricFilter[] _parametricFilters;
+
+    // The sampling frequency shared by all of the filters in this bank.
+    private double               _samplingFrequencyHz;
+
+    // The fused coefficients of all active bands, reused for as long as none
+    // of the bands publish new coefficients or change their active state.
+    private volatile CompositeCoefficients _compositeCoefficients;
+
+    // The last composite responses over whole frequency grids, reused for as
+    // long as none of the bands have been modified, so that polling an idle
+    // bank for redraws costs no filter evaluation; null unless this bank has
+    // been set to memoize its responses.
+    private volatile FilterBankResponseCache _responseCache;
+
+    // Bumped by the bank-level setters, and by the counts of any bands that
+    // get replaced, so that the bank's modification count never goes back.
+    private final AtomicLong     _modificationCount;
 
     // This is the default constructor; it sets all instance variables to
     // default values.
@@ -64,16 +93,32 @@ public class ParametricFilters implements AcousticalFilter {
         this( parametricFiltersBypassed, numberOfFilters, parametricFilters, null );
     }
 
-    // This is the superset constructor, to allow a common initialization path.
+    // NOTE: The center frequencies are parsed once here, for compatibility;
+    //  prefer the factory that takes a shared frequency grid.
     public ParametricFilters( final boolean parametricFiltersBypassed,
                               final int numberOfFilters,
                               final ParametricFilter[] parametricFilters,
                               final String[] centerFrequencies ) {
+        this( parseCenterFrequencies( centerFrequencies ),
+              parametricFiltersBypassed,
+              numberOfFilters,
+              parametricFilters );
+    }
+
+    // This is the superset constructor, to allow a common initialization path.
+    // NOTE: The grid comes first so that no public overload that takes the
+    //  text table is made ambiguous for callers that pass a null literal.
+    protected ParametricFilters( final FrequencyGrid centerFrequencyGrid,
+                                 final boolean parametricFiltersBypassed,
+                                 final int numberOfFilters,
+                                 final ParametricFilter[] parametricFilters ) {
         _parametricFiltersBypassed = parametricFiltersBypassed;
         _numberOfFilters = numberOfFilters;
 
         _parametricFilters = new ParametricFilter[ _numberOfFilters ];
 
+        _modificationCount = new AtomicLong( 0L );
+
         // Set the array to be copies of the source array, if present.
         if ( parametricFilters != null ) {
             final int numberOfFiltersToCopy =
@@ -83,13 +128,44 @@ public class ParametricFilters implements AcousticalFilter {
                                                   new ParametricFilter( parametricFilters[ filterIndex ] );
             }
         }
-        else if ( centerFrequencies != null ) {
-            final int numberOfFiltersToSet = FastMath.min( centerFrequencies.length, _numberOfFilters );
+        else if ( centerFrequencyGrid != null ) {
+            final int numberOfFiltersToSet =
+                    FastMath.min( centerFrequencyGrid.getNumberOfBins(), _numberOfFilters );
             for ( int filterIndex = 0; filterIndex < numberOfFiltersToSet; filterIndex++ ) {
-                _parametricFilters[ filterIndex ] = new ParametricFilter( NumberUtilities
-                        .parseDouble( centerFrequencies[ filterIndex ] ) );
+                final double centerFrequencyHz = centerFrequencyGrid.getFrequencyHz( filterIndex );
+                _parametricFilters[ filterIndex ] = new ParametricFilter( centerFrequencyHz );
             }
         }
+
+        // All of the filters in a bank share its sampling frequency.
+        _samplingFrequencyHz = DspConstants.DEFAULT_SAMPLING_FREQUENCY_HZ;
+        for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
+            if ( _parametricFilters[ filterIndex ] != null ) {
+                _parametricFilters[ filterIndex ].setSamplingFrequencyHz( _samplingFrequencyHz );
+            }
+        }
+    }
+
+    // This is the default factory for a bank whose bands start at the center
+    // frequencies of a shared grid, which spares parsing a text table.
+    public static ParametricFilters withCenterFrequencyGrid( final int numberOfFilters,
+                                                             final FrequencyGrid centerFrequencyGrid ) {
+        return new ParametricFilters( centerFrequencyGrid,
+                                      PARAMETRIC_FILTERS_BYPASSED_DEFAULT,
+                                      numberOfFilters,
+                                      null );
+    }
+
+    // This is the fully qualified factory for a bank whose bands start at the
+    // center frequencies of a shared grid, unless source filters are supplied.
+    public static ParametricFilters withCenterFrequencyGrid( final boolean parametricFiltersBypassed,
+                                                             final int numberOfFilters,
+                                                             final ParametricFilter[] parametricFilters,
+                                                             final FrequencyGrid centerFrequencyGrid ) {
+        return new ParametricFilters( centerFrequencyGrid,
+                                      parametricFiltersBypassed,
+                                      numberOfFilters,
+                                      parametricFilters );
     }
 
     // NOTE: This is the copy constructor, and is offered in place of clone()
@@ -100,6 +176,9 @@ public class ParametricFilters implements AcousticalFilter {
               parametricFilters.getNumberOfFilters(),
               parametricFilters.getParametricFilters(),
               null );
+
+        setSamplingFrequencyHz( parametricFilters.getSamplingFrequencyHz() );
+        setResponseMemoized( parametricFilters.isResponseMemoized() );
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -120,24 +199,400 @@ public class ParametricFilters implements AcousticalFilter {
     // Return the parametric filter value at a given frequency (in Hertz).
     @Override
     public final Complex getH( final double f ) {
-        // Multiply all of the enabled parametric filter values together at a
-        // given frequency, to compute the composite filter value.
-        Complex h = Complex.ONE;
+        // Evaluate all of the active parametric filters together at a given
+        // frequency, to compute the composite filter value with only one
+        // complex division.
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return Complex.ONE;
+        }
 
-        if ( !_parametricFiltersBypassed ) {
-            for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
-                h = h.multiply( _parametricFilters[ filterIndex ].getH( f ) );
+        final CompositeCoefficients compositeCoefficients = getCompositeCoefficients();
+        if ( compositeCoefficients.getCoefficients().getNumberOfSections() == 0 ) {
+            return Complex.ONE;
+        }
+
+        // Bands that were set to differing sampling frequencies can't share
+        // one z, so their values are simply multiplied together.
+        if ( !compositeCoefficients.isSingleRate() ) {
+            Complex h = Complex.ONE;
+            for ( final ParametricFilter parametricFilter : compositeCoefficients
+                    .getActiveFilters() ) {
+                h = h.multiply( parametricFilter.getH( f ) );
             }
+            return h;
         }
 
+        // If f == 0 we have divisions by 0 and therefore NaNs. Avoid it.
+        final double fAdjusted = FastMath.max( f, MathConstants.EPSILON_SMALL );
+
+        // Evaluate at the rate that the bands were designed for, which is
+        // normally the bank's own sampling frequency.
+        final double[] zPowers = new double[ 4 ];
+        DigitalFilterUtilities
+                .convertFrequencyToZDomainPowers( fAdjusted,
+                                                  compositeCoefficients.getSamplingFrequencyHz(),
+                                                  zPowers,
+                                                  0 );
+
+        final double[] h = new double[ 2 ];
+        compositeCoefficients.getCoefficients()
+                .getH( zPowers[ 0 ], zPowers[ 1 ], zPowers[ 2 ], zPowers[ 3 ], h, 0 );
+
         // Return the Parametric Filter value at a given frequency.
-        return h;
+        // NOTE: As with the individual filters, this is the conjugate.
+        return new Complex( h[ ComplexArithmetic.REAL ], -h[ ComplexArithmetic.IMAGINARY ] );
+    }
+
+    // Multiply the parametric filter values at a range of given frequencies
+    // (in Hertz) into the supplied accumulators, without per-bin allocation.
+    @Override
+    public final void multiplyH( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] hReal,
+                                 final double[] hImaginary ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    // Multiply the parametric filter values at a range of bins of a precomputed
+    // z-domain table into the supplied accumulators.
+    @Override
+    public final void multiplyH( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double[] hReal,
+                                 final double[] hImaginary ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Bands that are bypassed or flat are skipped entirely, by the memo
+        // as well as by the fused evaluation, so that both give the same curve.
+        final CompositeCoefficients compositeCoefficients = getCompositeCoefficients();
+        final ParametricFilter[] activeFilters = compositeCoefficients.getActiveFilters();
+        if ( activeFilters.length == 0 ) {
+            return;
+        }
+
+        // An unchanged bank is served from its memoized response, if it keeps
+        // one and the whole grid was evaluated before.
+        final FilterBankResponseCache responseCache = _responseCache;
+        if ( ( responseCache != null ) && responseCache.multiplyH( zDomainTable,
+                                                                   fromIndex,
+                                                                   toIndex,
+                                                                   activeFilters,
+                                                                   activeFilters.length,
+                                                                   hReal,
+                                                                   hImaginary ) ) {
+            return;
+        }
+
+        // Bands that were set to differing sampling frequencies can't share
+        // one z, so they are evaluated one by one, each at its own rate.
+        if ( !compositeCoefficients.isSingleRate() ) {
+            for ( final ParametricFilter parametricFilter : activeFilters ) {
+                parametricFilter.multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+            }
+            return;
+        }
+
+        // Otherwise the bands are fused so that z is looked up only once per
+        // bin and only one complex division is made per bin for the whole bank.
+        final ZDomainTable table = zDomainTable
+                .forSamplingFrequency( compositeCoefficients.getSamplingFrequencyHz() );
+        compositeCoefficients.getCoefficients()
+                .multiplyH( table, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    // Multiply the parametric filter values at a range of given frequencies
+    // (in Hertz) into the supplied single precision accumulators.
+    @Override
+    public final void multiplyH( final double[] frequencies,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final float[] hReal,
+                                 final float[] hImaginary ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    // Multiply the parametric filter values at a range of bins of a precomputed
+    // z-domain table into the supplied single precision accumulators. The fused
+    // sections are evaluated in double precision and rounded once per bin for
+    // the whole bank, rather than once per band.
+    @Override
+    public final void multiplyH( final ZDomainTable zDomainTable,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final float[] hReal,
+                                 final float[] hImaginary ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        final CompositeCoefficients compositeCoefficients = getCompositeCoefficients();
+        final ParametricFilter[] activeFilters = compositeCoefficients.getActiveFilters();
+        if ( activeFilters.length == 0 ) {
+            return;
+        }
+
+        // Bands that were set to differing sampling frequencies can't share
+        // one z, so they are evaluated one by one, each at its own rate.
+        if ( !compositeCoefficients.isSingleRate() ) {
+            for ( final ParametricFilter parametricFilter : activeFilters ) {
+                parametricFilter.multiplyH( zDomainTable, fromIndex, toIndex, hReal, hImaginary );
+            }
+            return;
+        }
+
+        final ZDomainTable table = zDomainTable
+                .forSamplingFrequency( compositeCoefficients.getSamplingFrequencyHz() );
+        compositeCoefficients.getCoefficients()
+                .multiplyH( table, fromIndex, toIndex, hReal, hImaginary );
+    }
+
+    // Multiply the parametric filter magnitudes at a range of given
+    // frequencies (in Hertz) into the supplied magnitude accumulator, and add
+    // the phases and group delays to the supplied accumulators.
+    @Override
+    public final void multiplyPolarH( final double[] frequencies,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final double[] magnitude,
+                                      final double[] phaseRadians,
+                                      final double[] groupDelaySeconds ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyPolarH( zDomainTable,
+                        fromIndex,
+                        toIndex,
+                        magnitude,
+                        phaseRadians,
+                        groupDelaySeconds );
+    }
+
+    // Multiply the parametric filter magnitudes at a range of bins of a
+    // precomputed z-domain table into the supplied magnitude accumulator, and
+    // add the phases and group delays to the supplied accumulators, evaluating
+    // the fused sections of all active bands in one pass over the grid.
+    @Override
+    public final void multiplyPolarH( final ZDomainTable zDomainTable,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final double[] magnitude,
+                                      final double[] phaseRadians,
+                                      final double[] groupDelaySeconds ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        final CompositeCoefficients compositeCoefficients = getCompositeCoefficients();
+        if ( !compositeCoefficients.isSingleRate() ) {
+            for ( final ParametricFilter parametricFilter : compositeCoefficients
+                    .getActiveFilters() ) {
+                parametricFilter.multiplyPolarH( zDomainTable,
+                                                 fromIndex,
+                                                 toIndex,
+                                                 magnitude,
+                                                 phaseRadians,
+                                                 groupDelaySeconds );
+            }
+            return;
+        }
+
+        final BiquadCoefficients coefficients = compositeCoefficients.getCoefficients();
+        if ( coefficients.getNumberOfSections() == 0 ) {
+            return;
+        }
+
+        // Evaluate at the rate that the bands were designed for.
+        final ZDomainTable table = zDomainTable
+                .forSamplingFrequency( compositeCoefficients.getSamplingFrequencyHz() );
+        coefficients.multiplyPolarH( table,
+                                     fromIndex,
+                                     toIndex,
+                                     magnitude,
+                                     phaseRadians,
+                                     groupDelaySeconds );
+    }
+
+    // Multiply the squared magnitudes of the parametric filter values at a
+    // range of given frequencies (in Hertz) into the supplied accumulator.
+    @Override
+    public final void multiplyMagnitudeSquared( final double[] frequencies,
+                                                final int fromIndex,
+                                                final int toIndex,
+                                                final double[] magnitudeSquared ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        // Look up the shared z-domain table once for the whole bank.
+        final ZDomainTable zDomainTable = ZDomainTableCache
+                .getZDomainTable( frequencies, _samplingFrequencyHz );
+        multiplyMagnitudeSquared( zDomainTable, fromIndex, toIndex, magnitudeSquared );
+    }
+
+    // Multiply the squared magnitudes of the parametric filter values at a
+    // range of bins of a precomputed z-domain table into the supplied
+    // accumulator, evaluating the fused sections of all active bands in real
+    // arithmetic with a single division per bin.
+    @Override
+    public final void multiplyMagnitudeSquared( final ZDomainTable zDomainTable,
+                                                final int fromIndex,
+                                                final int toIndex,
+                                                final double[] magnitudeSquared ) {
+        if ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) ) {
+            return;
+        }
+
+        final CompositeCoefficients compositeCoefficients = getCompositeCoefficients();
+        if ( !compositeCoefficients.isSingleRate() ) {
+            for ( final ParametricFilter parametricFilter : compositeCoefficients
+                    .getActiveFilters() ) {
+                parametricFilter.multiplyMagnitudeSquared( zDomainTable,
+                                                           fromIndex,
+                                                           toIndex,
+                                                           magnitudeSquared );
+            }
+            return;
+        }
+
+        final BiquadCoefficients coefficients = compositeCoefficients.getCoefficients();
+        if ( coefficients.getNumberOfSections() == 0 ) {
+            return;
+        }
+
+        // Evaluate at the rate that the bands were designed for.
+        final ZDomainTable table = zDomainTable
+                .forSamplingFrequency( compositeCoefficients.getSamplingFrequencyHz() );
+        coefficients.multiplyMagnitudeSquared( table, fromIndex, toIndex, magnitudeSquared );
+    }
+
+    // Get the fused coefficients of all active bands, rebuilding them only if
+    // any band has published new coefficients or changed its active state
+    // since they were last built.
+    private CompositeCoefficients getCompositeCoefficients() {
+        final CompositeCoefficients compositeCoefficients = _compositeCoefficients;
+        if ( ( compositeCoefficients != null ) && compositeCoefficients.isCurrent() ) {
+            return compositeCoefficients;
+        }
+
+        final ParametricFilter[] activeFilters = new ParametricFilter[ _numberOfFilters ];
+        final BiquadCoefficients[] activeCoefficients = new BiquadCoefficients[ _numberOfFilters ];
+        final double[] activeSamplingFrequenciesHz = new double[ _numberOfFilters ];
+        int numberOfActiveFilters = 0;
+        for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
+            final ParametricFilter parametricFilter = _parametricFilters[ filterIndex ];
+            if ( parametricFilter.isActiveEqMode() ) {
+                // Take the snapshot before the rate, so that a concurrent rate
+                // change leaves a stale snapshot that isCurrent() will catch.
+                activeFilters[ numberOfActiveFilters ] = parametricFilter;
+                activeCoefficients[ numberOfActiveFilters ] = parametricFilter
+                        .getBiquadCoefficients();
+                activeSamplingFrequenciesHz[ numberOfActiveFilters ] = parametricFilter
+                        .getSamplingFrequencyHz();
+                numberOfActiveFilters++;
+            }
+        }
+
+        final CompositeCoefficients newCompositeCoefficients = new CompositeCoefficients(
+                Arrays.copyOf( activeFilters, numberOfActiveFilters ),
+                Arrays.copyOf( activeCoefficients, numberOfActiveFilters ),
+                Arrays.copyOf( activeSamplingFrequenciesHz, numberOfActiveFilters ) );
+        _compositeCoefficients = newCompositeCoefficients;
+
+        return newCompositeCoefficients;
+    }
+
+    // Return the bank's current coefficients, with all of the active bands
+    // fused into one snapshot, or the identity if the bank is bypassed.
+    public final BiquadCoefficients getBiquadCoefficients() {
+        return ( _parametricFiltersBypassed || ( _numberOfFilters == 0 ) )
+            ? BiquadCoefficients.IDENTITY
+            : getCompositeCoefficients().getCoefficients();
+    }
+
+    // Create a new time-domain biquad cascade for one channel, with one
+    // section per band, loaded with the bank's current coefficients.
+    public final BiquadCascade createBiquadCascade() {
+        final BiquadCascade biquadCascade = new BiquadCascade( _numberOfFilters );
+        loadBiquadCascade( biquadCascade );
+        return biquadCascade;
+    }
+
+    // Load the bank's current coefficients into an existing time-domain biquad
+    // cascade, fusing all of the bands into one cascade. Bands that are
+    // bypassed or flat are identity sections, so they are skipped entirely.
+    // This may be called from any thread, as each band publishes its own
+    // immutable coefficient snapshot and the cascade swaps them per block.
+    // NOTE: As a change in the set of active bands re-maps the sections, the
+    //  cascade jumps to the new coefficients rather than interpolating.
+    public final void loadBiquadCascade( final BiquadCascade biquadCascade,
+                                         final boolean interpolate ) {
+        biquadCascade.setCoefficients( getBiquadCoefficients(), interpolate );
+    }
+
+    // Load the bank's current coefficients into an existing time-domain biquad
+    // cascade, without interpolation.
+    public final void loadBiquadCascade( final BiquadCascade biquadCascade ) {
+        loadBiquadCascade( biquadCascade, false );
+    }
+
+    // Get the number of times the response-affecting state of this bank or of
+    // any of its bands has been modified; pollers need only redraw when this
+    // differs from the count they last saw.
+    public final long getModificationCount() {
+        long modificationCount = _modificationCount.get();
+        for ( final ParametricFilter parametricFilter : _parametricFilters ) {
+            if ( parametricFilter != null ) {
+                modificationCount += parametricFilter.getModificationCount();
+            }
+        }
+
+        return modificationCount;
     }
 
     public final int getNumberOfFilters() {
         return _numberOfFilters;
     }
 
+    public final double getSamplingFrequencyHz() {
+        return _samplingFrequencyHz;
+    }
+
+    // Set the sampling frequency of all of the filters in this bank, whether or
+    // not they are currently in use, so that they stay in step as they're
+    // enabled.
+    public final void setSamplingFrequencyHz( final double samplingFrequencyHz ) {
+        _samplingFrequencyHz = samplingFrequencyHz;
+        _modificationCount.incrementAndGet();
+
+        for ( final ParametricFilter parametricFilter : _parametricFilters ) {
+            if ( parametricFilter != null ) {
+                parametricFilter.setSamplingFrequencyHz( samplingFrequencyHz );
+            }
+        }
+    }
+
     public final double getO( final int filterIndex ) {
         return _parametricFilters[ filterIndex ].getO();
     }
@@ -245,14 +700,24 @@ public class ParametricFilters implements AcousticalFilter {
         _parametricFilters[ filterIndex ].setC( c, updateEquationParameters );
     }
 
-    // Fully qualified pseudo-constructor.
+    // NOTE: The center frequencies are parsed on every call; prefer the
+    //  pseudo-constructor that takes a shared frequency grid.
     public final void setDefaults( final int numberOfFilters, final String[] centerFrequencies ) {
+        setDefaultsFromGrid( numberOfFilters, parseCenterFrequencies( centerFrequencies ) );
+    }
+
+    // Fully qualified pseudo-constructor, from a shared center frequency grid.
+    public final void setDefaultsFromGrid( final int numberOfFilters,
+                                           final FrequencyGrid centerFrequencyGrid ) {
         _parametricFiltersBypassed = PARAMETRIC_FILTERS_BYPASSED_DEFAULT;
         _numberOfFilters = numberOfFilters;
+        _modificationCount.incrementAndGet();
 
         for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
-            _parametricFilters[ filterIndex ] = new ParametricFilter( NumberUtilities
-                    .parseDouble( centerFrequencies[ filterIndex ] ) );
+            retireParametricFilter( filterIndex );
+            final double centerFrequencyHz = centerFrequencyGrid.getFrequencyHz( filterIndex );
+            _parametricFilters[ filterIndex ] = new ParametricFilter( centerFrequencyHz );
+            _parametricFilters[ filterIndex ].setSamplingFrequencyHz( _samplingFrequencyHz );
         }
     }
 
@@ -292,6 +757,7 @@ public class ParametricFilters implements AcousticalFilter {
     protected final void setParametricFilters( final ParametricFilters pParametricFilters ) {
         _parametricFiltersBypassed = pParametricFilters.isParametricFiltersBypassed();
         _numberOfFilters = pParametricFilters.getNumberOfFilters();
+        _modificationCount.incrementAndGet();
 
         // Set the array to be copies of the source array.
         for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
@@ -307,6 +773,7 @@ public class ParametricFilters implements AcousticalFilter {
         //  changes to an existing filter and therefore also avoid changing the
         //  status of the overall Bypassed flag for the Parametric Filters.
         _numberOfFilters = pParametricFilters.getNumberOfFilters();
+        _modificationCount.incrementAndGet();
 
         // Set the array to be copies of the source array.
         for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
@@ -318,10 +785,125 @@ public class ParametricFilters implements AcousticalFilter {
 
     public final void setParametricFiltersBypassed( final boolean parametricFiltersBypassed ) {
         _parametricFiltersBypassed = parametricFiltersBypassed;
+        _modificationCount.incrementAndGet();
+    }
+
+    public final boolean isResponseMemoized() {
+        return _responseCache != null;
+    }
+
+    // Set whether this bank memoizes its composite response over the last few
+    // whole frequency grids it was evaluated on. This is off by default, as
+    // each memo keeps the response of every active band as well as the
+    // composite; enable it only for banks that a user interface polls for
+    // redraws, where it saves re-evaluating an idle bank on every frame.
+    public final void setResponseMemoized( final boolean responseMemoized ) {
+        if ( responseMemoized == isResponseMemoized() ) {
+            return;
+        }
+
+        _responseCache = responseMemoized ? new FilterBankResponseCache() : null;
+    }
+
+    // Convert a legacy table of center frequencies to a shared frequency grid.
+    private static FrequencyGrid parseCenterFrequencies( final String[] centerFrequencies ) {
+        if ( centerFrequencies == null ) {
+            return null;
+        }
+
+        final double[] frequencies = new double[ centerFrequencies.length ];
+        for ( int filterIndex = 0; filterIndex < centerFrequencies.length; filterIndex++ ) {
+            frequencies[ filterIndex ] = NumberUtilities.parseDouble( centerFrequencies[ filterIndex ] );
+        }
+
+        return FrequencyGrid.of( frequencies );
+    }
+
+    // Carry the count of a band that is about to be replaced over to the bank,
+    // as the new band's count starts again from zero.
+    protected final void retireParametricFilter( final int filterIndex ) {
+        final ParametricFilter parametricFilter = _parametricFilters[ filterIndex ];
+        if ( parametricFilter != null ) {
+            _modificationCount.addAndGet( parametricFilter.getModificationCount() + 1L );
+        }
     }
 
     // TODO: Enforce this method on all filters via an interface.
     public final void calculateEqCoefficients( final int filterIndex ) {
         _parametricFilters[ filterIndex ].calculateEqCoefficients();
     }
+
+    // An immutable record of the fused coefficients of all active bands,
+    // along with the bands and band snapshots they were built from, so that
+    // they can be validated by identity without allocating. As any band may
+    // be set to its own sampling frequency, the band rates are recorded too,
+    // since the fused coefficients are only valid at the rate of the bands.
+    private final class CompositeCoefficients {
+        private final ParametricFilter[]   _activeFilters;
+        private final BiquadCoefficients[] _bandCoefficients;
+        private final double[]             _bandSamplingFrequenciesHz;
+        private final BiquadCoefficients   _coefficients;
+
+        // The sampling frequency that all of the active bands were designed
+        // for, or NaN if they were set to differing sampling frequencies.
+        private final double               _samplingFrequencyHz;
+
+        CompositeCoefficients( final ParametricFilter[] activeFilters,
+                               final BiquadCoefficients[] bandCoefficients,
+                               final double[] bandSamplingFrequenciesHz ) {
+            _activeFilters = activeFilters;
+            _bandCoefficients = bandCoefficients;
+            _bandSamplingFrequenciesHz = bandSamplingFrequenciesHz;
+            _coefficients = BiquadCoefficients.concatenate( bandCoefficients );
+
+            // Without any active bands, the bank's own rate will do.
+            double samplingFrequencyHz = ( bandSamplingFrequenciesHz.length > 0 )
+                ? bandSamplingFrequenciesHz[ 0 ]
+                : getSamplingFrequencyHz();
+            for ( final double bandSamplingFrequencyHz : bandSamplingFrequenciesHz ) {
+                if ( bandSamplingFrequencyHz != samplingFrequencyHz ) {
+                    samplingFrequencyHz = Double.NaN;
+                    break;
+                }
+            }
+            _samplingFrequencyHz = samplingFrequencyHz;
+        }
+
+        ParametricFilter[] getActiveFilters() {
+            return _activeFilters;
+        }
+
+        BiquadCoefficients getCoefficients() {
+            return _coefficients;
+        }
+
+        double getSamplingFrequencyHz() {
+            return _samplingFrequencyHz;
+        }
+
+        boolean isSingleRate() {
+            return !Double.isNaN( _samplingFrequencyHz );
+        }
+
+        // Check that the active bands and their snapshots are still the same.
+        boolean isCurrent() {
+            int bandIndex = 0;
+            for ( int filterIndex = 0; filterIndex < _numberOfFilters; filterIndex++ ) {
+                final ParametricFilter parametricFilter = _parametricFilters[ filterIndex ];
+                if ( parametricFilter.isActiveEqMode() ) {
+                    if ( ( bandIndex >= _bandCoefficients.length )
+                            || ( _activeFilters[ bandIndex ] != parametricFilter )
+                            || ( _bandCoefficients[ bandIndex ] != parametricFilter
+                                    .getBiquadCoefficients() )
+                            || ( _bandSamplingFrequenciesHz[ bandIndex ] != parametricFilter
+                                    .getSamplingFrequencyHz() ) ) {
+                        return false;
+                    }
+                    bandIndex++;
+                }
+            }
+
+            return bandIndex == _bandCoefficients.length;
+        }
+    }
 }
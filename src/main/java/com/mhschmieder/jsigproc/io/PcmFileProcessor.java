@@ -0,0 +1,400 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.io;
+
+import com.mhschmieder.jsigproc.dsp.BiquadCascade;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import org.apache.commons.math3.util.FastMath;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams PCM audio files through a time-domain biquad cascade, such as one
+ * built from the same filters that are used to model a channel's response.
+ * <p>
+ * The input is memory-mapped in windows of a few megabytes and is processed
+ * in fixed-size blocks of frames, which are converted to floating point,
+ * filtered with one {@link BiquadCascade} per channel, converted back to the
+ * input's sample format and written through a single reused buffer. Neither
+ * file is ever loaded as a whole, so heap usage is independent of file size.
+ * <p>
+ * Each call builds its own cascades and buffers, so one processor may be used
+ * for several files at once from different threads. The coefficients must be
+ * designed for the sampling frequency of the files to be processed; use
+ * {@link #readWavFormat(Path)} to find it before setting up the filters.
+ * <p>
+ * Integer samples are clipped to full scale on output. As processing is done
+ * in single precision, 32-bit integer samples keep 24 bits of resolution.
+ */
+public final class PcmFileProcessor {
+
+    /**
+     * The default number of frames per processing block.
+     */
+    public static final int          BLOCK_SIZE_DEFAULT  = 4096;
+
+    // The approximate number of bytes of the input that are mapped at a time.
+    // Mapping is expensive, so this is much larger than a block, but is small
+    // enough to keep the address space used per file modest.
+    private static final int         MAPPED_REGION_SIZE  = 1 << 24;
+
+    private final BiquadCoefficients _biquadCoefficients;
+    private final int                _blockSize;
+
+    // This is the default constructor, for processing in blocks of the default
+    // size.
+    public PcmFileProcessor( final BiquadCoefficients biquadCoefficients ) {
+        this( biquadCoefficients, BLOCK_SIZE_DEFAULT );
+    }
+
+    // This is the fully qualified constructor.
+    public PcmFileProcessor( final BiquadCoefficients biquadCoefficients, final int blockSize ) {
+        if ( blockSize < 1 ) {
+            throw new IllegalArgumentException( "Block size must be positive: " + blockSize ); //$NON-NLS-1$
+        }
+
+        _biquadCoefficients = biquadCoefficients;
+        _blockSize = blockSize;
+    }
+
+    public BiquadCoefficients getBiquadCoefficients() {
+        return _biquadCoefficients;
+    }
+
+    public int getBlockSize() {
+        return _blockSize;
+    }
+
+    /**
+     * Reads the sample format of a WAV file, such as to set the sampling
+     * frequency of the filters before taking their coefficients.
+     *
+     * @param wavPath
+     *            The path of the WAV file
+     * @return The sample format of the WAV file
+     * @throws IOException
+     *             If the file can't be read or isn't a supported WAV file
+     */
+    public static PcmFormat readWavFormat( final Path wavPath ) throws IOException {
+        try ( final FileChannel inputChannel = FileChannel.open( wavPath,
+                                                                 StandardOpenOption.READ ) ) {
+            return WavHeader.read( inputChannel ).getPcmFormat();
+        }
+    }
+
+    /**
+     * Filters a WAV file into a new WAV file of the same sample format.
+     * <p>
+     * Chunks other than the format and data chunks are not copied.
+     *
+     * @param inputPath
+     *            The path of the WAV file to read
+     * @param outputPath
+     *            The path of the WAV file to write, which is replaced if it
+     *            already exists
+     * @return The statistics for this run, including its throughput
+     * @throws IOException
+     *             If either file can't be accessed, or the input isn't a
+     *             supported WAV file
+     */
+    public ProcessingStatistics processWav( final Path inputPath, final Path outputPath )
+            throws IOException {
+        final long startTime = System.nanoTime();
+
+        try ( final FileChannel inputChannel = FileChannel.open( inputPath,
+                                                                 StandardOpenOption.READ );
+                final FileChannel outputChannel = openOutput( outputPath ) ) {
+            final WavHeader wavHeader = WavHeader.read( inputChannel );
+            final PcmFormat pcmFormat = wavHeader.getPcmFormat();
+
+            // A trailing partial frame, as in a truncated file, is dropped.
+            final long numberOfFrames = wavHeader.getDataLength() / pcmFormat.getBytesPerFrame();
+            final long dataLength = numberOfFrames * pcmFormat.getBytesPerFrame();
+
+            wavHeader.write( outputChannel, dataLength );
+            process( inputChannel,
+                     wavHeader.getDataOffset(),
+                     numberOfFrames,
+                     pcmFormat,
+                     outputChannel );
+            WavHeader.writePadding( outputChannel, dataLength );
+
+            return new ProcessingStatistics( pcmFormat,
+                                             numberOfFrames,
+                                             System.nanoTime() - startTime );
+        }
+    }
+
+    /**
+     * Filters a headerless PCM file into a new PCM file of the same format.
+     *
+     * @param inputPath
+     *            The path of the PCM file to read
+     * @param outputPath
+     *            The path of the PCM file to write, which is replaced if it
+     *            already exists
+     * @param pcmFormat
+     *            The sample format of the input file
+     * @return The statistics for this run, including its throughput
+     * @throws IOException
+     *             If either file can't be accessed
+     */
+    public ProcessingStatistics processPcm( final Path inputPath,
+                                            final Path outputPath,
+                                            final PcmFormat pcmFormat ) throws IOException {
+        final long startTime = System.nanoTime();
+
+        try ( final FileChannel inputChannel = FileChannel.open( inputPath,
+                                                                 StandardOpenOption.READ );
+                final FileChannel outputChannel = openOutput( outputPath ) ) {
+            final long numberOfFrames = inputChannel.size() / pcmFormat.getBytesPerFrame();
+
+            process( inputChannel, 0L, numberOfFrames, pcmFormat, outputChannel );
+
+            return new ProcessingStatistics( pcmFormat,
+                                             numberOfFrames,
+                                             System.nanoTime() - startTime );
+        }
+    }
+
+    private static FileChannel openOutput( final Path outputPath ) throws IOException {
+        return FileChannel.open( outputPath,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.WRITE,
+                                 StandardOpenOption.TRUNCATE_EXISTING );
+    }
+
+    // Stream the given frames of the input through one cascade per channel,
+    // appending the results to the output at its current position.
+    private void process( final FileChannel inputChannel,
+                          final long dataOffset,
+                          final long numberOfFrames,
+                          final PcmFormat pcmFormat,
+                          final FileChannel outputChannel ) throws IOException {
+        final int numberOfChannels = pcmFormat.getNumberOfChannels();
+        final int bytesPerFrame = pcmFormat.getBytesPerFrame();
+
+        final BiquadCascade[] biquadCascades = new BiquadCascade[ numberOfChannels ];
+        for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+            biquadCascades[ channelIndex ] = new BiquadCascade( _biquadCoefficients );
+        }
+
+        final float[][] blocks = new float[ numberOfChannels ][ _blockSize ];
+        final ByteBuffer outputBuffer = ByteBuffer.allocateDirect( _blockSize * bytesPerFrame )
+                .order( ByteOrder.LITTLE_ENDIAN );
+
+        // Map whole numbers of blocks at a time, so that blocks never straddle
+        // two mapped regions.
+        final long framesPerRegion = FastMath.max( 1, MAPPED_REGION_SIZE / ( _blockSize
+                * ( long ) bytesPerFrame ) ) * _blockSize;
+
+        long frameIndex = 0L;
+        while ( frameIndex < numberOfFrames ) {
+            final int regionFrames = ( int ) FastMath.min( framesPerRegion,
+                                                           numberOfFrames - frameIndex );
+            final MappedByteBuffer region = inputChannel
+                    .map( FileChannel.MapMode.READ_ONLY,
+                          dataOffset + ( frameIndex * bytesPerFrame ),
+                          ( long ) regionFrames * bytesPerFrame );
+            region.order( ByteOrder.LITTLE_ENDIAN );
+
+            for ( int regionFrame = 0; regionFrame < regionFrames; regionFrame += _blockSize ) {
+                final int blockFrames = FastMath.min( _blockSize, regionFrames - regionFrame );
+
+                readBlock( region, regionFrame * bytesPerFrame, blockFrames, pcmFormat, blocks );
+
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    biquadCascades[ channelIndex ]
+                            .process( blocks[ channelIndex ], blocks[ channelIndex ], 0, blockFrames );
+                }
+
+                // NOTE: The Buffer casts keep JDK 9+ builds from linking to
+                //  the covariant ByteBuffer overrides, which don't exist on
+                //  Java 8.
+                ( ( Buffer ) outputBuffer ).clear();
+                writeBlock( blocks, blockFrames, pcmFormat, outputBuffer );
+                ( ( Buffer ) outputBuffer ).flip();
+                while ( outputBuffer.hasRemaining() ) {
+                    outputChannel.write( outputBuffer );
+                }
+            }
+
+            frameIndex += regionFrames;
+        }
+    }
+
+    // Convert a block of interleaved samples to per-channel floating point,
+    // at a nominal full scale of +/-1.
+    private static void readBlock( final ByteBuffer input,
+                                   final int offset,
+                                   final int blockFrames,
+                                   final PcmFormat pcmFormat,
+                                   final float[][] blocks ) {
+        final int numberOfChannels = pcmFormat.getNumberOfChannels();
+        int position = offset;
+
+        if ( pcmFormat.isFloatingPoint() ) {
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    blocks[ channelIndex ][ frame ] = input.getFloat( position );
+                    position += 4;
+                }
+            }
+            return;
+        }
+
+        switch ( pcmFormat.getBitsPerSample() ) {
+        case 8:
+            // 8-bit samples are unsigned, centered on 128.
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    blocks[ channelIndex ][ frame ] = ( ( input.get( position ) & 0xFF ) - 128 )
+                            * ( 1.0f / 128.0f );
+                    position++;
+                }
+            }
+            break;
+        case 16:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    blocks[ channelIndex ][ frame ] = input.getShort( position ) * ( 1.0f / 32768.0f );
+                    position += 2;
+                }
+            }
+            break;
+        case 24:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    final int sample = ( input.get( position ) & 0xFF )
+                            | ( ( input.get( position + 1 ) & 0xFF ) << 8 )
+                            | ( input.get( position + 2 ) << 16 );
+                    blocks[ channelIndex ][ frame ] = sample * ( 1.0f / 8388608.0f );
+                    position += 3;
+                }
+            }
+            break;
+        case 32:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    blocks[ channelIndex ][ frame ] = input.getInt( position )
+                            * ( 1.0f / 2147483648.0f );
+                    position += 4;
+                }
+            }
+            break;
+        default:
+            throw new IllegalArgumentException( "Unsupported bits per sample: " //$NON-NLS-1$
+                    + pcmFormat.getBitsPerSample() );
+        }
+    }
+
+    // Convert a block of per-channel floating point samples back to the
+    // interleaved sample format, clipping integer samples to full scale.
+    private static void writeBlock( final float[][] blocks,
+                                    final int blockFrames,
+                                    final PcmFormat pcmFormat,
+                                    final ByteBuffer output ) {
+        final int numberOfChannels = pcmFormat.getNumberOfChannels();
+
+        if ( pcmFormat.isFloatingPoint() ) {
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    output.putFloat( blocks[ channelIndex ][ frame ] );
+                }
+            }
+            return;
+        }
+
+        switch ( pcmFormat.getBitsPerSample() ) {
+        case 8:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    final int sample = toInteger( blocks[ channelIndex ][ frame ], 128.0f, 127 );
+                    output.put( ( byte ) ( sample + 128 ) );
+                }
+            }
+            break;
+        case 16:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    output.putShort( ( short ) toInteger( blocks[ channelIndex ][ frame ],
+                                                          32768.0f,
+                                                          32767 ) );
+                }
+            }
+            break;
+        case 24:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    final int sample = toInteger( blocks[ channelIndex ][ frame ],
+                                                  8388608.0f,
+                                                  8388607 );
+                    output.put( ( byte ) sample );
+                    output.put( ( byte ) ( sample >> 8 ) );
+                    output.put( ( byte ) ( sample >> 16 ) );
+                }
+            }
+            break;
+        case 32:
+            for ( int frame = 0; frame < blockFrames; frame++ ) {
+                for ( int channelIndex = 0; channelIndex < numberOfChannels; channelIndex++ ) {
+                    output.putInt( toInteger( blocks[ channelIndex ][ frame ],
+                                              2147483648.0f,
+                                              Integer.MAX_VALUE ) );
+                }
+            }
+            break;
+        default:
+            throw new IllegalArgumentException( "Unsupported bits per sample: " //$NON-NLS-1$
+                    + pcmFormat.getBitsPerSample() );
+        }
+    }
+
+    // Scale a sample to the integer range, rounding to nearest and clipping
+    // to [-maximum - 1, maximum].
+    private static int toInteger( final float sample, final float scale, final int maximum ) {
+        final float scaled = sample * scale;
+        if ( scaled >= maximum ) {
+            return maximum;
+        }
+        if ( scaled <= ( -maximum - 1.0f ) ) {
+            return -maximum - 1;
+        }
+        return FastMath.round( scaled );
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.io;
+
+/**
+ * An immutable description of the sample layout of interleaved, little-endian
+ * PCM audio, as found in the data chunk of a WAV file or in a raw PCM file.
+ * <p>
+ * Integer samples of 8, 16, 24 or 32 bits are supported, with 8-bit samples
+ * being unsigned as per the WAV convention, along with 32-bit IEEE floating
+ * point samples.
+ */
+public final class PcmFormat {
+
+    private final int     _numberOfChannels;
+    private final int     _samplingFrequencyHz;
+    private final int     _bitsPerSample;
+    private final boolean _floatingPoint;
+
+    /**
+     * Constructs a PCM format, after validating that it is supported.
+     *
+     * @param numberOfChannels
+     *            The number of interleaved channels per frame
+     * @param samplingFrequencyHz
+     *            The sampling frequency, in Hertz
+     * @param bitsPerSample
+     *            The number of bits per sample
+     * @param floatingPoint
+     *            Flag for whether the samples are IEEE floating point rather
+     *            than integers
+     */
+    public PcmFormat( final int numberOfChannels,
+                      final int samplingFrequencyHz,
+                      final int bitsPerSample,
+                      final boolean floatingPoint ) {
+        if ( numberOfChannels < 1 ) {
+            throw new IllegalArgumentException( "Number of channels must be positive: " //$NON-NLS-1$
+                    + numberOfChannels );
+        }
+        if ( samplingFrequencyHz < 1 ) {
+            throw new IllegalArgumentException( "Sampling frequency must be positive: " //$NON-NLS-1$
+                    + samplingFrequencyHz );
+        }
+        if ( floatingPoint ? ( bitsPerSample != 32 )
+                           : ( ( bitsPerSample != 8 ) && ( bitsPerSample != 16 )
+                                   && ( bitsPerSample != 24 ) && ( bitsPerSample != 32 ) ) ) {
+            throw new IllegalArgumentException( "Unsupported bits per sample: " //$NON-NLS-1$
+                    + bitsPerSample );
+        }
+
+        _numberOfChannels = numberOfChannels;
+        _samplingFrequencyHz = samplingFrequencyHz;
+        _bitsPerSample = bitsPerSample;
+        _floatingPoint = floatingPoint;
+    }
+
+    public int getNumberOfChannels() {
+        return _numberOfChannels;
+    }
+
+    public int getSamplingFrequencyHz() {
+        return _samplingFrequencyHz;
+    }
+
+    public int getBitsPerSample() {
+        return _bitsPerSample;
+    }
+
+    public boolean isFloatingPoint() {
+        return _floatingPoint;
+    }
+
+    public int getBytesPerSample() {
+        return _bitsPerSample / 8;
+    }
+
+    // Return the number of bytes in one frame of samples across all channels.
+    public int getBytesPerFrame() {
+        return _numberOfChannels * getBytesPerSample();
+    }
+
+    @Override
+    public String toString() {
+        return _numberOfChannels + " ch, " + _samplingFrequencyHz + " Hz, " //$NON-NLS-1$ //$NON-NLS-2$
+                + _bitsPerSample + ( _floatingPoint ? "-bit float" : "-bit" ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
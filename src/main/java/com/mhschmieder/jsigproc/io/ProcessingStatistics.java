@@ -0,0 +1,89 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.io;
+
+/**
+ * An immutable summary of one run of a {@link PcmFileProcessor}, including
+ * its throughput.
+ */
+public final class ProcessingStatistics {
+
+    private final PcmFormat _pcmFormat;
+    private final long      _numberOfFrames;
+    private final long      _elapsedNanoseconds;
+
+    public ProcessingStatistics( final PcmFormat pcmFormat,
+                                 final long numberOfFrames,
+                                 final long elapsedNanoseconds ) {
+        _pcmFormat = pcmFormat;
+        _numberOfFrames = numberOfFrames;
+        _elapsedNanoseconds = elapsedNanoseconds;
+    }
+
+    public PcmFormat getPcmFormat() {
+        return _pcmFormat;
+    }
+
+    public long getNumberOfFrames() {
+        return _numberOfFrames;
+    }
+
+    // Return the number of samples processed, across all channels.
+    public long getNumberOfSamples() {
+        return _numberOfFrames * _pcmFormat.getNumberOfChannels();
+    }
+
+    public long getElapsedNanoseconds() {
+        return _elapsedNanoseconds;
+    }
+
+    // Return the throughput in samples per second, across all channels.
+    public double getSamplesPerSecond() {
+        return ( _elapsedNanoseconds > 0L )
+            ? ( getNumberOfSamples() * 1.0E9d ) / _elapsedNanoseconds
+            : 0.0d;
+    }
+
+    // Return the throughput as a multiple of real time, which is how fast the
+    // file was processed compared to how long it takes to play.
+    public double getRealTimeFactor() {
+        return getSamplesPerSecond()
+                / ( ( double ) _pcmFormat.getSamplingFrequencyHz() * _pcmFormat.getNumberOfChannels() );
+    }
+
+    @Override
+    public String toString() {
+        return getNumberOfSamples() + " samples of " + _pcmFormat + " in " //$NON-NLS-1$ //$NON-NLS-2$
+                + ( _elapsedNanoseconds / 1000000L ) + " ms (" //$NON-NLS-1$
+                + ( long ) getSamplesPerSecond() + " samples/s, " //$NON-NLS-1$
+                + ( long ) getRealTimeFactor() + "x real time)"; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.io;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The parts of a RIFF WAVE file header that are needed to stream its samples:
+ * the format chunk, and the location of the data chunk.
+ * <p>
+ * Only the format and data chunks are interpreted; any other chunks are
+ * skipped when reading, and are not carried over when writing.
+ */
+final class WavHeader {
+
+    // RIFF format tags for the sample encodings we support.
+    private static final int    WAVE_FORMAT_PCM        = 0x0001;
+    private static final int    WAVE_FORMAT_IEEE_FLOAT = 0x0003;
+    private static final int    WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+
+    // The size of a chunk header, and the minimum size of a format chunk.
+    private static final int    CHUNK_HEADER_SIZE      = 8;
+    private static final int    FORMAT_CHUNK_MINIMUM   = 16;
+
+    // The offset of the sub-format tag within an extensible format chunk.
+    private static final int    SUB_FORMAT_OFFSET      = 24;
+
+    private static final String RIFF_ID                = "RIFF"; //$NON-NLS-1$
+    private static final String WAVE_ID                = "WAVE"; //$NON-NLS-1$
+    private static final String FORMAT_CHUNK_ID        = "fmt "; //$NON-NLS-1$
+    private static final String DATA_CHUNK_ID          = "data"; //$NON-NLS-1$
+
+    private final PcmFormat     _pcmFormat;
+
+    // The raw format chunk body, which is written back out verbatim.
+    private final byte[]        _formatChunk;
+
+    // The byte offset and length of the sample data, in the file.
+    private final long          _dataOffset;
+    private final long          _dataLength;
+
+    private WavHeader( final PcmFormat pcmFormat,
+                       final byte[] formatChunk,
+                       final long dataOffset,
+                       final long dataLength ) {
+        _pcmFormat = pcmFormat;
+        _formatChunk = formatChunk;
+        _dataOffset = dataOffset;
+        _dataLength = dataLength;
+    }
+
+    public PcmFormat getPcmFormat() {
+        return _pcmFormat;
+    }
+
+    public long getDataOffset() {
+        return _dataOffset;
+    }
+
+    public long getDataLength() {
+        return _dataLength;
+    }
+
+    // Read the header of a WAV file, leaving the channel position undefined.
+    // The data length is clipped to the end of the file, in case the file was
+    // truncated or the writer never went back to fill the length in.
+    static WavHeader read( final FileChannel fileChannel ) throws IOException {
+        final long fileSize = fileChannel.size();
+
+        final ByteBuffer riffHeader = readFully( fileChannel, 0L, 12 );
+        if ( !RIFF_ID.equals( getId( riffHeader, 0 ) )
+                || !WAVE_ID.equals( getId( riffHeader, 8 ) ) ) {
+            throw new IOException( "Not a RIFF WAVE file" ); //$NON-NLS-1$
+        }
+
+        byte[] formatChunk = null;
+        long chunkOffset = 12L;
+        while ( ( chunkOffset + CHUNK_HEADER_SIZE ) <= fileSize ) {
+            final ByteBuffer chunkHeader = readFully( fileChannel, chunkOffset, CHUNK_HEADER_SIZE );
+            final String chunkId = getId( chunkHeader, 0 );
+            final long chunkSize = chunkHeader.getInt( 4 ) & 0xFFFFFFFFL;
+            final long chunkDataOffset = chunkOffset + CHUNK_HEADER_SIZE;
+
+            if ( FORMAT_CHUNK_ID.equals( chunkId ) ) {
+                if ( ( chunkSize < FORMAT_CHUNK_MINIMUM ) || ( chunkSize > 0xFFFFL ) ) {
+                    throw new IOException( "Malformed WAV format chunk" ); //$NON-NLS-1$
+                }
+                formatChunk = new byte[ ( int ) chunkSize ];
+                readFully( fileChannel, chunkDataOffset, formatChunk.length ).get( formatChunk );
+            }
+            else if ( DATA_CHUNK_ID.equals( chunkId ) ) {
+                if ( formatChunk == null ) {
+                    throw new IOException( "WAV data chunk precedes format chunk" ); //$NON-NLS-1$
+                }
+
+                final long dataLength = FastMath.min( chunkSize, fileSize - chunkDataOffset );
+                return new WavHeader( parseFormatChunk( formatChunk ),
+                                      formatChunk,
+                                      chunkDataOffset,
+                                      dataLength );
+            }
+
+            // Chunks are padded to an even number of bytes.
+            chunkOffset = chunkDataOffset + chunkSize + ( chunkSize & 1L );
+        }
+
+        throw new IOException( "WAV file has no data chunk" ); //$NON-NLS-1$
+    }
+
+    // Write a canonical header, with the format chunk copied from the source
+    // file, for the given length of sample data that is to follow it.
+    void write( final FileChannel fileChannel, final long dataLength ) throws IOException {
+        final int headerSize = 12 + CHUNK_HEADER_SIZE + _formatChunk.length
+                + ( _formatChunk.length & 1 ) + CHUNK_HEADER_SIZE;
+        final long riffSize = ( headerSize - 8 ) + dataLength + ( dataLength & 1L );
+        if ( riffSize > 0xFFFFFFFFL ) {
+            throw new IOException( "WAV file would exceed 4 GB" ); //$NON-NLS-1$
+        }
+
+        final ByteBuffer header = ByteBuffer.allocate( headerSize ).order( ByteOrder.LITTLE_ENDIAN );
+        header.put( RIFF_ID.getBytes( StandardCharsets.US_ASCII ) );
+        header.putInt( ( int ) riffSize );
+        header.put( WAVE_ID.getBytes( StandardCharsets.US_ASCII ) );
+        header.put( FORMAT_CHUNK_ID.getBytes( StandardCharsets.US_ASCII ) );
+        header.putInt( _formatChunk.length );
+        header.put( _formatChunk );
+        if ( ( _formatChunk.length & 1 ) != 0 ) {
+            header.put( ( byte ) 0 );
+        }
+        header.put( DATA_CHUNK_ID.getBytes( StandardCharsets.US_ASCII ) );
+        header.putInt( ( int ) dataLength );
+
+        // NOTE: The Buffer casts keep JDK 9+ builds from linking to the
+        //  covariant ByteBuffer overrides, which don't exist on Java 8.
+        ( ( Buffer ) header ).flip();
+
+        while ( header.hasRemaining() ) {
+            fileChannel.write( header );
+        }
+    }
+
+    // Write the pad byte that keeps the data chunk an even number of bytes.
+    static void writePadding( final FileChannel fileChannel, final long dataLength )
+            throws IOException {
+        if ( ( dataLength & 1L ) != 0L ) {
+            final ByteBuffer padding = ByteBuffer.allocate( 1 );
+            while ( padding.hasRemaining() ) {
+                fileChannel.write( padding );
+            }
+        }
+    }
+
+    private static PcmFormat parseFormatChunk( final byte[] formatChunk ) throws IOException {
+        final ByteBuffer format = ByteBuffer.wrap( formatChunk ).order( ByteOrder.LITTLE_ENDIAN );
+
+        int formatTag = format.getShort( 0 ) & 0xFFFF;
+        final int numberOfChannels = format.getShort( 2 ) & 0xFFFF;
+        final int samplingFrequencyHz = format.getInt( 4 );
+        final int bitsPerSample = format.getShort( 14 ) & 0xFFFF;
+
+        // The extensible format carries the real format tag at the start of
+        // its sub-format GUID.
+        if ( formatTag == WAVE_FORMAT_EXTENSIBLE ) {
+            if ( formatChunk.length < ( SUB_FORMAT_OFFSET + 2 ) ) {
+                throw new IOException( "Malformed extensible WAV format chunk" ); //$NON-NLS-1$
+            }
+            formatTag = format.getShort( SUB_FORMAT_OFFSET ) & 0xFFFF;
+        }
+
+        if ( ( formatTag != WAVE_FORMAT_PCM ) && ( formatTag != WAVE_FORMAT_IEEE_FLOAT ) ) {
+            throw new IOException( "Unsupported WAV format tag: " + formatTag ); //$NON-NLS-1$
+        }
+
+        try {
+            return new PcmFormat( numberOfChannels,
+                                  samplingFrequencyHz,
+                                  bitsPerSample,
+                                  formatTag == WAVE_FORMAT_IEEE_FLOAT );
+        }
+        catch ( final IllegalArgumentException iae ) {
+            throw new IOException( "Unsupported WAV format: " + iae.getMessage(), iae ); //$NON-NLS-1$
+        }
+    }
+
+    private static ByteBuffer readFully( final FileChannel fileChannel,
+                                         final long position,
+                                         final int length ) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate( length ).order( ByteOrder.LITTLE_ENDIAN );
+        while ( buffer.hasRemaining() ) {
+            if ( fileChannel.read( buffer, position + buffer.position() ) < 0 ) {
+                throw new IOException( "Unexpected end of WAV file" ); //$NON-NLS-1$
+            }
+        }
+        ( ( Buffer ) buffer ).flip();
+        return buffer;
+    }
+
+    private static String getId( final ByteBuffer buffer, final int offset ) {
+        final byte[] id = new byte[ 4 ];
+        for ( int i = 0; i < id.length; i++ ) {
+            id[ i ] = buffer.get( offset + i );
+        }
+        return new String( id, StandardCharsets.US_ASCII );
+    }
+}
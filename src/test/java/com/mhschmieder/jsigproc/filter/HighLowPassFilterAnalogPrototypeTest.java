@@ -0,0 +1,127 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.filter;
+
+import com.mhschmieder.jsigproc.dsp.AnalogPrototypeDesigner;
+import com.mhschmieder.jsigproc.dsp.AnalogPrototypeFamily;
+import com.mhschmieder.jsigproc.dsp.BiquadCoefficients;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+// Checks that the High and Low Pass Filters can be designed from any analog
+// prototype family and order, and not just those that have a filter type.
+public final class HighLowPassFilterAnalogPrototypeTest {
+
+    private static final double SAMPLING_FREQUENCY_HZ = 48000.0d;
+
+    private static final double CORNER_FREQUENCY_HZ   = 1000.0d;
+
+    private static final double TOLERANCE             = 1.0e-12d;
+
+    @Test
+    public void designsFromTheOverridingPrototype() {
+        for ( final AnalogPrototypeFamily analogPrototypeFamily : AnalogPrototypeFamily
+                .values() ) {
+            for ( int order = 2; order <= 8; order += 2 ) {
+                final LowPassFilter lowPassFilter = makeLowPassFilter();
+                lowPassFilter.setAnalogPrototype( analogPrototypeFamily, order, true );
+
+                assertSameCoefficients( AnalogPrototypeDesigner
+                        .designLowPass( analogPrototypeFamily,
+                                        order,
+                                        CORNER_FREQUENCY_HZ,
+                                        SAMPLING_FREQUENCY_HZ ),
+                                        lowPassFilter.getBiquadCoefficients() );
+
+                final HighPassFilter highPassFilter = new HighPassFilter( false,
+                                                                          CORNER_FREQUENCY_HZ,
+                                                                          HighLowPassFilterType.BUTTERWORTH_2_HIGH_PASS );
+                highPassFilter.setSamplingFrequencyHz( SAMPLING_FREQUENCY_HZ );
+                highPassFilter.setAnalogPrototype( analogPrototypeFamily, order, true );
+
+                assertSameCoefficients( AnalogPrototypeDesigner
+                        .designHighPass( analogPrototypeFamily,
+                                         order,
+                                         CORNER_FREQUENCY_HZ,
+                                         SAMPLING_FREQUENCY_HZ ),
+                                        highPassFilter.getBiquadCoefficients() );
+            }
+        }
+    }
+
+    @Test
+    public void copiesAndResetsTheOverridingPrototype() {
+        final LowPassFilter lowPassFilter = makeLowPassFilter();
+        lowPassFilter.setAnalogPrototype( AnalogPrototypeFamily.BESSEL, 5, true );
+
+        final LowPassFilter copy = new LowPassFilter( lowPassFilter );
+        assertSame( AnalogPrototypeFamily.BESSEL, copy.getAnalogPrototypeFamily() );
+        assertEquals( 5, copy.getAnalogPrototypeOrder() );
+        assertEquals( 3, copy.getNumberOfActiveSections() );
+
+        copy.reset();
+        assertNull( copy.getAnalogPrototypeFamily() );
+        assertEquals( 0, copy.getAnalogPrototypeOrder() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void rejectsOrdersThatDoNotFitTheBiquadSets() {
+        makeLowPassFilter().setAnalogPrototype( AnalogPrototypeFamily.CHEBYSHEV, 9, true );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void rejectsOddLinkwitzRileyOrders() {
+        makeLowPassFilter().setAnalogPrototype( AnalogPrototypeFamily.LINKWITZ_RILEY, 3, true );
+    }
+
+    private static LowPassFilter makeLowPassFilter() {
+        final LowPassFilter lowPassFilter = new LowPassFilter( false,
+                                                               CORNER_FREQUENCY_HZ,
+                                                               HighLowPassFilterType.BUTTERWORTH_2_LOW_PASS );
+        lowPassFilter.setSamplingFrequencyHz( SAMPLING_FREQUENCY_HZ );
+        return lowPassFilter;
+    }
+
+    private static void assertSameCoefficients( final BiquadCoefficients expected,
+                                                final BiquadCoefficients actual ) {
+        assertEquals( expected.getNumberOfSections(), actual.getNumberOfSections() );
+        for ( int sectionIndex = 0; sectionIndex < expected.getNumberOfSections(); sectionIndex++ ) {
+            assertEquals( expected.getB0( sectionIndex ), actual.getB0( sectionIndex ), TOLERANCE );
+            assertEquals( expected.getB1( sectionIndex ), actual.getB1( sectionIndex ), TOLERANCE );
+            assertEquals( expected.getB2( sectionIndex ), actual.getB2( sectionIndex ), TOLERANCE );
+            assertEquals( expected.getA1( sectionIndex ), actual.getA1( sectionIndex ), TOLERANCE );
+            assertEquals( expected.getA2( sectionIndex ), actual.getA2( sectionIndex ), TOLERANCE );
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the JSigproc Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * JSigproc Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jsigproc
+ */
+package com.mhschmieder.jsigproc.filter;
+
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Checks the High and Low Pass Filters against the responses of the
+// hand-tabulated coefficient tables that the pole placement designer replaced,
+// for every filter type at several corner and sampling frequencies.
+//
+// The sixth order Butterworth types are the one intended deviation, as their
+// tabulated sections did not place the corner at -3 dB; those are checked for
+// a magnitude of 1/sqrt(2) at the corner frequency instead.
+public final class HighLowPassFilterRegressionTest {
+
+    // The classpath resource holding the reference responses.
+    private static final String                     REFERENCE_RESOURCE     =
+            "high-low-pass-reference.txt"; //$NON-NLS-1$
+
+    // The largest deviation from the reference, relative to the reference
+    // magnitude, or absolute where the reference is deep in the stop band.
+    private static final double                     TOLERANCE              = 1.0e-9d;
+
+    // The magnitude floor below which the deviation is taken as absolute.
+    private static final double                     MAGNITUDE_FLOOR        = 1.0e-6d;
+
+    // The filter types whose tabulated coefficients were knowingly corrected.
+    private static final Set< HighLowPassFilterType > CORRECTED_FILTER_TYPES =
+            EnumSet.of( HighLowPassFilterType.BUTTERWORTH_6_HIGH_PASS,
+                        HighLowPassFilterType.BUTTERWORTH_6_LOW_PASS );
+
+    // The magnitude that a Butterworth response has at its corner frequency.
+    private static final double                     CORNER_MAGNITUDE       =
+            1.0d / FastMath.sqrt( 2.0d );
+
+    @Test
+    public void matchesReferenceResponses() throws IOException {
+        final List< String > failures = new ArrayList<>();
+
+        for ( final ReferenceResponse referenceResponse : readReferenceResponses() ) {
+            final HighLowPassFilterType highLowPassFilterType =
+                    referenceResponse._highLowPassFilterType;
+            if ( CORRECTED_FILTER_TYPES.contains( highLowPassFilterType ) ) {
+                continue;
+            }
+
+            final Complex h = referenceResponse.getH();
+            final double deviation = h.subtract( referenceResponse._reference ).abs()
+                    / FastMath.max( referenceResponse._reference.abs(), MAGNITUDE_FLOOR );
+            if ( deviation > TOLERANCE ) {
+                failures.add( String.format( Locale.ROOT,
+                                             "%s fs=%.1f fc=%.1f f=%.6f: deviation %.3e", //$NON-NLS-1$
+                                             highLowPassFilterType.name(),
+                                             referenceResponse._samplingFrequencyHz,
+                                             referenceResponse._cornerFrequencyHz,
+                                             referenceResponse._frequencyHz,
+                                             deviation ) );
+            }
+        }
+
+        if ( !failures.isEmpty() ) {
+            fail( String.join( "\n", failures ) ); //$NON-NLS-1$
+        }
+    }
+
+    @Test
+    public void correctedTypesAreDownThreeDecibelsAtTheCorner() throws IOException {
+        boolean cornerChecked = false;
+
+        for ( final ReferenceResponse referenceResponse : readReferenceResponses() ) {
+            if ( !CORRECTED_FILTER_TYPES.contains( referenceResponse._highLowPassFilterType )
+                    || ( referenceResponse._frequencyHz != referenceResponse._cornerFrequencyHz ) ) {
+                continue;
+            }
+
+            cornerChecked = true;
+            assertEquals( referenceResponse._highLowPassFilterType.name(),
+                          CORNER_MAGNITUDE,
+                          referenceResponse.getH().abs(),
+                          TOLERANCE );
+        }
+
+        assertTrue( "No corner frequency references", cornerChecked ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void coversEveryFilterType() throws IOException {
+        final Set< HighLowPassFilterType > coveredFilterTypes =
+                EnumSet.noneOf( HighLowPassFilterType.class );
+        for ( final ReferenceResponse referenceResponse : readReferenceResponses() ) {
+            coveredFilterTypes.add( referenceResponse._highLowPassFilterType );
+        }
+
+        assertEquals( EnumSet.allOf( HighLowPassFilterType.class ), coveredFilterTypes );
+    }
+
+    private static List< ReferenceResponse > readReferenceResponses() throws IOException {
+        final InputStream inputStream = HighLowPassFilterRegressionTest.class
+                .getResourceAsStream( REFERENCE_RESOURCE );
+        if ( inputStream == null ) {
+            throw new IOException( "Missing resource " + REFERENCE_RESOURCE ); //$NON-NLS-1$
+        }
+
+        final List< ReferenceResponse > referenceResponses = new ArrayList<>();
+        try ( final BufferedReader reader = new BufferedReader(
+                new InputStreamReader( inputStream, StandardCharsets.US_ASCII ) ) ) {
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                if ( line.isEmpty() || line.startsWith( "#" ) ) { //$NON-NLS-1$
+                    continue;
+                }
+
+                final String[] fields = line.trim().split( "\\s+" ); //$NON-NLS-1$
+                referenceResponses.add( new ReferenceResponse(
+                        HighLowPassFilterType.valueOf( fields[ 0 ] ),
+                        Double.parseDouble( fields[ 1 ] ),
+                        Double.parseDouble( fields[ 2 ] ),
+                        Double.parseDouble( fields[ 3 ] ),
+                        new Complex( Double.parseDouble( fields[ 4 ] ),
+                                     Double.parseDouble( fields[ 5 ] ) ) ) );
+            }
+        }
+
+        return referenceResponses;
+    }
+
+    // One line of the reference table: the filter settings, the evaluation
+    // frequency, and the response of the old tabulated coefficients there.
+    private static final class ReferenceResponse {
+
+        private final HighLowPassFilterType _highLowPassFilterType;
+        private final double                _samplingFrequencyHz;
+        private final double                _cornerFrequencyHz;
+        private final double                _frequencyHz;
+        private final Complex               _reference;
+
+        ReferenceResponse( final HighLowPassFilterType highLowPassFilterType,
+                           final double samplingFrequencyHz,
+                           final double cornerFrequencyHz,
+                           final double frequencyHz,
+                           final Complex reference ) {
+            _highLowPassFilterType = highLowPassFilterType;
+            _samplingFrequencyHz = samplingFrequencyHz;
+            _cornerFrequencyHz = cornerFrequencyHz;
+            _frequencyHz = frequencyHz;
+            _reference = reference;
+        }
+
+        // Evaluate a freshly made filter with these settings.
+        Complex getH() {
+            final HighLowPassFilter highLowPassFilter = _highLowPassFilterType.name()
+                    .contains( "HIGH_PASS" ) //$NON-NLS-1$
+                ? new HighPassFilter( false, _cornerFrequencyHz, _highLowPassFilterType )
+                : new LowPassFilter( false, _cornerFrequencyHz, _highLowPassFilterType );
+            highLowPassFilter.setSamplingFrequencyHz( _samplingFrequencyHz );
+            return highLowPassFilter.getH( _frequencyHz );
+        }
+    }
+}